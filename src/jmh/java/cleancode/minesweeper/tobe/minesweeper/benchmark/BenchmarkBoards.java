@@ -0,0 +1,87 @@
+package cleancode.minesweeper.tobe.minesweeper.benchmark;
+
+import java.util.SplittableRandom;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.LandMinePlacer;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopology;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopologyType;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+/**
+ * 벤치마크가 공통으로 쓰는 보드 준비 도구
+ */
+public final class BenchmarkBoards {
+
+    public static final long SEED = 20240101L;
+
+    // 지뢰는 첫 오픈 셀과 그 이웃을 피해 놓이므로, 벤치마크는 이 셀을 첫 수로 정해 두고 미리 배치한다
+    private static final int FIRST_CLICK_INDEX = 0;
+
+    private BenchmarkBoards() {
+    }
+
+    /**
+     * 시드로 초기화하고 첫 오픈 셀을 기준으로 지뢰까지 놓는다. (셀은 열지 않는다)
+     */
+    public static void initializeGame(GameBoard gameBoard) {
+        gameBoard.initializeGame(SEED);
+        gameBoard.placeLandMines(gameBoard.rowIndexOf(FIRST_CLICK_INDEX), gameBoard.colIndexOf(FIRST_CLICK_INDEX));
+    }
+
+    /**
+     * initializeGame(gameBoard) 와 같은 지뢰 배치를 따로 계산한다.
+     * 보드는 지뢰 위치를 공개하지 않으므로, 같은 시드와 같은 첫 오픈 셀로 배치기를 한 번 더 돌린다.
+     */
+    public static BitPlane landMinesOf(GameLevel gameLevel, long seed) {
+        BitPlane landMines = BitPlane.ofSize(gameLevel.getRowSize() * gameLevel.getColSize());
+        BoardTopology topology = BoardTopologyType.SQUARE.create(gameLevel.getRowSize(), gameLevel.getColSize());
+        new LandMinePlacer().placeAvoiding(landMines, gameLevel.getLandMineCount(), topology, FIRST_CLICK_INDEX,
+            new SplittableRandom(seed));
+        return landMines;
+    }
+
+    public static int[] indicesOf(BitPlane landMines) {
+        int[] indices = new int[landMines.cardinality()];
+        int count = 0;
+        for (int index = 0; index < landMines.size(); index++) {
+            if (landMines.get(index)) {
+                indices[count++] = index;
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * 지뢰가 아닌 셀을 모두 연다.
+     */
+    public static void openAllSafeCells(GameBoard gameBoard, BitPlane landMines) {
+        for (int index = 0; index < landMines.size(); index++) {
+            if (!landMines.get(index)) {
+                gameBoard.openAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+            }
+        }
+    }
+
+    /**
+     * 지뢰가 아닌 첫 셀에서 연쇄 열기를 하고 지뢰 몇 개에 깃발을 꽂아, 여러 문양이 섞인 보드를 만든다.
+     */
+    public static GameBoard partiallyPlayedBoard(GameLevel gameLevel) {
+        GameBoard gameBoard = new GameBoard(gameLevel);
+        initializeGame(gameBoard);
+
+        BitPlane landMines = landMinesOf(gameLevel, SEED);
+        int[] landMineIndices = indicesOf(landMines);
+        for (int index = 0; index < landMines.size(); index++) {
+            if (!landMines.get(index)) {
+                gameBoard.openAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+                break;
+            }
+        }
+        for (int i = 0; i < landMineIndices.length; i += 2) {
+            gameBoard.flagAt(gameBoard.rowIndexOf(landMineIndices[i]), gameBoard.colIndexOf(landMineIndices[i]));
+        }
+        return gameBoard;
+    }
+}
@@ -0,0 +1,51 @@
+package cleancode.minesweeper.tobe.minesweeper.benchmark;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.VeryBeginner;
+
+/**
+ * 벤치마크 @Param 으로 쓰는 난이도 목록 (기본 난이도 + 큰 보드)
+ */
+public enum BenchmarkLevel {
+
+    VERY_BEGINNER(new VeryBeginner()),
+    BEGINNER(new Beginner()),
+    MIDDLE(new Middle()),
+    ADVANCED(new Advanced()),
+    HUGE(new Huge()),
+    ;
+
+    private final GameLevel gameLevel;
+
+    BenchmarkLevel(GameLevel gameLevel) {
+        this.gameLevel = gameLevel;
+    }
+
+    public GameLevel getGameLevel() {
+        return gameLevel;
+    }
+
+    /**
+     * 1000 x 1000, 지뢰 15%
+     */
+    private static class Huge implements GameLevel {
+
+        @Override
+        public int getRowSize() {
+            return 1_000;
+        }
+
+        @Override
+        public int getColSize() {
+            return 1_000;
+        }
+
+        @Override
+        public int getLandMineCount() {
+            return 150_000;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package cleancode.minesweeper.tobe.minesweeper.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignFinder;
+import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignProvider;
+
+/**
+ * 보드 한 화면 분량의 스냅샷에 대해 문양을 찾는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CellSignBenchmark {
+
+    @Param({"VERY_BEGINNER", "BEGINNER", "MIDDLE", "ADVANCED", "HUGE"})
+    public BenchmarkLevel level;
+
+    private CellSnapshot[] snapshots;
+    private CellSignFinder cellSignFinder;
+
+    @Setup
+    public void setUp() {
+        GameBoard gameBoard = BenchmarkBoards.partiallyPlayedBoard(level.getGameLevel());
+        snapshots = new CellSnapshot[gameBoard.getCellCount()];
+        for (int index = 0; index < snapshots.length; index++) {
+            snapshots[index] = gameBoard.getSnapshot(index);
+        }
+        cellSignFinder = new CellSignFinder();
+    }
+
+    @Benchmark
+    public void findCellSignFrom(Blackhole blackhole) {
+        for (CellSnapshot snapshot : snapshots) {
+            blackhole.consume(CellSignProvider.findCellSignFrom(snapshot));
+        }
+    }
+
+    @Benchmark
+    public void findCellSign(Blackhole blackhole) {
+        for (CellSnapshot snapshot : snapshots) {
+            blackhole.consume(cellSignFinder.findCellSign(snapshot));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package cleancode.minesweeper.tobe.minesweeper.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+
+/**
+ * 안전한 셀이 모두 열린 보드에서 모든 지뢰에 깃발을 꽂는다.
+ * 매 flagAt 마다 승리 조건을 확인하고, 마지막 깃발에서 승리로 바뀐다.
+ * 호출마다 보드를 준비하면 준비 비용과 타이머 오차가 측정을 덮으므로, 반복마다 보드 묶음을 미리 준비해 두고
+ * 호출마다 한 판씩 쓴다. (배치 크기가 묶음 크기와 같아서 한 번의 측정이 묶음을 정확히 다 쓴다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, batchSize = FlagAtBenchmark.BOARD_POOL_SIZE)
+@Measurement(iterations = 5, batchSize = FlagAtBenchmark.BOARD_POOL_SIZE)
+@Fork(1)
+public class FlagAtBenchmark {
+
+    static final int BOARD_POOL_SIZE = 8;
+
+    @Param({"VERY_BEGINNER", "BEGINNER", "MIDDLE", "ADVANCED", "HUGE"})
+    public BenchmarkLevel level;
+
+    private final GameBoard[] gameBoards = new GameBoard[BOARD_POOL_SIZE];
+    private int nextBoardIndex;
+    private BitPlane landMines;
+    private int[] landMineIndices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < BOARD_POOL_SIZE; i++) {
+            gameBoards[i] = new GameBoard(level.getGameLevel());
+        }
+        landMines = BenchmarkBoards.landMinesOf(level.getGameLevel(), BenchmarkBoards.SEED);
+        landMineIndices = BenchmarkBoards.indicesOf(landMines);
+    }
+
+    @Setup(Level.Iteration)
+    public void openAllSafeCells() {
+        for (GameBoard gameBoard : gameBoards) {
+            BenchmarkBoards.initializeGame(gameBoard);
+            BenchmarkBoards.openAllSafeCells(gameBoard, landMines);
+        }
+        nextBoardIndex = 0;
+    }
+
+    @Benchmark
+    public boolean flagAllLandMines() {
+        GameBoard gameBoard = gameBoards[nextBoardIndex++];
+        for (int index : landMineIndices) {
+            gameBoard.flagAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+        }
+        return gameBoard.isWinStatus();
+    }
+}
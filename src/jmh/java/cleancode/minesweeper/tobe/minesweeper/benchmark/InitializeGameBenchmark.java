@@ -0,0 +1,53 @@
+package cleancode.minesweeper.tobe.minesweeper.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+
+/**
+ * 보드 초기화. 첫 화면 전에 하는 일(평면 비우기)과, 첫 오픈 때 미뤄 둔 지뢰 배치까지 포함한 비용을 나눠 잰다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InitializeGameBenchmark {
+
+    @Param({"VERY_BEGINNER", "BEGINNER", "MIDDLE", "ADVANCED", "HUGE"})
+    public BenchmarkLevel level;
+
+    private GameBoard gameBoard;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        gameBoard = new GameBoard(level.getGameLevel());
+    }
+
+    @Benchmark
+    public GameBoard initializeGame() {
+        gameBoard.initializeGame(seed++);
+        return gameBoard;
+    }
+
+    @Benchmark
+    public GameBoard initializeGameAndPlaceLandMines() {
+        gameBoard.initializeGame(seed++);
+        gameBoard.placeLandMines(0, 0);
+        return gameBoard;
+    }
+}
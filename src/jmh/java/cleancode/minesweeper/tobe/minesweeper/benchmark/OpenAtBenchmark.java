@@ -0,0 +1,108 @@
+package cleancode.minesweeper.tobe.minesweeper.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.change.ChangeSet;
+
+/**
+ * 한 번의 openAt. 숫자 셀 하나만 여는 경우와, 표본 중 가장 넓게 연쇄 열기가 일어나는 경우를 비교한다.
+ * 반복마다 같은 시드로 초기화한 보드 묶음을 준비해 두고 호출마다 한 판씩 쓴다. (준비 시간은 측정에서 빠진다)
+ * 배치 크기가 묶음 크기와 같아서 한 번의 측정이 묶음을 정확히 다 쓴다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, batchSize = OpenAtBenchmark.BOARD_POOL_SIZE)
+@Measurement(iterations = 5, batchSize = OpenAtBenchmark.BOARD_POOL_SIZE)
+@Fork(1)
+public class OpenAtBenchmark {
+
+    static final int BOARD_POOL_SIZE = 32;
+    private static final int CANDIDATE_COUNT = 64;
+
+    public enum Region {
+        SINGLE_CELL,
+        LARGEST_REGION,
+    }
+
+    @Param({"VERY_BEGINNER", "BEGINNER", "MIDDLE", "ADVANCED", "HUGE"})
+    public BenchmarkLevel level;
+
+    @Param({"SINGLE_CELL", "LARGEST_REGION"})
+    public Region region;
+
+    private final GameBoard[] gameBoards = new GameBoard[BOARD_POOL_SIZE];
+    private int nextBoardIndex;
+    private int rowIndex;
+    private int colIndex;
+
+    @Setup(Level.Trial)
+    public void chooseTarget() {
+        for (int i = 0; i < BOARD_POOL_SIZE; i++) {
+            gameBoards[i] = new GameBoard(level.getGameLevel());
+        }
+        GameBoard gameBoard = gameBoards[0];
+        BitPlane landMines = BenchmarkBoards.landMinesOf(level.getGameLevel(), BenchmarkBoards.SEED);
+
+        // 지뢰가 아닌 표본 셀을 실제로 열어 보고 열린 셀 수로 대상을 고른다
+        SplittableRandom random = new SplittableRandom(BenchmarkBoards.SEED);
+        int chosenIndex = -1;
+        int chosenRegionSize = 0;
+        for (int i = 0; i < CANDIDATE_COUNT; i++) {
+            int index = random.nextInt(landMines.size());
+            if (landMines.get(index)) {
+                continue;
+            }
+
+            BenchmarkBoards.initializeGame(gameBoard);
+            int regionSize = gameBoard.openAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index))
+                .getChangedCellCount();
+            if (chosenIndex < 0 || isBetter(regionSize, chosenRegionSize)) {
+                chosenIndex = index;
+                chosenRegionSize = regionSize;
+            }
+        }
+        if (chosenIndex < 0) {
+            throw new IllegalStateException("열 수 있는 표본 셀이 없습니다.");
+        }
+
+        rowIndex = gameBoard.rowIndexOf(chosenIndex);
+        colIndex = gameBoard.colIndexOf(chosenIndex);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBoards() {
+        for (GameBoard gameBoard : gameBoards) {
+            BenchmarkBoards.initializeGame(gameBoard);
+        }
+        nextBoardIndex = 0;
+    }
+
+    @Benchmark
+    public ChangeSet openAt() {
+        return gameBoards[nextBoardIndex++].openAt(rowIndex, colIndex);
+    }
+
+    private boolean isBetter(int regionSize, int chosenRegionSize) {
+        if (region == Region.SINGLE_CELL) {
+            return regionSize < chosenRegionSize;
+        }
+        return regionSize > chosenRegionSize;
+    }
+}
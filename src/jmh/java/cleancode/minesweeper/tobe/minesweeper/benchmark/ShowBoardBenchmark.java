@@ -0,0 +1,52 @@
+package cleancode.minesweeper.tobe.minesweeper.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.io.ConsoleOutputHandler;
+
+/**
+ * 보드 전체를 버리는 스트림으로 그린다. (출력 장치가 아니라 화면 만드는 비용만 잰다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ShowBoardBenchmark {
+
+    @Param({"VERY_BEGINNER", "BEGINNER", "MIDDLE", "ADVANCED", "HUGE"})
+    public BenchmarkLevel level;
+
+    private GameBoard gameBoard;
+    private ConsoleOutputHandler outputHandler;
+
+    @Setup
+    public void setUp() {
+        gameBoard = BenchmarkBoards.partiallyPlayedBoard(level.getGameLevel());
+        outputHandler = new ConsoleOutputHandler(
+            new PrintStream(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8)
+        );
+    }
+
+    @Benchmark
+    public void showBoard() {
+        outputHandler.showBoard(gameBoard);
+    }
+}
@@ -0,0 +1,54 @@
+package cleancode.minesweeper.tobe;
+
+import java.util.SplittableRandom;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopologyType;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevels;
+import cleancode.minesweeper.tobe.minesweeper.solver.AutoPlayer;
+import cleancode.minesweeper.tobe.minesweeper.solver.MineProbabilityCalculator;
+import cleancode.minesweeper.tobe.minesweeper.solver.SafestGuessAutoPlayer;
+
+/**
+ * 힌트 풀이기로 게임을 자동으로 여러 판 두고 승률과 시간을 출력한다. (인자: 난이도, 판 수, 시드, 추측 방식 random|safest, 보드 모양 square|torus|hex)
+ */
+public class AutoPlayApplication {
+
+    public static void main(String[] args) {
+        GameLevel gameLevel = GameLevels.findBy(args.length > 0 ? args[0] : "middle");
+        int gameCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        String guessStrategy = args.length > 3 ? args[3] : "random";
+        BoardTopologyType topologyType = BoardTopologyType.findBy(args.length > 4 ? args[4] : "square");
+
+        SplittableRandom random = new SplittableRandom(seed);
+        AutoPlayer autoPlayer = "safest".equals(guessStrategy)
+            ? new SafestGuessAutoPlayer(random, new MineProbabilityCalculator())
+            : new AutoPlayer(random);
+
+        long winCount = 0;
+        long guessCount = 0;
+        long startedAt = System.nanoTime();
+        for (int game = 0; game < gameCount; game++) {
+            GameBoard gameBoard = new GameBoard(gameLevel, topologyType);
+            gameBoard.initializeGame(random.nextLong());
+
+            AutoPlayer.Result result = autoPlayer.play(gameBoard);
+            if (result.isWon()) {
+                winCount++;
+            }
+            guessCount += result.getGuessCount();
+        }
+        double elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000.0;
+
+        System.out.printf("[%s] %d판 중 %d판 승리 (%.1f%%), 판당 추측 %.2f회, 판당 %.3fms%n",
+            topologyType.getDescription(),
+            gameCount,
+            winCount,
+            100.0 * winCount / gameCount,
+            (double) guessCount / gameCount,
+            elapsedMillis / gameCount);
+    }
+}
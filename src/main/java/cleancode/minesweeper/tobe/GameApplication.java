@@ -1,18 +1,33 @@
 package cleancode.minesweeper.tobe;
 
+import java.util.Arrays;
+
 import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
 import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
 import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
 import cleancode.minesweeper.tobe.minesweeper.io.ConsoleInputHandler;
 import cleancode.minesweeper.tobe.minesweeper.io.ConsoleOutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.Viewport;
 
 public class GameApplication {
 
+    // 터미널 한 화면에 보여 줄 행/열 수
+    private static final int VIEWPORT_ROW_COUNT = 20;
+    private static final int VIEWPORT_COL_COUNT = 30;
+
     public static void main(String[] args) {
+        // 입력(화면 이동)과 출력(창만 그리기)이 같은 화면 창을 공유한다
+        Viewport viewport = new Viewport(VIEWPORT_ROW_COUNT, VIEWPORT_COL_COUNT);
+
+        // --no-guess: 추측 없이 풀 수 있는 판으로 시작
+        boolean noGuessEnabled = Arrays.asList(args).contains("--no-guess");
+
         GameConfig gameConfig = new GameConfig(
             new Advanced(),
-            new ConsoleInputHandler(),
-            new ConsoleOutputHandler()
+            new ConsoleInputHandler(ConsoleInputHandler.SCANNER, viewport),
+            new ConsoleOutputHandler(System.out, viewport),
+            null,
+            noGuessEnabled
         );
 
         Minesweeper minesweeper = new Minesweeper(gameConfig);
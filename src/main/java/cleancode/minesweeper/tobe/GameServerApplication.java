@@ -0,0 +1,50 @@
+package cleancode.minesweeper.tobe;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.server.GameServer;
+import cleancode.minesweeper.tobe.minesweeper.server.SessionRegistry;
+
+/**
+ * 지뢰찾기 서버를 띄운다. (인자: [포트] [--co-op])
+ * --co-op 이면 접속한 모든 플레이어가 한 보드를 함께 푼다.
+ */
+public class GameServerApplication {
+
+    private static final int DEFAULT_PORT = 7777;
+    private static final String CO_OP_OPTION = "--co-op";
+
+    public static void main(String[] args) {
+        boolean coOpEnabled = Arrays.asList(args).contains(CO_OP_OPTION);
+        int port = Arrays.stream(args)
+            .filter(arg -> !CO_OP_OPTION.equals(arg))
+            .findFirst()
+            .map(Integer::parseInt)
+            .orElse(DEFAULT_PORT);
+
+        // Java 21 이상에서는 Executors.newVirtualThreadPerTaskExecutor() 로 바꿔 세션마다 가상 스레드를 쓸 수 있다
+        GameServer gameServer = new GameServer(
+            port,
+            new Beginner(),
+            Duration.ofMinutes(5),
+            Executors.newCachedThreadPool(),
+            coOpEnabled
+        );
+        gameServer.start();
+        System.out.println("지뢰찾기 서버 시작 (port: " + gameServer.getLocalPort() + (coOpEnabled ? ", 협동 모드" : "") + ")");
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            SessionRegistry sessionRegistry = gameServer.getSessionRegistry();
+            System.out.printf("세션 %d개 (%.1f 세션/초), 수 %d개, 평균 지연 %.1fus, 최대 지연 %.1fus%n",
+                sessionRegistry.getStartedSessionCount(),
+                sessionRegistry.getSessionsPerSecond(),
+                sessionRegistry.getMoveCount(),
+                sessionRegistry.getAverageMoveLatencyMicros(),
+                sessionRegistry.getMaxMoveLatencyMicros());
+            gameServer.stop();
+        }));
+    }
+}
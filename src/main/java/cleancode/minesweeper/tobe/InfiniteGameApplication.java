@@ -0,0 +1,38 @@
+package cleancode.minesweeper.tobe;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import cleancode.minesweeper.tobe.minesweeper.InfiniteMinesweeper;
+import cleancode.minesweeper.tobe.minesweeper.io.ConsoleInputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.ConsoleOutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.InfiniteViewport;
+
+/**
+ * 끝이 없는 보드에서 지뢰찾기를 한다. (인자: [시드] [조각(64 x 64)당 지뢰 수])
+ * 같은 시드면 같은 세계가 만들어진다.
+ */
+public class InfiniteGameApplication {
+
+    // 터미널 한 화면에 보여 줄 행/열 수 (열은 a~z 로 고른다)
+    private static final int VIEWPORT_ROW_COUNT = 20;
+    private static final int VIEWPORT_COL_COUNT = 26;
+
+    // 64 x 64 조각에 약 15% (중급 난이도와 비슷한 밀도)
+    private static final int DEFAULT_LAND_MINE_COUNT_PER_CHUNK = 600;
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : ThreadLocalRandom.current().nextLong();
+        int landMineCountPerChunk = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_LAND_MINE_COUNT_PER_CHUNK;
+
+        InfiniteMinesweeper minesweeper = new InfiniteMinesweeper(
+            seed,
+            landMineCountPerChunk,
+            new ConsoleInputHandler(ConsoleInputHandler.SCANNER),
+            new ConsoleOutputHandler(System.out),
+            new InfiniteViewport(VIEWPORT_ROW_COUNT, VIEWPORT_COL_COUNT)
+        );
+        System.out.println("시드: " + seed);
+        minesweeper.initialize();
+        minesweeper.run();
+    }
+}
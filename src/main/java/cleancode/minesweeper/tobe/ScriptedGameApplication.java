@@ -0,0 +1,77 @@
+package cleancode.minesweeper.tobe;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
+import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevels;
+import cleancode.minesweeper.tobe.minesweeper.script.HeadlessOutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.script.ScriptedInputHandler;
+
+/**
+ * 명령 파일의 수를 화면 없이 연달아 둔다. (인자: 명령 파일 또는 "-"(표준 입력), 난이도)
+ * 한 게임이 끝나면 남은 수로 다음 게임을 이어서 진행하고, 마지막에 결과와 처리 시간을 출력한다.
+ */
+public class ScriptedGameApplication {
+
+    private static final String STANDARD_INPUT = "-";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("사용법: ScriptedGameApplication <명령 파일|-> [very-beginner|beginner|middle|advanced]");
+            return;
+        }
+        GameLevel gameLevel = GameLevels.findBy(args.length > 1 ? args[1] : "beginner");
+
+        try (BufferedReader reader = openScript(args[0])) {
+            ScriptedInputHandler inputHandler = new ScriptedInputHandler(reader);
+            HeadlessOutputHandler outputHandler = new HeadlessOutputHandler();
+            GameConfig gameConfig = new GameConfig(gameLevel, inputHandler, outputHandler);
+
+            long gameCount = 0;
+            long startedAt = System.nanoTime();
+            while (!inputHandler.isClosed()) {
+                Minesweeper minesweeper = new Minesweeper(gameConfig);
+                minesweeper.initialize();
+                minesweeper.run();
+                gameCount++;
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            printSummary(gameCount, inputHandler, outputHandler, elapsedNanos);
+        }
+    }
+
+    private static BufferedReader openScript(String source) throws IOException {
+        if (STANDARD_INPUT.equals(source)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Path.of(source), StandardCharsets.UTF_8);
+    }
+
+    private static void printSummary(long gameCount, ScriptedInputHandler inputHandler,
+        HeadlessOutputHandler outputHandler, long elapsedNanos) {
+        long moveCount = inputHandler.getMoveCount();
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+
+        System.out.printf("게임 %d판 (승리 %d, 패배 %d, 진행 중 종료 %d)%n",
+            gameCount,
+            outputHandler.getWinCount(),
+            outputHandler.getLoseCount(),
+            gameCount - outputHandler.getWinCount() - outputHandler.getLoseCount());
+        System.out.printf("수 %d개 (거부 %d개), %.3f초, 초당 %.0f수%n",
+            moveCount,
+            outputHandler.getRejectedMoveCount(),
+            elapsedSeconds,
+            elapsedSeconds == 0 ? 0 : moveCount / elapsedSeconds);
+        if (outputHandler.getLastBoard() != null) {
+            System.out.println("마지막 게임 남은 지뢰: " + outputHandler.getLastBoard().getRemainingLandMineCount());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package cleancode.minesweeper.tobe.minesweeper;
+
+import cleancode.minesweeper.tobe.game.GameInitializable;
+import cleancode.minesweeper.tobe.game.GameRunnable;
+import cleancode.minesweeper.tobe.minesweeper.board.infinite.InfiniteGameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.InfiniteViewport;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.PanDirection;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+/**
+ * 끝이 없는 보드에서 하는 지뢰찾기
+ * 좌표는 화면 창 안의 상대 좌표로 받고, 화면 이동 명령으로 창을 옮기며 탐험한다.
+ * 이길 수는 없고 지뢰를 밟거나 입력이 끝날 때까지 계속된다.
+ */
+public class InfiniteMinesweeper implements GameInitializable, GameRunnable {
+
+	private final long seed;
+	private final int landMineCountPerChunk;
+	private final InputHandler inputHandler;
+	private final OutputHandler outputHandler;
+	private final InfiniteViewport viewport;
+
+	private InfiniteGameBoard gameBoard;
+
+	public InfiniteMinesweeper(long seed, int landMineCountPerChunk, InputHandler inputHandler,
+		OutputHandler outputHandler, InfiniteViewport viewport) {
+		this.seed = seed;
+		this.landMineCountPerChunk = landMineCountPerChunk;
+		this.inputHandler = inputHandler;
+		this.outputHandler = outputHandler;
+		this.viewport = viewport;
+	}
+
+	@Override
+	public void initialize() {
+		gameBoard = new InfiniteGameBoard(seed, landMineCountPerChunk);
+	}
+
+	@Override
+	public void run() {
+		outputHandler.showGameStartComments();
+		outputHandler.showSimpleMessage("화면 이동: " + panCommandGuide());
+
+		while (gameBoard.isInProgress() && !inputHandler.isClosed()) {
+			try {
+				showBoard();
+
+				CellPosition cellPosition = getCellInputFromUser();
+				UserAction userAction = getUserActionInputFromUser();
+
+				actOnCell(cellPosition, userAction);
+			} catch (GameException e) {
+				outputHandler.showExceptionMessage(e);
+			} catch (Exception e) {
+				outputHandler.showSimpleMessage("프로그램에 문제가 생겼습니다.");
+			}
+		}
+
+		showBoard();
+
+		if (gameBoard.isLoseStatus()) {
+			outputHandler.showGameLosingComment();
+		}
+	}
+
+	public InfiniteGameBoard getGameBoard() {
+		return gameBoard;
+	}
+
+	/**
+	 * 창 안에 남은 펼칠 칸을 마저 연 뒤에 그린다.
+	 */
+	private void showBoard() {
+		gameBoard.continueFillWithin(viewport.getTopRow(), viewport.getLeftCol(), viewport.getRowCount(), viewport.getColCount());
+		outputHandler.showBoard(gameBoard, viewport);
+	}
+
+	private CellPosition getCellInputFromUser() {
+		outputHandler.showCommentForUserAction();
+		CellPosition cellPosition = inputHandler.getCellPositionFromUser();
+		if (!isPanRequested() && !viewport.containsRelative(cellPosition.getRowIndex(), cellPosition.getColIndex())) {
+			throw new GameException("잘못된 좌표를 선택하셨습니다.");
+		}
+		return cellPosition;
+	}
+
+	private UserAction getUserActionInputFromUser() {
+		// 좌표 대신 화면 이동 명령을 받았으면 행위를 묻지 않는다
+		if (isPanRequested()) {
+			return UserAction.PAN;
+		}
+		outputHandler.showCommentForSelectingCell();
+		return inputHandler.getUserActionFromUser();
+	}
+
+	private void actOnCell(CellPosition cellPosition, UserAction userAction) {
+		int row = viewport.toBoardRow(cellPosition.getRowIndex());
+		int col = viewport.toBoardCol(cellPosition.getColIndex());
+
+		// 깃발 꽂기를 선택한 경우
+		if (doesUserChooseToPlantFlag(userAction)) {
+			gameBoard.flagAt(row, col);
+			return;
+		}
+
+		// cell 오픈을 선택한 경우
+		if (doesUserChooseToOpenCell(userAction)) {
+			gameBoard.openAt(row, col);
+			return;
+		}
+
+		// 화면 이동을 선택한 경우
+		if (doesUserChooseToPan(userAction)) {
+			inputHandler.getPanDirection().ifPresent(viewport::pan);
+			return;
+		}
+		outputHandler.showSimpleMessage("무한 보드에서는 오픈(1)과 깃발 꽂기(2)만 할 수 있습니다.");
+	}
+
+	private String panCommandGuide() {
+		StringBuilder guide = new StringBuilder();
+		for (PanDirection direction : PanDirection.values()) {
+			if (!guide.isEmpty()) {
+				guide.append(", ");
+			}
+			guide.append(direction.getCommand()).append(": ").append(direction.getDescription());
+		}
+		return guide.toString();
+	}
+
+	private boolean isPanRequested() {
+		return inputHandler.getPanDirection().isPresent();
+	}
+
+	private boolean doesUserChooseToPlantFlag(UserAction userAction) {
+		return userAction == UserAction.FLAG;
+	}
+
+	private boolean doesUserChooseToOpenCell(UserAction userAction) {
+		return userAction == UserAction.OPEN;
+	}
+
+	private boolean doesUserChooseToPan(UserAction userAction) {
+		return userAction == UserAction.PAN;
+	}
+}
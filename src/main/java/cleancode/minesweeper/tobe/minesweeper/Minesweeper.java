@@ -1,38 +1,86 @@
 package cleancode.minesweeper.tobe.minesweeper;
 
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
 import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.change.ChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopologyType;
 import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
 import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
 import cleancode.minesweeper.tobe.game.GameInitializable;
 import cleancode.minesweeper.tobe.game.GameRunnable;
+import cleancode.minesweeper.tobe.minesweeper.io.BoardIndexConverter;
 import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
 import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.journal.MoveJournal;
 import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.solver.HintSolver;
+import cleancode.minesweeper.tobe.minesweeper.solver.Hints;
+import cleancode.minesweeper.tobe.minesweeper.solver.MineProbabilities;
+import cleancode.minesweeper.tobe.minesweeper.solver.MineProbabilityCalculator;
+import cleancode.minesweeper.tobe.minesweeper.solver.NoGuessBoardGenerator;
 import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
 
 public class Minesweeper implements GameInitializable, GameRunnable {
 
-	private final GameBoard gameBoard;
+	private final GameConfig gameConfig;
 	private final InputHandler inputHandler;
 	private final OutputHandler outputHandler;
+	private final BoardIndexConverter boardIndexConverter = new BoardIndexConverter();
+	private final MineProbabilityCalculator mineProbabilityCalculator = new MineProbabilityCalculator();
+
+	private GameBoard gameBoard;
+	private MoveJournal moveJournal;
+
+	// 처음 힌트를 요청할 때 만들고, 이후로는 수마다 바뀐 셀만 알려 준다
+	private HintSolver hintSolver;
+
+	// 추측 없는 판을 첫 오픈 셀에 맞춰 아직 만들지 않았는지
+	private boolean noGuessStartPending;
 
 	public Minesweeper(GameConfig gameConfig) {
-		gameBoard = new GameBoard(gameConfig.getGameLevel());
+		this.gameConfig = gameConfig;
+		gameBoard = gameConfig.isSharedBoard()
+			? gameConfig.getSharedGameBoard()
+			: GameBoard.undoable(gameConfig.getGameLevel());
 		this.inputHandler = gameConfig.getInputHandler();
 		this.outputHandler = gameConfig.getOutputHandler();
 	}
 
 	@Override
 	public void initialize() {
-		// 게임 초기화
+		// 함께 푸는 보드는 이미 다른 플레이어가 두고 있을 수 있으므로 초기화하지 않는다
+		if (gameConfig.isSharedBoard()) {
+			return;
+		}
+
+		if (gameConfig.isJournalEnabled() && MoveJournal.exists(gameConfig.getJournalDirectory())) {
+			// 진행 중이던 게임이 있으면 저널에서 복구
+			MoveJournal.Recovery recovery = MoveJournal.recover(gameConfig.getJournalDirectory());
+			if (recovery.getGameBoard().isInProgress()) {
+				gameBoard = recovery.getGameBoard();
+				moveJournal = recovery.getMoveJournal();
+				return;
+			}
+			recovery.getMoveJournal().close();
+		}
+
+		// 게임 초기화 (지뢰는 첫 오픈 때 놓인다)
 		gameBoard.initializeGame();
+		noGuessStartPending = gameConfig.isNoGuessEnabled();
+
+		if (gameConfig.isJournalEnabled()) {
+			moveJournal = MoveJournal.start(gameConfig.getJournalDirectory(), gameBoard);
+		}
 	}
 
 	@Override
 	public void run() {
 		outputHandler.showGameStartComments();
 
-		while (gameBoard.isInProgress()) {
+		while (gameBoard.isInProgress() && !inputHandler.isClosed()) {
 			try {
 				outputHandler.showBoard(gameBoard);
 
@@ -55,18 +103,26 @@ public class Minesweeper implements GameInitializable, GameRunnable {
 		if (gameBoard.isLoseStatus()) {
 			outputHandler.showGameLosingComment();
 		}
+
+		if (moveJournal != null) {
+			moveJournal.close();
+		}
 	}
 
 	private CellPosition getCellInputFromUser() {
 		outputHandler.showCommentForUserAction();
 		CellPosition cellPosition = inputHandler.getCellPositionFromUser();
-		if (gameBoard.isInvalidCellPosition(cellPosition)) {
+		if (!isPanRequested() && gameBoard.isInvalidCellPosition(cellPosition)) {
 			throw new GameException("잘못된 좌표를 선택하셨습니다.");
 		}
 		return cellPosition;
 	}
 
 	private UserAction getUserActionInputFromUser() {
+		// 좌표 대신 화면 이동 명령을 받았으면 행위를 묻지 않는다
+		if (isPanRequested()) {
+			return UserAction.PAN;
+		}
 		outputHandler.showCommentForSelectingCell();
 		return inputHandler.getUserActionFromUser();
 	}
@@ -74,16 +130,147 @@ public class Minesweeper implements GameInitializable, GameRunnable {
 	private void actOnCell(CellPosition cellPosition, UserAction userAction) {
 		// 깃발 꽂기를 선택한 경우
 		if (doesUserChooseToPlantFlag(userAction)) {
-			gameBoard.flagAt(cellPosition);
+			ChangeSet changeSet = gameBoard.flagAt(cellPosition);
+			recordMove(cellPosition, userAction, changeSet);
 			return;
 		}
 
 		// cell 오픈을 선택한 경우
 		if (doesUserChooseToOpenCell(userAction)) {
-			gameBoard.openAt(cellPosition);
+			if (noGuessStartPending) {
+				startNoGuessGameAt(cellPosition);
+			}
+			ChangeSet changeSet = gameBoard.openAt(cellPosition);
+			recordMove(cellPosition, userAction, changeSet);
+			return;
+		}
+
+		// 숫자 셀 주변 열기를 선택한 경우
+		if (doesUserChooseToChord(userAction)) {
+			ChangeSet changeSet = gameBoard.chordAt(cellPosition);
+			recordMove(cellPosition, userAction, changeSet);
 			return;
 		}
-		outputHandler.showSimpleMessage("잘못된 번호를 선택하셨습니다.");
+
+		// 되돌리기 / 다시 하기를 선택한 경우 (좌표는 쓰지 않는다)
+		if (doesUserChooseToUndo(userAction)) {
+			moveThroughHistory(cellPosition, userAction, gameBoard.canUndo(), gameBoard::undo, "되돌릴 수가 없습니다.");
+			return;
+		}
+		if (doesUserChooseToRedo(userAction)) {
+			moveThroughHistory(cellPosition, userAction, gameBoard.canRedo(), gameBoard::redo, "다시 둘 수가 없습니다.");
+			return;
+		}
+
+		// 화면 이동을 선택한 경우 (수로 치지 않고, 다음 반복에서 옮긴 창을 그린다)
+		if (doesUserChooseToPan(userAction)) {
+			inputHandler.getPanDirection().ifPresent(outputHandler::panBoard);
+			return;
+		}
+
+		// 힌트를 선택한 경우 (수로 치지 않는다)
+		if (doesUserChooseToGetHint(userAction)) {
+			showHintFor(cellPosition);
+			return;
+		}
+		outputHandler.showCommentForInvalidUserAction();
+	}
+
+	/**
+	 * 추측 없는 판은 첫 오픈 셀을 알아야 고를 수 있으므로, 그 셀에서 풀리는 배치의 시드로 보드를 다시 초기화한다.
+	 */
+	private void startNoGuessGameAt(CellPosition cellPosition) {
+		noGuessStartPending = false;
+
+		OptionalLong seed;
+		try (NoGuessBoardGenerator noGuessBoardGenerator = new NoGuessBoardGenerator()) {
+			seed = noGuessBoardGenerator.findSeed(
+				gameConfig.getGameLevel(),
+				BoardTopologyType.SQUARE,
+				cellPosition.getRowIndex(),
+				cellPosition.getColIndex(),
+				ThreadLocalRandom.current().nextLong()
+			);
+		}
+		if (seed.isEmpty()) {
+			outputHandler.showSimpleMessage("추측 없이 풀 수 있는 판을 찾지 못해 일반 판으로 진행합니다.");
+			return;
+		}
+
+		gameBoard.initializeGame(seed.getAsLong());
+		hintSolver = null;
+		if (moveJournal != null) {
+			// 다시 초기화한 보드를 0번째 스냅샷으로 저널을 새로 시작한다
+			moveJournal.close();
+			moveJournal = MoveJournal.start(gameConfig.getJournalDirectory(), gameBoard);
+		}
+	}
+
+	/**
+	 * 되돌리기/다시 하기도 저널에 한 수로 남겨, 복구할 때 같은 순서로 다시 되돌린다.
+	 * 셀이 닫힐 수도 있어 힌트 풀이기는 다음 힌트 요청 때 새로 만든다.
+	 */
+	private void moveThroughHistory(CellPosition cellPosition, UserAction userAction, boolean movable,
+		Supplier<ChangeSet> move, String unmovableMessage) {
+		if (!movable) {
+			outputHandler.showSimpleMessage(unmovableMessage);
+			return;
+		}
+
+		move.get();
+		hintSolver = null;
+		if (moveJournal != null) {
+			moveJournal.append(cellPosition, userAction, gameBoard);
+		}
+	}
+
+	private void recordMove(CellPosition cellPosition, UserAction userAction, ChangeSet changeSet) {
+		// 보드가 바뀌지 않은 수는 되돌리기 이력에도 남지 않으므로, 저널에도 남기지 않아야 되돌리기 레코드가 같은 수를 가리킨다
+		if (moveJournal != null && changeSet.hasChanges()) {
+			moveJournal.append(cellPosition, userAction, gameBoard);
+		}
+		if (hintSolver != null) {
+			hintSolver.observe(changeSet);
+		}
+	}
+
+	private void showHintFor(CellPosition cellPosition) {
+		// 함께 푸는 보드는 다른 플레이어의 수를 통보받지 못하므로 힌트마다 보드 전체를 다시 읽는다
+		if (hintSolver == null || gameConfig.isSharedBoard()) {
+			hintSolver = new HintSolver(gameBoard);
+			hintSolver.observeAll();
+		}
+		Hints hints = hintSolver.solve();
+
+		int index = gameBoard.indexOf(cellPosition.getRowIndex(), cellPosition.getColIndex());
+		String cellInput = boardIndexConverter.convertToCellInput(cellPosition.getRowIndex(), cellPosition.getColIndex());
+		if (hintSolver.getVisibleNumber(index) >= 0) {
+			outputHandler.showSimpleMessage(cellInput + " 셀은 이미 열려 있습니다.");
+			return;
+		}
+		if (hintSolver.isProvenSafe(index)) {
+			outputHandler.showSimpleMessage(cellInput + " 셀은 안전합니다.");
+			return;
+		}
+		if (hintSolver.isProvenLandMine(index)) {
+			outputHandler.showSimpleMessage(cellInput + " 셀은 지뢰입니다.");
+			return;
+		}
+		if (hints.hasSafeCell()) {
+			int safeIndex = hints.getSafeCellIndices()[0];
+			outputHandler.showSimpleMessage(cellInput + " 셀은 확실하지 않습니다. 안전한 셀: "
+				+ boardIndexConverter.convertToCellInput(gameBoard.rowIndexOf(safeIndex), gameBoard.colIndexOf(safeIndex)));
+			return;
+		}
+
+		// 확실한 셀이 없으면 지뢰 확률을 계산해 가장 안전한 셀을 알려 준다
+		MineProbabilities mineProbabilities = mineProbabilityCalculator.calculate(hintSolver);
+		int safestIndex = mineProbabilities.getSafestUnknownCellIndex();
+		outputHandler.showSimpleMessage(String.format("%s 셀의 지뢰 확률은 %.1f%%입니다. 가장 안전한 셀: %s (%.1f%%)",
+			cellInput,
+			100 * mineProbabilities.getLandMineProbability(index),
+			boardIndexConverter.convertToCellInput(gameBoard.rowIndexOf(safestIndex), gameBoard.colIndexOf(safestIndex)),
+			100 * mineProbabilities.getLandMineProbability(safestIndex)));
 	}
 
 	private boolean doesUserChooseToPlantFlag(UserAction userAction) {
@@ -93,4 +280,28 @@ public class Minesweeper implements GameInitializable, GameRunnable {
 	private boolean doesUserChooseToOpenCell(UserAction userAction) {
 		return userAction == UserAction.OPEN;
 	}
+
+	private boolean doesUserChooseToChord(UserAction userAction) {
+		return userAction == UserAction.CHORD;
+	}
+
+	private boolean doesUserChooseToUndo(UserAction userAction) {
+		return userAction == UserAction.UNDO;
+	}
+
+	private boolean doesUserChooseToRedo(UserAction userAction) {
+		return userAction == UserAction.REDO;
+	}
+
+	private boolean isPanRequested() {
+		return inputHandler.getPanDirection().isPresent();
+	}
+
+	private boolean doesUserChooseToPan(UserAction userAction) {
+		return userAction == UserAction.PAN;
+	}
+
+	private boolean doesUserChooseToGetHint(UserAction userAction) {
+		return userAction == UserAction.HINT;
+	}
 }
@@ -0,0 +1,49 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+/**
+ * 비트 평면 밖에 있는 보드 상태 (게임 상태, 승리 조건 카운터, 지뢰 배치 여부)
+ * 되돌리기에서 수 하나의 앞뒤를 맞바꿀 때 평면의 청크와 함께 쓴다.
+ */
+class BoardProgress {
+
+    private final GameStatus gameStatus;
+    private final int unopenedSafeCellCount;
+    private final int correctlyFlaggedLandMineCount;
+    private final int flagCount;
+    private final boolean landMinesPlaced;
+
+    private BoardProgress(GameStatus gameStatus, int unopenedSafeCellCount, int correctlyFlaggedLandMineCount,
+        int flagCount, boolean landMinesPlaced) {
+        this.gameStatus = gameStatus;
+        this.unopenedSafeCellCount = unopenedSafeCellCount;
+        this.correctlyFlaggedLandMineCount = correctlyFlaggedLandMineCount;
+        this.flagCount = flagCount;
+        this.landMinesPlaced = landMinesPlaced;
+    }
+
+    static BoardProgress of(GameStatus gameStatus, int unopenedSafeCellCount, int correctlyFlaggedLandMineCount,
+        int flagCount, boolean landMinesPlaced) {
+        return new BoardProgress(gameStatus, unopenedSafeCellCount, correctlyFlaggedLandMineCount, flagCount,
+            landMinesPlaced);
+    }
+
+    GameStatus getGameStatus() {
+        return gameStatus;
+    }
+
+    int getUnopenedSafeCellCount() {
+        return unopenedSafeCellCount;
+    }
+
+    int getCorrectlyFlaggedLandMineCount() {
+        return correctlyFlaggedLandMineCount;
+    }
+
+    int getFlagCount() {
+        return flagCount;
+    }
+
+    boolean isLandMinesPlaced() {
+        return landMinesPlaced;
+    }
+}
@@ -0,0 +1,38 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.ChunkDelta;
+
+/**
+ * 수 하나의 한쪽 상태 (되돌리기 스택에서는 수를 두기 전, 다시 하기 스택에서는 둔 뒤)
+ * 평면별로 그 수에서 바뀐 청크만 들고 있으므로 크기가 보드 크기가 아니라 바뀐 청크 수에 비례한다.
+ */
+class BoardRevision {
+
+    // 지뢰, 열림, 깃발 평면 순서
+    private final ChunkDelta[] planeDeltas;
+    private final BoardProgress progress;
+    // 이 수로 스냅샷이 바뀐 셀 (앞뒤 어느 쪽으로 옮겨도 같은 셀들이 바뀐다)
+    private final int[] changedCellIndices;
+
+    private BoardRevision(ChunkDelta[] planeDeltas, BoardProgress progress, int[] changedCellIndices) {
+        this.planeDeltas = planeDeltas;
+        this.progress = progress;
+        this.changedCellIndices = changedCellIndices;
+    }
+
+    static BoardRevision of(ChunkDelta[] planeDeltas, BoardProgress progress, int[] changedCellIndices) {
+        return new BoardRevision(planeDeltas, progress, changedCellIndices);
+    }
+
+    ChunkDelta getPlaneDelta(int plane) {
+        return planeDeltas[plane];
+    }
+
+    BoardProgress getProgress() {
+        return progress;
+    }
+
+    int[] getChangedCellIndices() {
+        return changedCellIndices;
+    }
+}
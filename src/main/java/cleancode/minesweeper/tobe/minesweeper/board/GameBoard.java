@@ -1,67 +1,440 @@
 package cleancode.minesweeper.tobe.minesweeper.board;
 
-import java.util.List;
-import java.util.Stack;
-
-import cleancode.minesweeper.tobe.minesweeper.board.cell.Cell;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.ChunkDelta;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.CopyOnWriteBitPlane;
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.Cells;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.EmptyCell;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.LandMineCell;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.NumberCell;
+import cleancode.minesweeper.tobe.minesweeper.board.change.ChangeRecorder;
+import cleancode.minesweeper.tobe.minesweeper.board.change.ChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.fill.FloodFill;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardFile;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopology;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopologyType;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.NeighborTable;
 import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
 import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
-import cleancode.minesweeper.tobe.minesweeper.board.position.CellPositions;
-import cleancode.minesweeper.tobe.minesweeper.board.position.RelativePosition;
 
 public class GameBoard {
 
-	private final Cell[][] board;
+	// 이 셀 수까지는 이웃 인덱스를 테이블로 미리 계산해 둔다 (셀당 최대 8개의 int)
+	private static final int NEIGHBOR_TABLE_CELL_LIMIT = 1 << 18;
+
+	private final int rowSize;
+	private final int colSize;
 	private final int landMineCount;
 
-	private GameStatus gameStatus;
+	// 셀 상태를 셀 객체 대신 비트 평면으로 보관
+	private final BitPlane landMineCells;
+	private final BitPlane openedCells;
+	private final BitPlane flaggedCells;
+
+	private final BoardTopologyType topologyType;
+	private final BoardTopology topology;
+	// 채우기의 작업 큐와 방문 비트는 수마다 빌려 쓰고 돌려준다 (동시에 두는 플레이어 수만큼만 만들어진다)
+	// 스레드에 묶어 두면 풀의 스레드가 이 보드를 계속 붙잡으므로, 보드가 직접 가진다
+	private final Queue<FloodFill> idleFloodFills = new ConcurrentLinkedQueue<>();
+
+	// 한 수로 바뀐 셀 인덱스도 스레드마다 모은다 (협동 모드에서는 자기가 바꾼 셀만 돌려받는다)
+	private final ThreadLocal<ChangeRecorder> changeRecorder = ThreadLocal.withInitial(ChangeRecorder::new);
+
+	// 파일에 매핑된 보드라면 비트 평면이 곧 파일이고, 게임 상태는 매 수마다 헤더에 기록한다
+	private final BoardFile boardFile;
+
+	private final LandMinePlacer landMinePlacer = new LandMinePlacer();
+
+	// 매 수마다 보드 전체를 훑지 않도록 승리 조건을 카운터로 관리
+	// 셀 비트를 실제로 바꾼 스레드만 카운터를 움직이므로, 여러 플레이어가 동시에 두어도 합이 맞는다
+	private final AtomicInteger unopenedSafeCellCount = new AtomicInteger();
+	private final AtomicInteger correctlyFlaggedLandMineCount = new AtomicInteger();
+	private final AtomicInteger flagCount = new AtomicInteger();
+
+	// 진행 중 -> 승리/패배 전환은 CAS 로 한 번만 일어난다
+	private final AtomicReference<GameStatus> gameStatus = new AtomicReference<>();
+
+	// 지뢰는 첫 오픈 때 그 셀과 이웃을 피해서 놓는다. 그 전까지는 배치에 쓸 시드만 들고 있다
+	private volatile boolean landMinesPlaced = true;
+	private long landMinePlacementSeed;
+
+	// 되돌릴 수 있는 보드에서만 쓴다. 수마다 평면별로 바뀐 청크만 남긴다 (지뢰, 열림, 깃발 평면 순서)
+	private final CopyOnWriteBitPlane[] revisionPlanes;
+	private final Deque<BoardRevision> undoRevisions = new ArrayDeque<>();
+	private final Deque<BoardRevision> redoRevisions = new ArrayDeque<>();
+	// 마지막으로 남긴 수 이후의 평면 밖 상태
+	private BoardProgress committedProgress;
 
 	public GameBoard(GameLevel gameLevel) {
-		int rowSize = gameLevel.getRowSize();
-		int colSize = gameLevel.getColSize();
-		board = new Cell[rowSize][colSize];
+		this(gameLevel, BoardTopologyType.SQUARE);
+	}
 
-		landMineCount = gameLevel.getLandMineCount();
+	public GameBoard(GameLevel gameLevel, BoardTopologyType topologyType) {
+		this(gameLevel.getRowSize(), gameLevel.getColSize(), gameLevel.getLandMineCount(), topologyType, null,
+			PlaneStorage.HEAP);
 		initializeGameStatus();
 	}
 
+	private GameBoard(int rowSize, int colSize, int landMineCount, BoardTopologyType topologyType, BoardFile boardFile,
+		PlaneStorage planeStorage) {
+		this.rowSize = rowSize;
+		this.colSize = colSize;
+		this.landMineCount = landMineCount;
+
+		int cellCount = Math.multiplyExact(rowSize, colSize);
+		this.boardFile = boardFile;
+		this.revisionPlanes = planeStorage == PlaneStorage.COPY_ON_WRITE
+			? new CopyOnWriteBitPlane[] {
+				BitPlane.copyOnWriteOfSize(cellCount),
+				BitPlane.copyOnWriteOfSize(cellCount),
+				BitPlane.copyOnWriteOfSize(cellCount)
+			}
+			: null;
+		if (revisionPlanes != null) {
+			this.landMineCells = revisionPlanes[0];
+			this.openedCells = revisionPlanes[1];
+			this.flaggedCells = revisionPlanes[2];
+		} else if (planeStorage == PlaneStorage.CONCURRENT) {
+			// 지뢰 평면은 초기화 후 읽기만 하므로 열림/깃발 평면만 워드 단위 CAS 로 갱신한다
+			this.landMineCells = BitPlane.ofSize(cellCount);
+			this.openedCells = BitPlane.concurrentOfSize(cellCount);
+			this.flaggedCells = BitPlane.concurrentOfSize(cellCount);
+		} else if (boardFile == null) {
+			this.landMineCells = BitPlane.ofSize(cellCount);
+			this.openedCells = BitPlane.ofSize(cellCount);
+			this.flaggedCells = BitPlane.ofSize(cellCount);
+		} else {
+			this.landMineCells = boardFile.getLandMinePlane();
+			this.openedCells = boardFile.getOpenedPlane();
+			this.flaggedCells = boardFile.getFlaggedPlane();
+		}
+
+		this.topologyType = topologyType;
+		this.topology = createTopology(topologyType, cellCount);
+	}
+
+	/**
+	 * 여러 플레이어가 한 보드를 함께 푸는 협동 모드용 보드
+	 * openAt / flagAt 을 여러 스레드에서 동시에 불러도 된다. 락 없이 셀 비트를 CAS 로 바꾼다.
+	 * initializeGame 은 플레이어들이 수를 두기 전에 한 번만 부른다.
+	 */
+	public static GameBoard concurrent(GameLevel gameLevel) {
+		return concurrent(gameLevel, BoardTopologyType.SQUARE);
+	}
+
+	public static GameBoard concurrent(GameLevel gameLevel, BoardTopologyType topologyType) {
+		GameBoard gameBoard = new GameBoard(
+			gameLevel.getRowSize(),
+			gameLevel.getColSize(),
+			gameLevel.getLandMineCount(),
+			topologyType,
+			null,
+			PlaneStorage.CONCURRENT
+		);
+		gameBoard.initializeGameStatus();
+		return gameBoard;
+	}
+
+	/**
+	 * 둔 수를 undo / redo 할 수 있는 보드 (한 스레드에서만 쓴다)
+	 * 셀 평면을 청크 단위 copy-on-write 로 두어, 수 하나를 남기는 데는 그 수가 바꾼 청크만 복사한다.
+	 * initializeGame 을 부르면 그 전의 수는 되돌릴 수 없다.
+	 */
+	public static GameBoard undoable(GameLevel gameLevel) {
+		return undoable(gameLevel, BoardTopologyType.SQUARE);
+	}
+
+	public static GameBoard undoable(GameLevel gameLevel, BoardTopologyType topologyType) {
+		GameBoard gameBoard = new GameBoard(
+			gameLevel.getRowSize(),
+			gameLevel.getColSize(),
+			gameLevel.getLandMineCount(),
+			topologyType,
+			null,
+			PlaneStorage.COPY_ON_WRITE
+		);
+		gameBoard.initializeGameStatus();
+		gameBoard.resetRevisions();
+		return gameBoard;
+	}
+
+	/**
+	 * 저장된 게임 파일을 매핑해 이어서 진행한다.
+	 * 보드 전체를 힙으로 읽어 들이지 않고, 이후의 수는 파일에 바로 반영된다.
+	 */
+	public static GameBoard loadFrom(Path path) {
+		BoardFile boardFile = BoardFile.open(path);
+
+		GameBoard gameBoard = new GameBoard(
+			boardFile.getRowSize(),
+			boardFile.getColSize(),
+			boardFile.getLandMineCount(),
+			boardFile.getTopologyType(),
+			boardFile,
+			PlaneStorage.HEAP
+		);
+		gameBoard.readProgressFrom(boardFile);
+		return gameBoard;
+	}
+
+	/**
+	 * 저장된 게임 파일을 힙으로 읽어 되돌릴 수 있는 보드로 만든다. (파일은 읽기만 하고 닫는다)
+	 * 읽어 들인 상태가 되돌리기의 시작점이므로, 그 전의 수는 되돌릴 수 없다.
+	 */
+	public static GameBoard loadUndoableFrom(Path path) {
+		try (BoardFile boardFile = BoardFile.open(path)) {
+			GameBoard gameBoard = new GameBoard(
+				boardFile.getRowSize(),
+				boardFile.getColSize(),
+				boardFile.getLandMineCount(),
+				boardFile.getTopologyType(),
+				null,
+				PlaneStorage.COPY_ON_WRITE
+			);
+			gameBoard.landMineCells.copyFrom(boardFile.getLandMinePlane());
+			gameBoard.openedCells.copyFrom(boardFile.getOpenedPlane());
+			gameBoard.flaggedCells.copyFrom(boardFile.getFlaggedPlane());
+			gameBoard.readProgressFrom(boardFile);
+			gameBoard.resetRevisions();
+			return gameBoard;
+		}
+	}
+
+	/**
+	 * 현재 보드를 게임 파일로 저장한다. 이미 그 파일에 매핑된 보드라면 디스크에 내려쓰기만 한다.
+	 * 새 파일은 옆의 임시 파일에 다 쓰고 봉인해 내려쓴 뒤 원자적으로 옮기므로, 도중에 멈춰도 기존 파일이 반쯤 덮이지 않는다.
+	 */
+	public void saveTo(Path path) {
+		if (boardFile != null && boardFile.isAt(path)) {
+			recordProgress();
+			boardFile.force();
+			return;
+		}
+
+		Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+		try (BoardFile newBoardFile = BoardFile.create(tempPath, rowSize, colSize, landMineCount, topologyType)) {
+			newBoardFile.getLandMinePlane().copyFrom(landMineCells);
+			newBoardFile.getOpenedPlane().copyFrom(openedCells);
+			newBoardFile.getFlaggedPlane().copyFrom(flaggedCells);
+			writeProgressTo(newBoardFile);
+			newBoardFile.seal();
+		}
+
+		try {
+			Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException("게임 파일을 저장할 수 없습니다: " + path, e);
+		}
+	}
+
 	public void initializeGame() {
+		initializeGame(ThreadLocalRandom.current().nextLong());
+	}
+
+	/**
+	 * 같은 시드로 초기화하고 같은 셀을 처음 열면 항상 같은 지뢰 배치가 만들어진다.
+	 * 지뢰는 아직 놓지 않는다. 첫 openAt 이 그 셀과 이웃을 피해서 놓는다.
+	 * 배치 전까지 보드가 들고 있는 것은 시드뿐이고 난수 생성기는 배치할 때 SplittableRandom 으로 만든다.
+	 * 저장 파일과 저널이 시드만으로 같은 배치를 다시 만들 수 있도록, 생성기 종류는 고를 수 없게 했다.
+	 */
+	public void initializeGame(long seed) {
 		initializeGameStatus();
-		CellPositions cellPositions = CellPositions.from(board);
+		initializeEmptyCells();
+		initializeCounters();
 
-		initializeEmptyCells(cellPositions);
+		landMinePlacementSeed = seed;
+		landMinesPlaced = false;
+		recordProgress();
+		resetRevisions();
+	}
 
-		// 랜덤 자리에 지뢰를 10개 설정하여 해당 위치를 true로 변경
-		List<CellPosition> landMinePositions = cellPositions.extractRandomPositions(landMineCount);
-		initializeLandMineCells(landMinePositions);
+	/**
+	 * 첫 클릭을 기다리지 않고 지금 지뢰를 놓는다. (safe 셀과 그 이웃은 비워 둔다)
+	 * 첫 수를 미리 알고 있는 호출자(벤치마크, 재현용 도구)가 쓴다. 이미 놓았다면 아무 일도 하지 않는다.
+	 */
+	public void placeLandMines(int safeRowIndex, int safeColIndex) {
+		placeLandMinesAvoiding(indexOf(safeRowIndex, safeColIndex));
+		finishMove();
+	}
 
-		List<CellPosition> numberPositionCandidates = cellPositions.subtract(landMinePositions);
-		initializeNumberCells(numberPositionCandidates);
+	/**
+	 * @return 이 수로 스냅샷이 바뀐 셀들과 게임 상태
+	 */
+	public ChangeSet openAt(CellPosition cellPosition) {
+		return openAtIndex(indexOf(cellPosition));
 	}
 
-	public void openAt(CellPosition cellPosition) {
+	/**
+	 * 대량으로 수를 두는 호출자(저널 재생, 봇, 네트워크)는 좌표 객체 없이 행/열로 바로 둔다.
+	 */
+	public ChangeSet openAt(int rowIndex, int colIndex) {
+		return openAtIndex(indexOf(rowIndex, colIndex));
+	}
+
+	private ChangeSet openAtIndex(int index) {
+		if (!landMinesPlaced) {
+			placeLandMinesAvoiding(index);
+		}
+
 		// 지뢰 cell을 선택한 경우
-		if (isLandMineCellAt(cellPosition)) {
-			openOneCellAt(cellPosition);
+		if (isLandMineCellAt(index)) {
+			openOneCellAt(index);
 			changeGameStatusToLose();
-			return;
+			recordProgress();
+			return finishMove();
 		}
 
 		// 일반 cell을 선택한 경우
-		openSurroundedCells2(cellPosition);
+		FloodFill floodFill = borrowFloodFill();
+		try {
+			floodFill.fillFrom(index);
+		} finally {
+			idleFloodFills.offer(floodFill);
+		}
 		checkIfGameIsOver();
+		recordProgress();
+		return finishMove();
+	}
+
+	/**
+	 * @return 이 수로 스냅샷이 바뀐 셀들과 게임 상태
+	 */
+	public ChangeSet flagAt(CellPosition cellPosition) {
+		return flagAtIndex(indexOf(cellPosition));
+	}
+
+	public ChangeSet flagAt(int rowIndex, int colIndex) {
+		return flagAtIndex(indexOf(rowIndex, colIndex));
+	}
+
+	private ChangeSet flagAtIndex(int index) {
+		if (!landMinesPlaced) {
+			// 지뢰를 놓는 도중에 꽂힌 깃발이 카운트에서 빠지지 않도록 배치와 같은 락 안에서 꽂는다
+			synchronized (this) {
+				return plantFlagAt(index);
+			}
+		}
+		return plantFlagAt(index);
 	}
 
-	public void flagAt(CellPosition cellPosition) {
-		Cell cell = findCell(cellPosition);
-		cell.flag();
+	private ChangeSet plantFlagAt(int index) {
+		// 이미 열린 cell에는 깃발을 꽂지 않는다
+		if (!openedCells.get(index) && flaggedCells.set(index)) {
+			countFlag(index, 1);
+
+			// 깃발을 꽂는 사이 다른 플레이어가 cell을 열었다면, 깃발을 먼저 회수한 쪽이 카운트를 되돌린다
+			if (openedCells.get(index) && flaggedCells.clear(index)) {
+				countFlag(index, -1);
+			} else {
+				changeRecorder.get().record(index);
+			}
+		}
 
 		checkIfGameIsOver();
+		recordProgress();
+		return finishMove();
+	}
+
+	/**
+	 * 열린 숫자 셀 주변의 깃발 수가 그 숫자와 같으면, 깃발이 없는 닫힌 이웃을 한 번에 연다.
+	 * 이웃마다 openAt 을 부르는 것과 결과는 같지만, 연쇄 열기는 한 번의 채우기로 묶고 승패 판정과 변경 기록도 한 번만 한다.
+	 * 깃발을 잘못 꽂았다면 지뢰가 열려 패배한다. 조건이 맞지 않으면 아무것도 바꾸지 않는다.
+	 * @return 이 수로 스냅샷이 바뀐 셀들과 게임 상태
+	 */
+	public ChangeSet chordAt(CellPosition cellPosition) {
+		return chordAtIndex(indexOf(cellPosition));
+	}
+
+	public ChangeSet chordAt(int rowIndex, int colIndex) {
+		return chordAtIndex(indexOf(rowIndex, colIndex));
+	}
+
+	private ChangeSet chordAtIndex(int index) {
+		if (!openedCells.get(index) || landMineCells.get(index)) {
+			return finishMove();
+		}
+		int nearbyLandMineCount = countNearbyLandMines(index);
+		if (nearbyLandMineCount == 0) {
+			return finishMove();
+		}
+
+		int[] neighbors = new int[topology.getMaxNeighborCount()];
+		int neighborCount = topology.findNeighbors(index, neighbors);
+		int flaggedNeighborCount = 0;
+		for (int i = 0; i < neighborCount; i++) {
+			if (flaggedCells.get(neighbors[i])) {
+				flaggedNeighborCount++;
+			}
+		}
+		if (flaggedNeighborCount != nearbyLandMineCount) {
+			return finishMove();
+		}
+
+		// 깃발 없는 닫힌 이웃만 남긴다 (지뢰는 바로 열고, 나머지는 한 번의 채우기로 연다)
+		boolean landMineOpened = false;
+		int seedCount = 0;
+		for (int i = 0; i < neighborCount; i++) {
+			int neighbor = neighbors[i];
+			if (openedCells.get(neighbor) || flaggedCells.get(neighbor)) {
+				continue;
+			}
+			if (landMineCells.get(neighbor)) {
+				openOneCellAt(neighbor);
+				landMineOpened = true;
+				continue;
+			}
+			neighbors[seedCount++] = neighbor;
+		}
+		FloodFill floodFill = borrowFloodFill();
+		try {
+			floodFill.fillFrom(neighbors, seedCount);
+		} finally {
+			idleFloodFills.offer(floodFill);
+		}
+
+		if (landMineOpened) {
+			changeGameStatusToLose();
+		} else {
+			checkIfGameIsOver();
+		}
+		recordProgress();
+		return finishMove();
+	}
+
+	/**
+	 * 마지막 수를 되돌린다. 그 수가 바꾼 청크만 맞바꾸므로, 지금까지 둔 수나 보드 크기와 상관없이 한 걸음의 비용이 같다.
+	 * 되돌릴 수 있는 보드가 아니거나 되돌릴 수가 없으면 아무것도 바꾸지 않는다.
+	 * @return 되돌리며 스냅샷이 바뀐 셀들과 게임 상태
+	 */
+	public ChangeSet undo() {
+		return moveRevision(undoRevisions, redoRevisions);
+	}
+
+	/**
+	 * 되돌린 수를 다시 둔다. 되돌린 뒤 새 수를 두었다면 다시 할 수가 없다.
+	 * @return 다시 두며 스냅샷이 바뀐 셀들과 게임 상태
+	 */
+	public ChangeSet redo() {
+		return moveRevision(redoRevisions, undoRevisions);
+	}
+
+	public boolean canUndo() {
+		return !undoRevisions.isEmpty();
+	}
+
+	public boolean canRedo() {
+		return !redoRevisions.isEmpty();
 	}
 
 	public boolean isInvalidCellPosition(CellPosition cellPosition) {
@@ -72,160 +445,291 @@ public class GameBoard {
 			|| cellPosition.isColIndexMoreThanOrEqual(colSize);
 	}
 
+	public boolean isInvalidCellPosition(int rowIndex, int colIndex) {
+		return rowIndex < 0 || rowIndex >= rowSize
+			|| colIndex < 0 || colIndex >= colSize;
+	}
+
 	public boolean isInProgress() {
-		return gameStatus == GameStatus.IN_PROGRESS;
+		return gameStatus.get() == GameStatus.IN_PROGRESS;
 	}
 
 	public boolean isWinStatus() {
-		return gameStatus == GameStatus.WIN;
+		return gameStatus.get() == GameStatus.WIN;
 	}
 
 	public boolean isLoseStatus() {
-		return gameStatus == GameStatus.LOSE;
+		return gameStatus.get() == GameStatus.LOSE;
 	}
 
 	public CellSnapshot getSnapshot(CellPosition cellPosition) {
-		Cell cell = findCell(cellPosition);
-		return cell.getSnapshot();
+		return snapshotAt(indexOf(cellPosition));
 	}
 
-	public int getRowSize() {
-		return board.length;
+	/**
+	 * 화면을 그릴 때처럼 셀마다 조회할 때는 좌표 객체 없이 행/열로 바로 묻는다.
+	 */
+	public CellSnapshot getSnapshot(int rowIndex, int colIndex) {
+		return snapshotAt(indexOf(rowIndex, colIndex));
 	}
 
-	public int getColSize() {
-		return board[0].length;
+	/**
+	 * 셀 인덱스(row * colSize + col)로 조회한다. ChangeSet 의 인덱스를 그대로 넘기면 된다.
+	 */
+	public CellSnapshot getSnapshot(int index) {
+		if (index < 0 || index >= getCellCount()) {
+			throw new IllegalArgumentException("보드 밖의 셀 인덱스입니다: " + index);
+		}
+		return snapshotAt(index);
 	}
 
-	private void initializeGameStatus() {
-		gameStatus = GameStatus.IN_PROGRESS;
+	private CellSnapshot snapshotAt(int index) {
+		if (openedCells.get(index)) {
+			return getOpenedSnapshot(index);
+		}
+		if (flaggedCells.get(index)) {
+			return CellSnapshot.ofFlag();
+		}
+		return CellSnapshot.ofUnchecked();
 	}
 
-	private void initializeEmptyCells(CellPositions cellPositions) {
-		List<CellPosition> allPositions = cellPositions.getPositions();
-		for (CellPosition position : allPositions) {
-			updateCellAt(position, new EmptyCell());
-		}
+	/**
+	 * 남은 지뢰 수 (전체 지뢰 수 - 꽂은 깃발 수)
+	 */
+	public int getRemainingLandMineCount() {
+		return landMineCount - flagCount.get();
 	}
 
-	private void initializeLandMineCells(List<CellPosition> landMinePositions) {
-		for (CellPosition position : landMinePositions) {
-			updateCellAt(position, new LandMineCell());
-		}
+	public int getRowSize() {
+		return rowSize;
 	}
 
-	private void initializeNumberCells(List<CellPosition> numberPositionCandidates) {
-		for (CellPosition candidatePosition : numberPositionCandidates) {
-			int count = countNearbyLandMines(candidatePosition);
-			if (count != 0) {
-				updateCellAt(candidatePosition, new NumberCell(count));
-			}
-		}
+	public int getColSize() {
+		return colSize;
+	}
+
+	public int getCellCount() {
+		return landMineCells.size();
 	}
 
 	/**
-	 * 근처에 위치한 지뢰의 수 조회
-	 * @return
+	 * 전체 지뢰 수 (난이도에서 공개된 값)
 	 */
-	private int countNearbyLandMines(CellPosition cellPosition) {
-		int rowSize = getRowSize();
-		int colSize = getColSize();
+	public int getLandMineCount() {
+		return landMineCount;
+	}
 
-		long count = calculateSurroundedPosition(cellPosition, rowSize, colSize).stream()
-			.filter(this::isLandMineCellAt)
-			.count();
+	public BoardTopology getTopology() {
+		return topology;
+	}
 
-		return (int) count;
+	/**
+	 * 행/열을 셀 인덱스(row-major)로 바꾼다. 행/열을 받는 공개 메서드는 모두 여기서 범위를 확인한다.
+	 * (열이 넘치면 다음 행의 셀로 바뀌어 버리므로, 저널처럼 밖에서 읽어 온 좌표도 여기서 걸러진다)
+	 */
+	public int indexOf(int rowIndex, int colIndex) {
+		if (isInvalidCellPosition(rowIndex, colIndex)) {
+			throw new IllegalArgumentException("보드 밖의 좌표입니다: (" + rowIndex + ", " + colIndex + ")");
+		}
+		return rowIndex * colSize + colIndex;
 	}
 
-	private List<CellPosition> calculateSurroundedPosition(CellPosition cellPosition, int rowSize, int colSize) {
-		return RelativePosition.SURROUNDED_POSITION.stream()
-			.filter(cellPosition::canCalculatePositionBy)
-			.map(cellPosition::calculatePositionBy)
-			.filter(position -> position.isRowIndexLessThan(rowSize))
-			.filter(position -> position.isColIndexLessThan(colSize))
-			.toList();
+	public int rowIndexOf(int index) {
+		return index / colSize;
 	}
 
-	private void updateCellAt(CellPosition position, Cell cell) {
-		board[position.getRowIndex()][position.getColIndex()] = cell;
+	public int colIndexOf(int index) {
+		return index % colSize;
 	}
 
-	private void openSurroundedCells(CellPosition cellPosition) {
-		// 기존 cell이 이미 선택되었었는지 검증
-		if (isOpenedCell(cellPosition)) {
-			return;
+	private BoardTopology createTopology(BoardTopologyType topologyType, int cellCount) {
+		BoardTopology boardTopology = topologyType.create(rowSize, colSize);
+		if (cellCount <= NEIGHBOR_TABLE_CELL_LIMIT) {
+			return NeighborTable.from(boardTopology);
 		}
+		return boardTopology;
+	}
 
-		// 지뢰 cell인지 검증
-		if (isLandMineCellAt(cellPosition)) {
-			return;
+	/**
+	 * revision 쪽 상태로 옮기고, 지금 상태를 반대쪽 스택에 남긴다.
+	 */
+	private ChangeSet moveRevision(Deque<BoardRevision> fromRevisions, Deque<BoardRevision> toRevisions) {
+		BoardRevision revision = fromRevisions.pollLast();
+		if (revision == null) {
+			return ChangeSet.unchanged(gameStatus.get());
 		}
 
-		openOneCellAt(cellPosition);
+		ChunkDelta[] displacedDeltas = new ChunkDelta[revisionPlanes.length];
+		for (int plane = 0; plane < revisionPlanes.length; plane++) {
+			displacedDeltas[plane] = revisionPlanes[plane].revert(revision.getPlaneDelta(plane));
+		}
+		toRevisions.addLast(BoardRevision.of(displacedDeltas, committedProgress, revision.getChangedCellIndices()));
+		restoreProgress(revision.getProgress());
+		return ChangeSet.of(revision.getChangedCellIndices().clone(), gameStatus.get());
+	}
 
-		// 지뢰 count를 가지고 있는 cell인지 검증
-		if (doesCellHaveLandMineCount(cellPosition)) {
+	/**
+	 * 지난 수 이후 바뀐 청크와 평면 밖 상태를 한 수로 남긴다. 바뀐 것이 없으면 남기지 않는다.
+	 */
+	private void commitRevision(ChangeSet changeSet) {
+		if (!changeSet.hasChanges() && !hasPendingRevisionChanges()) {
 			return;
 		}
 
-		// 현재 칸 기준으로 주위 8칸을 돌면서 지뢰를 몇 개 가지고 있는지 계산
-		List<CellPosition> surroundedPosition = calculateSurroundedPosition(cellPosition, getRowSize(), getColSize());
-		surroundedPosition.forEach(this::openSurroundedCells);
+		ChunkDelta[] planeDeltas = new ChunkDelta[revisionPlanes.length];
+		for (int plane = 0; plane < revisionPlanes.length; plane++) {
+			planeDeltas[plane] = revisionPlanes[plane].commit();
+		}
+		undoRevisions.addLast(BoardRevision.of(planeDeltas, committedProgress, changeSet.getChangedCellIndices().clone()));
+		redoRevisions.clear();
+		committedProgress = currentProgress();
 	}
 
-	private void openSurroundedCells2(CellPosition cellPosition) {
-		Stack<CellPosition> stack = new Stack<>();
-		stack.push(cellPosition);
+	private boolean hasPendingRevisionChanges() {
+		for (CopyOnWriteBitPlane revisionPlane : revisionPlanes) {
+			if (revisionPlane.hasPendingChanges()) {
+				return true;
+			}
+		}
+		return false;
+	}
 
-		while (!stack.isEmpty()) {
-			openAndPushCellAt(stack);
+	/**
+	 * 지금 상태를 되돌리기의 시작점으로 삼는다.
+	 */
+	private void resetRevisions() {
+		if (revisionPlanes == null) {
+			return;
 		}
+
+		for (CopyOnWriteBitPlane revisionPlane : revisionPlanes) {
+			revisionPlane.commit();
+		}
+		undoRevisions.clear();
+		redoRevisions.clear();
+		committedProgress = currentProgress();
+	}
+
+	private BoardProgress currentProgress() {
+		return BoardProgress.of(
+			gameStatus.get(),
+			unopenedSafeCellCount.get(),
+			correctlyFlaggedLandMineCount.get(),
+			flagCount.get(),
+			landMinesPlaced
+		);
 	}
 
-	private void openAndPushCellAt(Stack<CellPosition> stack) {
-		CellPosition currentCellPosition = stack.pop();
+	private void restoreProgress(BoardProgress progress) {
+		gameStatus.set(progress.getGameStatus());
+		unopenedSafeCellCount.set(progress.getUnopenedSafeCellCount());
+		correctlyFlaggedLandMineCount.set(progress.getCorrectlyFlaggedLandMineCount());
+		flagCount.set(progress.getFlagCount());
+		landMinesPlaced = progress.isLandMinesPlaced();
+		committedProgress = progress;
+	}
 
-		// 기존 cell이 이미 선택되었었는지 검증
-		if (isOpenedCell(currentCellPosition)) {
+	private void initializeGameStatus() {
+		gameStatus.set(GameStatus.IN_PROGRESS);
+	}
+
+	private void initializeEmptyCells() {
+		landMineCells.clearAll();
+		openedCells.clearAll();
+		flaggedCells.clearAll();
+	}
+
+	private void initializeCounters() {
+		unopenedSafeCellCount.set(landMineCells.size() - landMineCount);
+		correctlyFlaggedLandMineCount.set(0);
+		flagCount.set(0);
+	}
+
+	/**
+	 * 여러 플레이어가 동시에 첫 수를 두어도 한 번만 놓는다.
+	 * 열린 셀이 아직 없으므로 숫자를 미리 계산해 둘 것은 없고(숫자는 조회할 때 센다),
+	 * 배치 전에 꽂힌 깃발 중 지뢰 위에 있는 것만 다시 센다.
+	 */
+	private synchronized void placeLandMinesAvoiding(int safeIndex) {
+		if (landMinesPlaced) {
 			return;
 		}
 
-		// 지뢰 cell인지 검증
-		if (isLandMineCellAt(currentCellPosition)) {
-			return;
+		landMinePlacer.placeAvoiding(landMineCells, landMineCount, topology, safeIndex,
+			new SplittableRandom(landMinePlacementSeed));
+		correctlyFlaggedLandMineCount.set(countFlaggedLandMines());
+		landMinesPlaced = true;
+		recordProgress();
+	}
+
+	private int countFlaggedLandMines() {
+		int count = 0;
+		for (int wordIndex = 0; wordIndex < landMineCells.wordCount(); wordIndex++) {
+			count += Long.bitCount(landMineCells.getWord(wordIndex) & flaggedCells.getWord(wordIndex));
 		}
+		return count;
+	}
 
-		openOneCellAt(currentCellPosition);
+	private CellSnapshot getOpenedSnapshot(int index) {
+		if (landMineCells.get(index)) {
+			return CellSnapshot.ofLandMine();
+		}
 
-		// 지뢰 count를 가지고 있는 cell인지 검증
-		if (doesCellHaveLandMineCount(currentCellPosition)) {
-			return;
+		int count = countNearbyLandMines(index);
+		if (count != 0) {
+			return CellSnapshot.ofNumber(count);
 		}
+		return CellSnapshot.ofEmpty();
+	}
 
-		// 현재 칸 기준으로 주위 8칸을 돌면서 지뢰를 몇 개 가지고 있는지 계산
-		List<CellPosition> surroundedPosition = calculateSurroundedPosition(currentCellPosition, getRowSize(), getColSize());
-		for (CellPosition position : surroundedPosition) {
-			stack.push(position);
+	/**
+	 * 근처에 위치한 지뢰의 수 조회
+	 * @return
+	 */
+	private int countNearbyLandMines(int index) {
+		return topology.countNearbyLandMines(landMineCells, index);
+	}
+
+	private FloodFill borrowFloodFill() {
+		FloodFill floodFill = idleFloodFills.poll();
+		if (floodFill != null) {
+			return floodFill;
 		}
+		return new FloodFill(topology, landMineCells, openedCells, this::openOneCellAt);
 	}
 
-	private void openOneCellAt(CellPosition cellPosition) {
-		Cell cell = findCell(cellPosition);
-		cell.open();
+	private void openOneCellAt(int index) {
+		if (!openedCells.set(index)) {
+			return;
+		}
+		changeRecorder.get().record(index);
+
+		// 깃발이 꽂힌 cell을 열면 깃발은 회수한다
+		if (flaggedCells.clear(index)) {
+			countFlag(index, -1);
+		}
+		if (!landMineCells.get(index)) {
+			unopenedSafeCellCount.decrementAndGet();
+		}
 	}
 
-	private boolean isOpenedCell(CellPosition cellPosition) {
-		return findCell(cellPosition).isOpened();
+	private ChangeSet finishMove() {
+		ChangeSet changeSet = changeRecorder.get().finish(gameStatus.get());
+		if (revisionPlanes != null) {
+			commitRevision(changeSet);
+		}
+		return changeSet;
 	}
 
-	private boolean isLandMineCellAt(CellPosition cellPosition) {
-		Cell cell = findCell(cellPosition);
-		return cell.isLandMine();
+	private void countFlag(int index, int delta) {
+		flagCount.addAndGet(delta);
+		if (landMineCells.get(index)) {
+			correctlyFlaggedLandMineCount.addAndGet(delta);
+		}
 	}
 
-	private boolean doesCellHaveLandMineCount(CellPosition cellPosition) {
-		return findCell(cellPosition).hasLandMineCount();
+	private boolean isLandMineCellAt(int index) {
+		return landMineCells.get(index);
 	}
 
 	/**
@@ -240,22 +744,54 @@ public class GameBoard {
 
 	/**
 	 * 셀이 모두 열려있는지 확인
+	 * 지뢰가 아닌 셀은 모두 열려 있고, 지뢰에는 모두 깃발이 꽂혀 있어야 한다.
 	 * @return
 	 */
 	private boolean isAllCellChecked() {
-		Cells cells = Cells.from(board);
-		return cells.isAllChecked();
+		return unopenedSafeCellCount.get() == 0
+			&& correctlyFlaggedLandMineCount.get() == landMineCount;
+	}
+
+	private void recordProgress() {
+		if (boardFile != null) {
+			writeProgressTo(boardFile);
+		}
+	}
+
+	private void writeProgressTo(BoardFile targetFile) {
+		targetFile.writeProgress(
+			gameStatus.get(),
+			unopenedSafeCellCount.get(),
+			correctlyFlaggedLandMineCount.get(),
+			flagCount.get()
+		);
+		targetFile.writeLandMinePlacement(!landMinesPlaced, landMinePlacementSeed);
+	}
+
+	private void readProgressFrom(BoardFile boardFile) {
+		gameStatus.set(boardFile.getGameStatus());
+		unopenedSafeCellCount.set(boardFile.getUnopenedSafeCellCount());
+		correctlyFlaggedLandMineCount.set(boardFile.getCorrectlyFlaggedLandMineCount());
+		flagCount.set(boardFile.getFlagCount());
+		landMinesPlaced = !boardFile.isLandMinePlacementPending();
+		landMinePlacementSeed = boardFile.getLandMinePlacementSeed();
 	}
 
 	private void changeGameStatusToWin() {
-		gameStatus = GameStatus.WIN;
+		gameStatus.compareAndSet(GameStatus.IN_PROGRESS, GameStatus.WIN);
 	}
 
 	private void changeGameStatusToLose() {
-		gameStatus = GameStatus.LOSE;
+		gameStatus.compareAndSet(GameStatus.IN_PROGRESS, GameStatus.LOSE);
+	}
+
+	private int indexOf(CellPosition cellPosition) {
+		return indexOf(cellPosition.getRowIndex(), cellPosition.getColIndex());
 	}
 
-	private Cell findCell(CellPosition cellPosition) {
-		return board[cellPosition.getRowIndex()][cellPosition.getColIndex()];
+	private enum PlaneStorage {
+		HEAP,
+		CONCURRENT,
+		COPY_ON_WRITE
 	}
 }
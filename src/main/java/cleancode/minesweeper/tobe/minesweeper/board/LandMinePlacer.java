@@ -0,0 +1,214 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.stream.IntStream;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopology;
+
+/**
+ * 셀 인덱스 범위에서 지뢰 위치를 바로 뽑아 비트 평면에 기록한다.
+ * Floyd 샘플링을 사용하므로 지뢰 수에 비례하는 시간만 들고, 셀마다 좌표 객체를 만들지 않는다.
+ */
+public class LandMinePlacer {
+
+    // 64의 배수라서 줄무늬끼리 같은 long 워드를 나눠 쓰지 않는다
+    private static final int STRIPE_CELL_COUNT = 1 << 16;
+
+    private static final double[] LOG_FACTORIALS = new double[256];
+
+    static {
+        for (int n = 1; n < LOG_FACTORIALS.length; n++) {
+            LOG_FACTORIALS[n] = LOG_FACTORIALS[n - 1] + Math.log(n);
+        }
+    }
+
+    public void place(BitPlane landMineCells, int landMineCount, RandomGenerator random) {
+        int cellCount = landMineCells.size();
+        validateLandMineCount(landMineCount, cellCount);
+
+        placeInRange(landMineCells, 0, cellCount, landMineCount, random);
+    }
+
+    /**
+     * 보드를 줄무늬로 나눠 fork-join 풀에서 동시에 채운다.
+     * 줄무늬 크기와 난수 분기 순서가 보드 크기와 시드로만 정해지므로, 코어 수와 상관없이 결과가 같다.
+     */
+    public void placeInStripes(BitPlane landMineCells, int landMineCount, SplittableGenerator random) {
+        int cellCount = landMineCells.size();
+        validateLandMineCount(landMineCount, cellCount);
+
+        int stripeCount = Math.max((cellCount + STRIPE_CELL_COUNT - 1) / STRIPE_CELL_COUNT, 1);
+        int[] landMineCounts = distributeLandMines(cellCount, landMineCount, stripeCount, random);
+
+        SplittableGenerator[] stripeRandoms = new SplittableGenerator[stripeCount];
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            stripeRandoms[stripe] = random.split();
+        }
+
+        IntStream.range(0, stripeCount)
+            .parallel()
+            .forEach(stripe -> {
+                int fromIndex = stripe * STRIPE_CELL_COUNT;
+                int toIndex = Math.min(fromIndex + STRIPE_CELL_COUNT, cellCount);
+                placeInRange(landMineCells, fromIndex, toIndex, landMineCounts[stripe], stripeRandoms[stripe]);
+            });
+    }
+
+    /**
+     * safeIndex 셀과 그 이웃을 비워 두고 지뢰를 놓는다. (첫 클릭이 항상 빈 칸이 되도록)
+     * 전체에서 고르게 뽑은 뒤 비워 둘 셀에 떨어진 지뢰만 나머지 빈 셀로 다시 뽑는다.
+     * 이 과정은 비워 둘 셀 밖의 셀들을 구분하지 않으므로, 그 밖에서 고르게 뽑은 것과 같은 분포다.
+     * 지뢰가 너무 많아 이웃까지 비울 수 없으면 safeIndex 셀만 비운다.
+     */
+    public void placeAvoiding(BitPlane landMineCells, int landMineCount, BoardTopology topology, int safeIndex,
+        SplittableGenerator random) {
+        placeInStripes(landMineCells, landMineCount, random);
+
+        int cellCount = landMineCells.size();
+        int[] excludedIndices = new int[topology.getMaxNeighborCount() + 1];
+        int excludedCount = topology.findNeighbors(safeIndex, excludedIndices);
+        excludedIndices[excludedCount++] = safeIndex;
+        if (landMineCount > cellCount - excludedCount) {
+            excludedIndices[0] = safeIndex;
+            excludedCount = landMineCount < cellCount ? 1 : 0;
+        }
+
+        for (int i = 0; i < excludedCount; i++) {
+            if (landMineCells.clear(excludedIndices[i])) {
+                moveToRandomEmptyCell(landMineCells, excludedIndices, excludedCount, random);
+            }
+        }
+    }
+
+    private void moveToRandomEmptyCell(BitPlane landMineCells, int[] excludedIndices, int excludedCount,
+        RandomGenerator random) {
+        while (true) {
+            int candidate = random.nextInt(landMineCells.size());
+            if (!isExcluded(candidate, excludedIndices, excludedCount) && landMineCells.set(candidate)) {
+                return;
+            }
+        }
+    }
+
+    private boolean isExcluded(int index, int[] excludedIndices, int excludedCount) {
+        for (int i = 0; i < excludedCount; i++) {
+            if (excludedIndices[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void validateLandMineCount(int landMineCount, int cellCount) {
+        if (landMineCount < 0 || landMineCount > cellCount) {
+            throw new IllegalArgumentException("지뢰 수는 0 이상, 셀 수 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * [fromIndex, toIndex) 에서 count 개를 Floyd 샘플링으로 뽑는다.
+     */
+    private void placeInRange(BitPlane landMineCells, int fromIndex, int toIndex, int count, RandomGenerator random) {
+        int rangeSize = toIndex - fromIndex;
+
+        // [0, j] 에서 하나를 뽑고, 이미 뽑힌 자리라면 j 를 대신 선택
+        for (int j = rangeSize - count; j < rangeSize; j++) {
+            int candidate = random.nextInt(j + 1);
+            if (!landMineCells.set(fromIndex + candidate)) {
+                landMineCells.set(fromIndex + j);
+            }
+        }
+    }
+
+    /**
+     * 전체 셀에서 지뢰를 비복원 추출했을 때 각 줄무늬에 떨어지는 지뢰 수 (다변량 초기하 분포)
+     * 줄무늬를 차례로 보며, 남은 셀 중 이 줄무늬의 셀 수만큼 뽑았을 때 남은 지뢰가 몇 개 걸리는지를
+     * 초기하 분포에서 한 번 뽑는다. 지뢰 수와 상관없이 줄무늬마다 한 번만 뽑는다.
+     */
+    private int[] distributeLandMines(int cellCount, int landMineCount, int stripeCount, RandomGenerator random) {
+        int[] landMineCounts = new int[stripeCount];
+        int remainingCellCount = cellCount;
+        int remainingLandMineCount = landMineCount;
+
+        for (int stripe = 0; stripe < stripeCount - 1; stripe++) {
+            landMineCounts[stripe] = drawHypergeometric(remainingCellCount, remainingLandMineCount, STRIPE_CELL_COUNT, random);
+            remainingCellCount -= STRIPE_CELL_COUNT;
+            remainingLandMineCount -= landMineCounts[stripe];
+        }
+        landMineCounts[stripeCount - 1] = remainingLandMineCount;
+        return landMineCounts;
+    }
+
+    /**
+     * 셀 populationSize 개 중 지뢰가 landMineCount 개일 때, sampleSize 개를 뽑아 걸리는 지뢰 수
+     * 최빈값의 확률에서 시작해 양옆으로 번갈아 넓혀 가며 난수를 깎아 내므로(chop-down) 표준편차에 비례하는 단계만 든다.
+     */
+    private int drawHypergeometric(int populationSize, int landMineCount, int sampleSize, RandomGenerator random) {
+        int safeCellCount = populationSize - landMineCount;
+        int min = Math.max(0, sampleSize - safeCellCount);
+        int max = Math.min(sampleSize, landMineCount);
+        if (min == max) {
+            return min;
+        }
+
+        long modeNumerator = (long) (sampleSize + 1) * (landMineCount + 1);
+        int mode = (int) Math.min(Math.max(modeNumerator / (populationSize + 2), min), max);
+        double modeProbability = Math.exp(
+            logBinomial(landMineCount, mode)
+                + logBinomial(safeCellCount, sampleSize - mode)
+                - logBinomial(populationSize, sampleSize)
+        );
+
+        double remaining = random.nextDouble() - modeProbability;
+        int lower = mode;
+        int upper = mode;
+        double lowerProbability = modeProbability;
+        double upperProbability = modeProbability;
+        while (remaining > 0 && (lower > min || upper < max)) {
+            if (upper < max) {
+                upperProbability *= nextProbabilityRatio(upper, populationSize, landMineCount, sampleSize);
+                upper++;
+                remaining -= upperProbability;
+                if (remaining <= 0) {
+                    return upper;
+                }
+            }
+            if (lower > min) {
+                lowerProbability /= nextProbabilityRatio(lower - 1, populationSize, landMineCount, sampleSize);
+                lower--;
+                remaining -= lowerProbability;
+                if (remaining <= 0) {
+                    return lower;
+                }
+            }
+        }
+        // 부동소수점 오차로 확률의 합이 1에 조금 못 미쳐 남은 몫
+        return mode;
+    }
+
+    /**
+     * P(k + 1) / P(k)
+     */
+    private double nextProbabilityRatio(int k, int populationSize, int landMineCount, int sampleSize) {
+        double numerator = (double) (landMineCount - k) * (sampleSize - k);
+        double denominator = (double) (k + 1) * (populationSize - landMineCount - sampleSize + k + 1);
+        return numerator / denominator;
+    }
+
+    private double logBinomial(int n, int k) {
+        return logFactorial(n) - logFactorial(k) - logFactorial(n - k);
+    }
+
+    /**
+     * ln(n!) 작은 수는 표에서, 큰 수는 Stirling 급수로 구한다. (상대 오차 1e-12 이하)
+     */
+    private static double logFactorial(int n) {
+        if (n < LOG_FACTORIALS.length) {
+            return LOG_FACTORIALS[n];
+        }
+        double x = n;
+        return x * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI * x) + 1 / (12 * x) - 1 / (360 * x * x * x);
+    }
+}
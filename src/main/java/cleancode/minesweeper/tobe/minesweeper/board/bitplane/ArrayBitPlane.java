@@ -0,0 +1,38 @@
+package cleancode.minesweeper.tobe.minesweeper.board.bitplane;
+
+/**
+ * 힙의 long 배열에 워드를 두는 기본 평면 (한 스레드에서만 쓴다)
+ */
+public class ArrayBitPlane extends BitPlane {
+
+    private final long[] words;
+
+    public ArrayBitPlane(int size) {
+        super(size);
+        this.words = new long[wordCountOf(size)];
+    }
+
+    @Override
+    public long getWord(int wordIndex) {
+        return words[wordIndex];
+    }
+
+    @Override
+    protected void putWord(int wordIndex, long word) {
+        words[wordIndex] = word;
+    }
+
+    @Override
+    protected long getAndOrWord(int wordIndex, long mask) {
+        long before = words[wordIndex];
+        words[wordIndex] = before | mask;
+        return before;
+    }
+
+    @Override
+    protected long getAndAndWord(int wordIndex, long mask) {
+        long before = words[wordIndex];
+        words[wordIndex] = before & mask;
+        return before;
+    }
+}
@@ -0,0 +1,40 @@
+package cleancode.minesweeper.tobe.minesweeper.board.bitplane;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 워드를 원자적으로 갱신하는 평면
+ * 여러 스레드가 같은 비트를 켜려고 해도 set() 이 true 를 돌려주는 것은 정확히 한 번이다.
+ */
+public class AtomicBitPlane extends BitPlane {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+
+    public AtomicBitPlane(int size) {
+        super(size);
+        this.words = new long[wordCountOf(size)];
+    }
+
+    @Override
+    public long getWord(int wordIndex) {
+        return (long) WORDS.getAcquire(words, wordIndex);
+    }
+
+    @Override
+    protected void putWord(int wordIndex, long word) {
+        WORDS.setRelease(words, wordIndex, word);
+    }
+
+    @Override
+    protected long getAndOrWord(int wordIndex, long mask) {
+        return (long) WORDS.getAndBitwiseOr(words, wordIndex, mask);
+    }
+
+    @Override
+    protected long getAndAndWord(int wordIndex, long mask) {
+        return (long) WORDS.getAndBitwiseAnd(words, wordIndex, mask);
+    }
+}
@@ -0,0 +1,161 @@
+package cleancode.minesweeper.tobe.minesweeper.board.bitplane;
+
+import java.nio.LongBuffer;
+
+/**
+ * 보드의 셀 하나를 비트 하나로 표현하는 평면
+ * 셀 인덱스는 row * colSize + col (row-major) 이다.
+ * 워드를 어디에 어떻게 두는지(힙 배열, 매핑된 파일, 원자적 갱신)는 하위 클래스가 정한다.
+ */
+public abstract class BitPlane {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final long WORD_MASK = 0xFFFFFFFFFFFFFFFFL;
+
+    private final int size;
+
+    protected BitPlane(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("비트 평면의 크기는 음수일 수 없습니다.");
+        }
+        this.size = size;
+    }
+
+    public static BitPlane ofSize(int size) {
+        return new ArrayBitPlane(size);
+    }
+
+    /**
+     * 여러 스레드가 동시에 비트를 바꿔도 되는 평면 (워드 단위 CAS)
+     */
+    public static BitPlane concurrentOfSize(int size) {
+        return new AtomicBitPlane(size);
+    }
+
+    /**
+     * 커밋마다 바뀐 청크만 남겨 되돌릴 수 있는 평면
+     */
+    public static CopyOnWriteBitPlane copyOnWriteOfSize(int size) {
+        return new CopyOnWriteBitPlane(size);
+    }
+
+    /**
+     * 주어진 버퍼(예: 매핑된 파일 영역)를 그대로 저장소로 쓰는 평면
+     */
+    public static BitPlane over(LongBuffer words, int size) {
+        return new BufferBitPlane(words, size);
+    }
+
+    public static int wordCountOf(int size) {
+        return wordIndexOf(size - 1) + 1;
+    }
+
+    public abstract long getWord(int wordIndex);
+
+    protected abstract void putWord(int wordIndex, long word);
+
+    /**
+     * 워드에 mask 를 OR 하고 바뀌기 전의 워드를 돌려준다.
+     */
+    protected abstract long getAndOrWord(int wordIndex, long mask);
+
+    /**
+     * 워드에 mask 를 AND 하고 바뀌기 전의 워드를 돌려준다.
+     */
+    protected abstract long getAndAndWord(int wordIndex, long mask);
+
+    public boolean get(int index) {
+        return (getWord(wordIndexOf(index)) & (1L << index)) != 0;
+    }
+
+    /**
+     * 비트를 켠다.
+     * @return 실제로 값이 바뀌었으면 true
+     */
+    public boolean set(int index) {
+        long bit = 1L << index;
+        return (getAndOrWord(wordIndexOf(index), bit) & bit) == 0;
+    }
+
+    /**
+     * 비트를 끈다.
+     * @return 실제로 값이 바뀌었으면 true
+     */
+    public boolean clear(int index) {
+        long bit = 1L << index;
+        return (getAndAndWord(wordIndexOf(index), ~bit) & bit) != 0;
+    }
+
+    public void clearAll() {
+        for (int wordIndex = 0; wordIndex < wordCount(); wordIndex++) {
+            putWord(wordIndex, 0L);
+        }
+    }
+
+    /**
+     * 다른 평면의 워드를 그대로 복사한다. (크기가 같아야 한다)
+     */
+    public void copyFrom(BitPlane other) {
+        if (other.size != size) {
+            throw new IllegalArgumentException("크기가 다른 비트 평면은 복사할 수 없습니다.");
+        }
+        for (int wordIndex = 0; wordIndex < wordCount(); wordIndex++) {
+            putWord(wordIndex, other.getWord(wordIndex));
+        }
+    }
+
+    /**
+     * [fromIndex, toIndex) 구간에 켜진 비트 수를 워드 단위 popcount 로 계산
+     */
+    public int countInRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return 0;
+        }
+
+        int startWordIndex = wordIndexOf(fromIndex);
+        int endWordIndex = wordIndexOf(toIndex - 1);
+        long firstWordMask = WORD_MASK << fromIndex;
+        long lastWordMask = WORD_MASK >>> -toIndex;
+
+        if (startWordIndex == endWordIndex) {
+            return Long.bitCount(getWord(startWordIndex) & firstWordMask & lastWordMask);
+        }
+
+        int count = Long.bitCount(getWord(startWordIndex) & firstWordMask);
+        for (int wordIndex = startWordIndex + 1; wordIndex < endWordIndex; wordIndex++) {
+            count += Long.bitCount(getWord(wordIndex));
+        }
+        count += Long.bitCount(getWord(endWordIndex) & lastWordMask);
+        return count;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (int wordIndex = 0; wordIndex < wordCount(); wordIndex++) {
+            count += Long.bitCount(getWord(wordIndex));
+        }
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int wordCount() {
+        return wordCountOf(size);
+    }
+
+    /**
+     * 마지막 워드에서 보드 밖에 해당하는 비트를 제외하기 위한 마스크
+     */
+    public long validBitsOf(int wordIndex) {
+        if (wordIndex < wordCount() - 1) {
+            return WORD_MASK;
+        }
+        return WORD_MASK >>> -size;
+    }
+
+    private static int wordIndexOf(int index) {
+        return index >> ADDRESS_BITS_PER_WORD;
+    }
+}
@@ -0,0 +1,43 @@
+package cleancode.minesweeper.tobe.minesweeper.board.bitplane;
+
+import java.nio.LongBuffer;
+
+/**
+ * LongBuffer(예: 메모리 매핑된 파일 영역)를 그대로 저장소로 쓰는 평면
+ */
+public class BufferBitPlane extends BitPlane {
+
+    private final LongBuffer words;
+
+    public BufferBitPlane(LongBuffer words, int size) {
+        super(size);
+        if (words.capacity() < wordCountOf(size)) {
+            throw new IllegalArgumentException("비트 평면을 담기에 워드 버퍼가 작습니다.");
+        }
+        this.words = words;
+    }
+
+    @Override
+    public long getWord(int wordIndex) {
+        return words.get(wordIndex);
+    }
+
+    @Override
+    protected void putWord(int wordIndex, long word) {
+        words.put(wordIndex, word);
+    }
+
+    @Override
+    protected long getAndOrWord(int wordIndex, long mask) {
+        long before = words.get(wordIndex);
+        words.put(wordIndex, before | mask);
+        return before;
+    }
+
+    @Override
+    protected long getAndAndWord(int wordIndex, long mask) {
+        long before = words.get(wordIndex);
+        words.put(wordIndex, before & mask);
+        return before;
+    }
+}
@@ -0,0 +1,32 @@
+package cleancode.minesweeper.tobe.minesweeper.board.bitplane;
+
+/**
+ * CopyOnWriteBitPlane 에서 한 번의 커밋 동안 바뀐 청크들 (청크 인덱스와 그 자리에 둘 워드 배열)
+ * 청크 배열은 평면과 공유하지만 어느 쪽도 제자리에서 고치지 않는다.
+ */
+public class ChunkDelta {
+
+    private final int[] chunkIndices;
+    private final long[][] chunks;
+
+    private ChunkDelta(int[] chunkIndices, long[][] chunks) {
+        this.chunkIndices = chunkIndices;
+        this.chunks = chunks;
+    }
+
+    public static ChunkDelta of(int[] chunkIndices, long[][] chunks) {
+        return new ChunkDelta(chunkIndices, chunks);
+    }
+
+    public int[] getChunkIndices() {
+        return chunkIndices;
+    }
+
+    public long[] getChunk(int i) {
+        return chunks[i];
+    }
+
+    public int getChunkCount() {
+        return chunkIndices.length;
+    }
+}
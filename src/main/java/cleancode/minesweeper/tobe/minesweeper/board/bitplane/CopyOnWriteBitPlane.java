@@ -0,0 +1,135 @@
+package cleancode.minesweeper.tobe.minesweeper.board.bitplane;
+
+import java.util.Arrays;
+
+/**
+ * 워드를 고정 크기 청크로 나눠 두고, 커밋한 뒤 처음 쓰는 청크만 복사하는 평면 (같은 청크는 한 스레드에서만 쓴다)
+ * 커밋 사이에 바뀐 청크의 "바뀌기 전" 배열만 ChunkDelta 로 넘기므로, 수 하나를 남기는 비용은 바뀐 청크 수에 비례한다.
+ * 넘긴 청크 배열은 다시 쓰지 않으므로 되돌릴 때는 청크 참조만 맞바꾸면 된다.
+ */
+public class CopyOnWriteBitPlane extends BitPlane {
+
+    private static final int ADDRESS_WORDS_PER_CHUNK = 6;
+    private static final int CHUNK_WORD_COUNT = 1 << ADDRESS_WORDS_PER_CHUNK;
+    private static final int CHUNK_WORD_MASK = CHUNK_WORD_COUNT - 1;
+
+    // 되돌리기로 돌아온 청크처럼 이번 세대에 만든 것이 아닌 청크
+    private static final int SHARED = -1;
+
+    private final long[][] chunks;
+    // 청크를 복사해 만든 세대. 지금 세대와 같아야 제자리에서 쓸 수 있다
+    private final int[] chunkGenerations;
+    private int generation;
+
+    // 지난 커밋 이후 복사한 청크와 그 전 배열
+    private int[] pendingChunkIndices;
+    private long[][] pendingChunks;
+    private int pendingChunkCount;
+
+    public CopyOnWriteBitPlane(int size) {
+        super(size);
+        int wordCount = wordCountOf(size);
+        int chunkCount = (wordCount + CHUNK_WORD_COUNT - 1) >> ADDRESS_WORDS_PER_CHUNK;
+
+        this.chunks = new long[chunkCount][];
+        for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+            int chunkWordCount = Math.min(CHUNK_WORD_COUNT, wordCount - (chunkIndex << ADDRESS_WORDS_PER_CHUNK));
+            chunks[chunkIndex] = new long[chunkWordCount];
+        }
+        this.chunkGenerations = new int[chunkCount];
+        this.pendingChunkIndices = new int[Math.min(chunkCount, 8)];
+        this.pendingChunks = new long[pendingChunkIndices.length][];
+    }
+
+    @Override
+    public long getWord(int wordIndex) {
+        return chunks[wordIndex >> ADDRESS_WORDS_PER_CHUNK][wordIndex & CHUNK_WORD_MASK];
+    }
+
+    @Override
+    protected void putWord(int wordIndex, long word) {
+        if (getWord(wordIndex) != word) {
+            writableChunkOf(wordIndex)[wordIndex & CHUNK_WORD_MASK] = word;
+        }
+    }
+
+    @Override
+    protected long getAndOrWord(int wordIndex, long mask) {
+        long before = getWord(wordIndex);
+        putWord(wordIndex, before | mask);
+        return before;
+    }
+
+    @Override
+    protected long getAndAndWord(int wordIndex, long mask) {
+        long before = getWord(wordIndex);
+        putWord(wordIndex, before & mask);
+        return before;
+    }
+
+    public boolean hasPendingChanges() {
+        return pendingChunkCount != 0;
+    }
+
+    /**
+     * 지금 상태를 확정하고, 지난 커밋 이후 바뀐 청크들의 바뀌기 전 배열을 돌려준다.
+     * 이후에 쓰는 청크는 다시 복사된다.
+     */
+    public ChunkDelta commit() {
+        ChunkDelta delta = ChunkDelta.of(
+            Arrays.copyOf(pendingChunkIndices, pendingChunkCount),
+            Arrays.copyOf(pendingChunks, pendingChunkCount)
+        );
+        Arrays.fill(pendingChunks, 0, pendingChunkCount, null);
+        pendingChunkCount = 0;
+        generation++;
+        return delta;
+    }
+
+    /**
+     * delta 의 청크를 평면에 되돌려 놓고, 그 자리에 있던 청크로 반대 방향의 delta 를 만든다.
+     * (되돌리기의 결과를 다시 revert 하면 원래대로 돌아온다) 커밋하지 않은 변경이 있으면 쓸 수 없다.
+     */
+    public ChunkDelta revert(ChunkDelta delta) {
+        if (hasPendingChanges()) {
+            throw new IllegalStateException("커밋하지 않은 변경이 있는 평면은 되돌릴 수 없습니다.");
+        }
+
+        int[] chunkIndices = delta.getChunkIndices();
+        long[][] displacedChunks = new long[chunkIndices.length][];
+        for (int i = 0; i < chunkIndices.length; i++) {
+            int chunkIndex = chunkIndices[i];
+            displacedChunks[i] = chunks[chunkIndex];
+            chunks[chunkIndex] = delta.getChunk(i);
+            chunkGenerations[chunkIndex] = SHARED;
+        }
+        return ChunkDelta.of(chunkIndices, displacedChunks);
+    }
+
+    private long[] writableChunkOf(int wordIndex) {
+        int chunkIndex = wordIndex >> ADDRESS_WORDS_PER_CHUNK;
+        if (chunkGenerations[chunkIndex] == generation) {
+            return chunks[chunkIndex];
+        }
+
+        long[] chunk = chunks[chunkIndex];
+        addPending(chunkIndex, chunk);
+        long[] copiedChunk = chunk.clone();
+        chunks[chunkIndex] = copiedChunk;
+        chunkGenerations[chunkIndex] = generation;
+        return copiedChunk;
+    }
+
+    /**
+     * 지뢰 배치처럼 서로 다른 청크를 여러 스레드가 나눠 채우는 경우에도 목록이 깨지지 않도록 잠근다. (청크마다 한 번뿐이다)
+     */
+    private synchronized void addPending(int chunkIndex, long[] chunk) {
+        if (pendingChunkCount == pendingChunkIndices.length) {
+            pendingChunkIndices = Arrays.copyOf(pendingChunkIndices, pendingChunkCount * 2);
+            pendingChunks = Arrays.copyOf(pendingChunks, pendingChunkCount * 2);
+        }
+        pendingChunkIndices[pendingChunkCount] = chunkIndex;
+        pendingChunks[pendingChunkCount] = chunk;
+        pendingChunkCount++;
+    }
+}
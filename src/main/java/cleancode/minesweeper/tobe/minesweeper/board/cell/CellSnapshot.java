@@ -2,8 +2,26 @@ package cleancode.minesweeper.tobe.minesweeper.board.cell;
 
 import java.util.Objects;
 
+/**
+ * 셀 스냅샷은 숫자가 아닌 상태 4가지와 근처 지뢰 수 0~8 의 숫자 스냅샷뿐이므로, 미리 만들어 둔 인스턴스를 공유한다. (flyweight)
+ * 같은 스냅샷은 항상 같은 인스턴스라서 화면을 그리거나 비교할 때 객체를 만들지 않는다.
+ */
 public class CellSnapshot {
 
+    private static final int MAX_NEARBY_LAND_MINE_COUNT = 8;
+
+    private static final CellSnapshot EMPTY = new CellSnapshot(CellSnapshotStatus.EMPTY, 0);
+    private static final CellSnapshot FLAG = new CellSnapshot(CellSnapshotStatus.FLAG, 0);
+    private static final CellSnapshot LAND_MINE = new CellSnapshot(CellSnapshotStatus.LAND_MIND, 0);
+    private static final CellSnapshot UNCHECKED = new CellSnapshot(CellSnapshotStatus.UNCHECKED, 0);
+    private static final CellSnapshot[] NUMBERS = new CellSnapshot[MAX_NEARBY_LAND_MINE_COUNT + 1];
+
+    static {
+        for (int count = 0; count <= MAX_NEARBY_LAND_MINE_COUNT; count++) {
+            NUMBERS[count] = new CellSnapshot(CellSnapshotStatus.NUMBER, count);
+        }
+    }
+
     private final CellSnapshotStatus status;
     private final int nearByLandMineCount;
 
@@ -12,28 +30,43 @@ public class CellSnapshot {
         this.nearByLandMineCount = nearByLandMineCount;
     }
 
-    public static CellSnapshot of(CellSnapshotStatus status, int nearByLandMineCount) {
-        return new CellSnapshot(status, nearByLandMineCount);
+    /**
+     * 숫자가 아닌 상태의 스냅샷. 숫자 셀은 근처 지뢰 수가 필요하므로 ofNumber 로 얻는다.
+     */
+    public static CellSnapshot of(CellSnapshotStatus status) {
+        return switch (status) {
+            case EMPTY -> EMPTY;
+            case FLAG -> FLAG;
+            case LAND_MIND -> LAND_MINE;
+            case UNCHECKED -> UNCHECKED;
+            case NUMBER -> throw new IllegalArgumentException("숫자 셀의 스냅샷은 ofNumber 로 얻어야 합니다.");
+        };
     }
 
     public static CellSnapshot ofEmpty() {
-        return new CellSnapshot(CellSnapshotStatus.EMPTY, 0);
+        return EMPTY;
     }
 
     public static CellSnapshot ofFlag() {
-        return new CellSnapshot(CellSnapshotStatus.FLAG, 0);
+        return FLAG;
     }
 
     public static CellSnapshot ofLandMine() {
-        return new CellSnapshot(CellSnapshotStatus.LAND_MIND, 0);
+        return LAND_MINE;
     }
 
+    /**
+     * 이웃은 어느 보드 모양에서도 8개를 넘지 않으므로 근처 지뢰 수는 0~8 이다.
+     */
     public static CellSnapshot ofNumber(int nearByLandMineCount) {
-        return new CellSnapshot(CellSnapshotStatus.NUMBER, nearByLandMineCount);
+        if (nearByLandMineCount < 0 || nearByLandMineCount > MAX_NEARBY_LAND_MINE_COUNT) {
+            throw new IllegalArgumentException("근처 지뢰 수는 0 이상, " + MAX_NEARBY_LAND_MINE_COUNT + " 이하여야 합니다: " + nearByLandMineCount);
+        }
+        return NUMBERS[nearByLandMineCount];
     }
 
     public static CellSnapshot ofUnchecked() {
-        return new CellSnapshot(CellSnapshotStatus.UNCHECKED, 0);
+        return UNCHECKED;
     }
 
     public boolean isSameStatus(CellSnapshotStatus cellSnapshotStatus) {
@@ -50,6 +83,8 @@ public class CellSnapshot {
 
     @Override
     public boolean equals(Object o) {
+        if (this == o)
+            return true;
         if (!(o instanceof CellSnapshot that))
             return false;
         return nearByLandMineCount == that.nearByLandMineCount && status == that.status;
@@ -1,32 +0,0 @@
-package cleancode.minesweeper.tobe.minesweeper.board.cell;
-
-public class CellState {
-
-    private boolean isFlagged;
-    private boolean isOpened;
-
-    private CellState(boolean isFlagged, boolean isOpened) {
-        this.isFlagged = isFlagged;
-        this.isOpened = isOpened;
-    }
-
-    public static CellState initialize() {
-        return new CellState(false, false);
-    }
-
-    public void flag() {
-        this.isFlagged = true;
-    }
-
-    public void open() {
-        isOpened = true;
-    }
-
-    public boolean isOpened() {
-        return isOpened;
-    }
-
-    public boolean isFlagged() {
-        return isFlagged;
-    }
-}
@@ -0,0 +1,35 @@
+package cleancode.minesweeper.tobe.minesweeper.board.change;
+
+import java.util.Arrays;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameStatus;
+
+/**
+ * 한 수를 두는 동안 바뀐 셀 인덱스를 모은다.
+ * 버퍼는 재사용하고, 수가 끝날 때 바뀐 만큼만 잘라 ChangeSet 으로 넘긴다.
+ */
+public class ChangeRecorder {
+
+    private int[] changedCellIndices = new int[64];
+    private int changedCellCount;
+
+    public void record(int index) {
+        if (changedCellCount == changedCellIndices.length) {
+            changedCellIndices = Arrays.copyOf(changedCellIndices, changedCellIndices.length * 2);
+        }
+        changedCellIndices[changedCellCount++] = index;
+    }
+
+    /**
+     * 모은 인덱스로 ChangeSet 을 만들고 다음 수를 위해 비운다.
+     */
+    public ChangeSet finish(GameStatus gameStatus) {
+        if (changedCellCount == 0) {
+            return ChangeSet.unchanged(gameStatus);
+        }
+
+        ChangeSet changeSet = ChangeSet.of(Arrays.copyOf(changedCellIndices, changedCellCount), gameStatus);
+        changedCellCount = 0;
+        return changeSet;
+    }
+}
@@ -0,0 +1,47 @@
+package cleancode.minesweeper.tobe.minesweeper.board.change;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameStatus;
+
+/**
+ * 한 수로 스냅샷이 바뀐 셀들의 인덱스(row * colSize + col)와 그 수 이후의 게임 상태
+ * 화면, 저널, 네트워크 클라이언트는 보드 전체를 다시 훑지 않고 바뀐 셀만 반영하면 된다.
+ */
+public class ChangeSet {
+
+    private static final int[] NO_CHANGED_CELLS = new int[0];
+
+    private final int[] changedCellIndices;
+    private final GameStatus gameStatus;
+
+    private ChangeSet(int[] changedCellIndices, GameStatus gameStatus) {
+        this.changedCellIndices = changedCellIndices;
+        this.gameStatus = gameStatus;
+    }
+
+    public static ChangeSet of(int[] changedCellIndices, GameStatus gameStatus) {
+        return new ChangeSet(changedCellIndices, gameStatus);
+    }
+
+    public static ChangeSet unchanged(GameStatus gameStatus) {
+        return new ChangeSet(NO_CHANGED_CELLS, gameStatus);
+    }
+
+    /**
+     * 바뀐 셀 인덱스 배열 (수마다 새로 만든 배열이므로 호출자가 그대로 가져가 써도 된다)
+     */
+    public int[] getChangedCellIndices() {
+        return changedCellIndices;
+    }
+
+    public int getChangedCellCount() {
+        return changedCellIndices.length;
+    }
+
+    public boolean hasChanges() {
+        return changedCellIndices.length != 0;
+    }
+
+    public GameStatus getGameStatus() {
+        return gameStatus;
+    }
+}
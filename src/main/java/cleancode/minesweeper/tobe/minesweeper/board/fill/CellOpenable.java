@@ -0,0 +1,6 @@
+package cleancode.minesweeper.tobe.minesweeper.board.fill;
+
+public interface CellOpenable {
+
+    void openCell(int index);
+}
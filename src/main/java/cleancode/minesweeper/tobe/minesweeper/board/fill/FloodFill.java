@@ -0,0 +1,197 @@
+package cleancode.minesweeper.tobe.minesweeper.board.fill;
+
+import java.util.Arrays;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopology;
+
+/**
+ * 빈 셀을 눌렀을 때 이어진 빈 영역과 그 테두리의 숫자 셀을 연다.
+ * 사각 격자는 행 단위 구간(scanline)으로, 그 외 격자는 이웃 큐로 채운다.
+ * 방문 비트와 작업 큐는 재사용하므로 셀마다 객체를 만들지 않는다.
+ */
+public class FloodFill {
+
+    private final BoardTopology topology;
+    private final BitPlane landMineCells;
+    private final BitPlane openedCells;
+    private final BitPlane queuedCells;
+    private final CellOpenable cellOpener;
+    private final int[] neighborBuffer;
+
+    private int[] queue = new int[64];
+    private int queueSize;
+
+    public FloodFill(BoardTopology topology, BitPlane landMineCells, BitPlane openedCells, CellOpenable cellOpener) {
+        this.topology = topology;
+        this.landMineCells = landMineCells;
+        this.openedCells = openedCells;
+        this.queuedCells = BitPlane.ofSize(topology.getCellCount());
+        this.cellOpener = cellOpener;
+        this.neighborBuffer = new int[topology.getMaxNeighborCount()];
+    }
+
+    public void fillFrom(int seedIndex) {
+        addSeed(seedIndex);
+        fillQueued();
+    }
+
+    /**
+     * 여러 셀에서 한 번에 채운다. (숫자 셀 주변 열기)
+     * 셀마다 fillFrom 을 부르는 것과 결과는 같지만, 영역이 겹쳐도 큐와 방문 비트를 한 번만 쓰고 정리한다.
+     */
+    public void fillFrom(int[] seedIndices, int seedCount) {
+        for (int i = 0; i < seedCount; i++) {
+            addSeed(seedIndices[i]);
+        }
+        fillQueued();
+    }
+
+    private void addSeed(int seedIndex) {
+        if (openedCells.get(seedIndex) || landMineCells.get(seedIndex)) {
+            return;
+        }
+
+        // 숫자 셀은 자기 자신만 연다
+        if (hasLandMineCount(seedIndex)) {
+            cellOpener.openCell(seedIndex);
+            return;
+        }
+
+        if (!queuedCells.get(seedIndex)) {
+            enqueue(seedIndex);
+        }
+    }
+
+    private void fillQueued() {
+        if (queueSize == 0) {
+            return;
+        }
+
+        if (topology.supportsScanline()) {
+            fillByScanline();
+        } else {
+            fillByNeighbors();
+        }
+        clearQueue();
+    }
+
+    private void fillByScanline() {
+        int rowSize = topology.getRowSize();
+        int colSize = topology.getColSize();
+
+        for (int head = 0; head < queueSize; head++) {
+            int index = queue[head];
+            if (openedCells.get(index)) {
+                continue;
+            }
+
+            int row = index / colSize;
+            int rowOffset = row * colSize;
+
+            // 같은 행에서 닫힌 빈 셀이 이어지는 구간 [left, right] 찾기
+            int left = index - rowOffset;
+            while (left > 0 && isClosedEmptyCell(rowOffset + left - 1)) {
+                left--;
+            }
+            int right = index - rowOffset;
+            while (right < colSize - 1 && isClosedEmptyCell(rowOffset + right + 1)) {
+                right++;
+            }
+
+            for (int col = left; col <= right; col++) {
+                cellOpener.openCell(rowOffset + col);
+            }
+
+            // 구간 양 끝과 위아래 행의 테두리 검사 (대각선 포함)
+            int from = Math.max(left - 1, 0);
+            int to = Math.min(right + 1, colSize - 1);
+            openBorderCell(rowOffset + from);
+            openBorderCell(rowOffset + to);
+            if (row > 0) {
+                scanRow(rowOffset - colSize, from, to);
+            }
+            if (row < rowSize - 1) {
+                scanRow(rowOffset + colSize, from, to);
+            }
+        }
+    }
+
+    private void scanRow(int rowOffset, int fromCol, int toCol) {
+        for (int col = fromCol; col <= toCol; col++) {
+            int index = rowOffset + col;
+            if (openedCells.get(index) || landMineCells.get(index)) {
+                continue;
+            }
+            if (hasLandMineCount(index)) {
+                cellOpener.openCell(index);
+                continue;
+            }
+
+            // 이어지는 빈 셀 묶음마다 시작 셀 하나만 큐에 넣고, 나머지는 구간 확장에 맡긴다
+            if (!queuedCells.get(index)) {
+                enqueue(index);
+            }
+            while (col < toCol && isClosedEmptyCell(index + 1)) {
+                col++;
+                index++;
+            }
+        }
+    }
+
+    private void openBorderCell(int index) {
+        if (!openedCells.get(index) && !landMineCells.get(index)) {
+            cellOpener.openCell(index);
+        }
+    }
+
+    private void fillByNeighbors() {
+        for (int head = 0; head < queueSize; head++) {
+            int index = queue[head];
+            if (openedCells.get(index) || landMineCells.get(index)) {
+                continue;
+            }
+
+            cellOpener.openCell(index);
+            if (hasLandMineCount(index)) {
+                continue;
+            }
+
+            int neighborCount = topology.findNeighbors(index, neighborBuffer);
+            for (int i = 0; i < neighborCount; i++) {
+                int neighbor = neighborBuffer[i];
+                if (!openedCells.get(neighbor) && !queuedCells.get(neighbor)) {
+                    enqueue(neighbor);
+                }
+            }
+        }
+    }
+
+    private boolean isClosedEmptyCell(int index) {
+        return !openedCells.get(index)
+            && !landMineCells.get(index)
+            && !hasLandMineCount(index);
+    }
+
+    private boolean hasLandMineCount(int index) {
+        return topology.countNearbyLandMines(landMineCells, index) != 0;
+    }
+
+    private void enqueue(int index) {
+        if (queueSize == queue.length) {
+            queue = Arrays.copyOf(queue, queue.length * 2);
+        }
+        queue[queueSize++] = index;
+        queuedCells.set(index);
+    }
+
+    /**
+     * 큐에 들어갔던 셀의 방문 비트만 되돌려, 다음 채우기에서 평면 전체를 지우지 않게 한다.
+     */
+    private void clearQueue() {
+        for (int i = 0; i < queueSize; i++) {
+            queuedCells.clear(queue[i]);
+        }
+        queueSize = 0;
+    }
+}
@@ -0,0 +1,76 @@
+package cleancode.minesweeper.tobe.minesweeper.board.infinite;
+
+import java.util.SplittableRandom;
+
+import cleancode.minesweeper.tobe.minesweeper.board.LandMinePlacer;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+
+/**
+ * 무한 보드를 나누는 고정 크기(64 x 64) 조각
+ * 지뢰는 시드에서 언제든 다시 만들 수 있고, 열림/깃발 상태만 플레이어가 만든 상태다.
+ */
+public class Chunk {
+
+    public static final int SIZE_BITS = 6;
+    public static final int SIZE = 1 << SIZE_BITS;
+    public static final int LOCAL_MASK = SIZE - 1;
+    public static final int CELL_COUNT = SIZE * SIZE;
+
+    private static final LandMinePlacer LAND_MINE_PLACER = new LandMinePlacer();
+
+    private final BitPlane landMineCells = BitPlane.ofSize(CELL_COUNT);
+    private final BitPlane openedCells = BitPlane.ofSize(CELL_COUNT);
+    private final BitPlane flaggedCells = BitPlane.ofSize(CELL_COUNT);
+
+    private boolean hasPlayerState;
+    private long lastAccessTick;
+
+    private Chunk(long chunkSeed, int landMineCount) {
+        LAND_MINE_PLACER.place(landMineCells, landMineCount, new SplittableRandom(chunkSeed));
+    }
+
+    public static Chunk generate(long chunkSeed, int landMineCount) {
+        return new Chunk(chunkSeed, landMineCount);
+    }
+
+    public boolean isLandMine(int localIndex) {
+        return landMineCells.get(localIndex);
+    }
+
+    public boolean isOpened(int localIndex) {
+        return openedCells.get(localIndex);
+    }
+
+    public boolean isFlagged(int localIndex) {
+        return flaggedCells.get(localIndex);
+    }
+
+    public boolean open(int localIndex) {
+        hasPlayerState = true;
+        flaggedCells.clear(localIndex);
+        return openedCells.set(localIndex);
+    }
+
+    public void flag(int localIndex) {
+        if (openedCells.get(localIndex)) {
+            return;
+        }
+        hasPlayerState = true;
+        flaggedCells.set(localIndex);
+    }
+
+    /**
+     * 열거나 깃발을 꽂은 적이 없는 조각은 버려도 시드에서 똑같이 다시 만들 수 있다.
+     */
+    public boolean isEvictable(long idleBeforeTick) {
+        return !hasPlayerState && lastAccessTick < idleBeforeTick;
+    }
+
+    public void touch(long tick) {
+        lastAccessTick = tick;
+    }
+
+    public static int localIndexOf(int row, int col) {
+        return ((row & LOCAL_MASK) << SIZE_BITS) | (col & LOCAL_MASK);
+    }
+}
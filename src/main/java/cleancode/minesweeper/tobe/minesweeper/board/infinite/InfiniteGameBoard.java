@@ -0,0 +1,238 @@
+package cleancode.minesweeper.tobe.minesweeper.board.infinite;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+
+/**
+ * 크기 제한이 없는 보드
+ * 셀은 64 x 64 조각(Chunk) 단위로, 연쇄 열기나 화면이 닿았을 때만 만들어진다.
+ * 조각의 지뢰는 (시드, 조각 좌표)의 해시로 결정되므로 메모리는 탐색한 영역만큼만 늘어난다.
+ * 빈 영역은 끝없이 이어질 수 있으므로 연쇄 열기는 게으르게 진행한다. 한 번에는 범위(누른 칸 주변, 또는 화면 창) 안까지만
+ * 퍼지고, 범위 밖에서 열린 빈 칸은 "펼칠 칸"으로 남겨 두었다가 그 칸이 다시 범위에 들어올 때 이어서 연다.
+ * 따라서 펼칠 칸을 빼면 열린 빈 칸 주변에 닫힌 칸이 남지 않는다.
+ */
+public class InfiniteGameBoard {
+
+    // 한 번의 연쇄 열기는 누른 칸에서 이 거리 안의 빈 칸까지만 펼친다
+    private static final int FLOOD_FILL_RADIUS = 4 * Chunk.SIZE;
+    private static final int MAX_LOADED_CHUNK_COUNT = 1024;
+    private static final long IDLE_TICKS = 64;
+
+    private final long seed;
+    private final int landMineCountPerChunk;
+    private final Map<Long, Chunk> chunks = new HashMap<>();
+    // 열렸지만 아직 주변을 열지 않은 빈 칸 (pack 한 좌표). 열린 영역의 가장자리뿐이라 탐색한 넓이보다 훨씬 작다
+    private final Set<Long> pendingFillCells = new HashSet<>();
+
+    private int[] fillQueue = new int[128];
+    private long tick;
+    private GameStatus gameStatus = GameStatus.IN_PROGRESS;
+
+    public InfiniteGameBoard(long seed, int landMineCountPerChunk) {
+        if (landMineCountPerChunk < 0 || landMineCountPerChunk > Chunk.CELL_COUNT) {
+            throw new IllegalArgumentException("조각당 지뢰 수는 0 이상, " + Chunk.CELL_COUNT + " 이하여야 합니다.");
+        }
+        this.seed = seed;
+        this.landMineCountPerChunk = landMineCountPerChunk;
+    }
+
+    public void openAt(int row, int col) {
+        tick++;
+
+        Chunk chunk = findChunk(row, col);
+        int localIndex = Chunk.localIndexOf(row, col);
+
+        // 지뢰 cell을 선택한 경우
+        if (chunk.isLandMine(localIndex)) {
+            chunk.open(localIndex);
+            gameStatus = GameStatus.LOSE;
+            return;
+        }
+
+        // 일반 cell을 선택한 경우 (이미 열린 가장자리 빈 칸을 누르면 거기서부터 이어서 연다)
+        if (chunk.open(localIndex) && countNearbyLandMines(row, col) == 0) {
+            pendingFillCells.add(CellPosition.pack(row, col));
+        }
+        continueFillWithin(row - FLOOD_FILL_RADIUS, col - FLOOD_FILL_RADIUS,
+            2 * FLOOD_FILL_RADIUS + 1, 2 * FLOOD_FILL_RADIUS + 1);
+        evictIdleChunksIfNeeded();
+    }
+
+    public void flagAt(int row, int col) {
+        tick++;
+        findChunk(row, col).flag(Chunk.localIndexOf(row, col));
+    }
+
+    public CellSnapshot getSnapshot(int row, int col) {
+        Chunk chunk = findChunk(row, col);
+        int localIndex = Chunk.localIndexOf(row, col);
+
+        if (chunk.isOpened(localIndex)) {
+            if (chunk.isLandMine(localIndex)) {
+                return CellSnapshot.ofLandMine();
+            }
+            int count = countNearbyLandMines(row, col);
+            return count == 0 ? CellSnapshot.ofEmpty() : CellSnapshot.ofNumber(count);
+        }
+        if (chunk.isFlagged(localIndex)) {
+            return CellSnapshot.ofFlag();
+        }
+        return CellSnapshot.ofUnchecked();
+    }
+
+    public boolean isInProgress() {
+        return gameStatus == GameStatus.IN_PROGRESS;
+    }
+
+    public boolean isLoseStatus() {
+        return gameStatus == GameStatus.LOSE;
+    }
+
+    /**
+     * 주어진 범위(보통 화면 창) 안의 펼칠 칸에서 연쇄 열기를 이어 간다. 화면을 그리기 전에 부르면
+     * 창 안에서는 열린 빈 칸 주변에 닫힌 칸이 보이지 않는다. 범위 밖으로 번지는 칸은 다시 펼칠 칸으로 남는다.
+     */
+    public void continueFillWithin(int topRow, int leftCol, int rowCount, int colCount) {
+        int queueSize = 0;
+        Iterator<Long> pendingIterator = pendingFillCells.iterator();
+        while (pendingIterator.hasNext()) {
+            long packedPosition = pendingIterator.next();
+            int row = CellPosition.unpackRowIndex(packedPosition);
+            int col = CellPosition.unpackColIndex(packedPosition);
+            if (isWithin(row, col, topRow, leftCol, rowCount, colCount)) {
+                pendingIterator.remove();
+                queueSize = enqueue(queueSize, row, col);
+            }
+        }
+        openSurroundedCells(queueSize, topRow, leftCol, rowCount, colCount);
+    }
+
+    /**
+     * 아직 주변을 열지 않은 열린 빈 칸 수
+     */
+    public int getPendingFillCellCount() {
+        return pendingFillCells.size();
+    }
+
+    public int getLoadedChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * 플레이어 상태가 없고 최근에 쓰이지 않은 조각을 버린다. 다시 필요해지면 시드에서 재생성된다.
+     */
+    public void evictIdleChunks() {
+        long idleBeforeTick = tick - IDLE_TICKS;
+        chunks.values().removeIf(chunk -> chunk.isEvictable(idleBeforeTick));
+    }
+
+    private void evictIdleChunksIfNeeded() {
+        if (chunks.size() > MAX_LOADED_CHUNK_COUNT) {
+            evictIdleChunks();
+        }
+    }
+
+    /**
+     * 큐에 쌓인 열린 빈 칸들의 주변을 (row, col) 쌍을 쌓으며 연다. 열린 비트가 방문 표시를 겸한다.
+     * 새로 열린 빈 칸이 범위 밖이면 큐 대신 펼칠 칸으로 남긴다.
+     */
+    private void openSurroundedCells(int queueSize, int topRow, int leftCol, int rowCount, int colCount) {
+        for (int head = 0; head < queueSize; head += 2) {
+            int row = fillQueue[head];
+            int col = fillQueue[head + 1];
+
+            for (int deltaRow = -1; deltaRow <= 1; deltaRow++) {
+                for (int deltaCol = -1; deltaCol <= 1; deltaCol++) {
+                    int nearbyRow = row + deltaRow;
+                    int nearbyCol = col + deltaCol;
+                    if (!openIfClosed(nearbyRow, nearbyCol) || countNearbyLandMines(nearbyRow, nearbyCol) != 0) {
+                        continue;
+                    }
+                    if (isWithin(nearbyRow, nearbyCol, topRow, leftCol, rowCount, colCount)) {
+                        queueSize = enqueue(queueSize, nearbyRow, nearbyCol);
+                    } else {
+                        pendingFillCells.add(CellPosition.pack(nearbyRow, nearbyCol));
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean openIfClosed(int row, int col) {
+        Chunk chunk = findChunk(row, col);
+        int localIndex = Chunk.localIndexOf(row, col);
+        if (chunk.isLandMine(localIndex)) {
+            return false;
+        }
+        return chunk.open(localIndex);
+    }
+
+    private int enqueue(int queueSize, int row, int col) {
+        if (queueSize + 2 > fillQueue.length) {
+            fillQueue = Arrays.copyOf(fillQueue, fillQueue.length * 2);
+        }
+        fillQueue[queueSize] = row;
+        fillQueue[queueSize + 1] = col;
+        return queueSize + 2;
+    }
+
+    private boolean isWithin(int row, int col, int topRow, int leftCol, int rowCount, int colCount) {
+        // 좌표가 int 범위 끝에 걸쳐도 넘치지 않도록 long 으로 비교한다
+        long rowOffset = (long) row - topRow;
+        long colOffset = (long) col - leftCol;
+        return rowOffset >= 0 && rowOffset < rowCount && colOffset >= 0 && colOffset < colCount;
+    }
+
+    private int countNearbyLandMines(int row, int col) {
+        int count = 0;
+        for (int deltaRow = -1; deltaRow <= 1; deltaRow++) {
+            for (int deltaCol = -1; deltaCol <= 1; deltaCol++) {
+                if (deltaRow == 0 && deltaCol == 0) {
+                    continue;
+                }
+                int nearbyRow = row + deltaRow;
+                int nearbyCol = col + deltaCol;
+                if (findChunk(nearbyRow, nearbyCol).isLandMine(Chunk.localIndexOf(nearbyRow, nearbyCol))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private Chunk findChunk(int row, int col) {
+        int chunkRow = row >> Chunk.SIZE_BITS;
+        int chunkCol = col >> Chunk.SIZE_BITS;
+        long chunkKey = CellPosition.pack(chunkRow, chunkCol);
+
+        Chunk chunk = chunks.get(chunkKey);
+        if (chunk == null) {
+            chunk = Chunk.generate(chunkSeedOf(chunkKey), landMineCountPerChunk);
+            chunks.put(chunkKey, chunk);
+        }
+        chunk.touch(tick);
+        return chunk;
+    }
+
+    private long chunkSeedOf(long chunkKey) {
+        return mix(seed ^ mix(chunkKey));
+    }
+
+    /**
+     * SplitMix64 의 섞기 함수
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
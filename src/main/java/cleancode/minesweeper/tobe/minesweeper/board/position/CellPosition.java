@@ -1,9 +1,14 @@
 package cleancode.minesweeper.tobe.minesweeper.board.position;
 
-import java.util.Objects;
-
+/**
+ * 입력 해석처럼 사람이 다루는 좌표용 값 객체
+ * 셀을 대량으로 다루는 곳(엔진 내부, 화면, 저널, 네트워크)은 객체 대신 pack 한 long 이나
+ * 보드 인덱스(GameBoard.indexOf)를 쓴다.
+ */
 public class CellPosition {
 
+    private static final long INT_MASK = 0xFFFFFFFFL;
+
     // 불변성 보장
     private final int rowIndex;
     private final int colIndex;
@@ -22,6 +27,21 @@ public class CellPosition {
         return new CellPosition(rowIndex, colIndex);
     }
 
+    /**
+     * 행/열을 long 하나로 묶는다. (상위 32비트: 행, 하위 32비트: 열, 음수도 그대로 보존)
+     */
+    public static long pack(int rowIndex, int colIndex) {
+        return ((long) rowIndex << 32) | (colIndex & INT_MASK);
+    }
+
+    public static int unpackRowIndex(long packedPosition) {
+        return (int) (packedPosition >> 32);
+    }
+
+    public static int unpackColIndex(long packedPosition) {
+        return (int) packedPosition;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof CellPosition that))
@@ -31,8 +51,8 @@ public class CellPosition {
 
     @Override
     public int hashCode() {
-        // 동등성
-        return Objects.hash(rowIndex, colIndex);
+        // 동등성 (Objects.hash 처럼 배열을 만들거나 박싱하지 않는다)
+        return 31 * rowIndex + colIndex;
     }
 
     public boolean isRowIndexMoreThanOrEqual(int rowIndex) {
@@ -13,7 +13,7 @@ public class RelativePosition {
         RelativePosition.of(-1, 0),
         RelativePosition.of(-1, 1),
         RelativePosition.of(0, -1),
-        RelativePosition.of(9, 1),
+        RelativePosition.of(0, 1),
         RelativePosition.of(1, -1),
         RelativePosition.of(1, 0),
         RelativePosition.of(1, 1)
@@ -0,0 +1,264 @@
+package cleancode.minesweeper.tobe.minesweeper.board.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopologyType;
+
+/**
+ * 게임 보드를 담는 메모리 매핑 파일
+ * [64바이트 헤더][지뢰 평면][열림 평면][깃발 평면] 순서이며, 평면은 little-endian long 워드의 나열이다.
+ * 비트 평면이 매핑된 영역을 그대로 쓰기 때문에 파일이 곧 실시간 보드 저장소가 된다.
+ * 스냅샷처럼 다 쓴 뒤 더는 바꾸지 않는 파일은 seal() 로 체크섬을 남겨, 덜 써지거나 깨진 파일을 알아볼 수 있다.
+ */
+public class BoardFile implements AutoCloseable {
+
+    private static final int MAGIC = 0x4D535750; // "MSWP"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int ROW_SIZE_OFFSET = 8;
+    private static final int COL_SIZE_OFFSET = 12;
+    private static final int LAND_MINE_COUNT_OFFSET = 16;
+    private static final int TOPOLOGY_OFFSET = 20;
+    private static final int GAME_STATUS_OFFSET = 24;
+    private static final int UNOPENED_SAFE_CELL_COUNT_OFFSET = 28;
+    private static final int CORRECTLY_FLAGGED_LAND_MINE_COUNT_OFFSET = 32;
+    private static final int FLAG_COUNT_OFFSET = 36;
+    // 버전 1 파일에서는 0 이므로 "지뢰를 이미 놓은 보드" 로 읽힌다
+    private static final int LAND_MINE_PLACEMENT_PENDING_OFFSET = 40;
+    private static final int LAND_MINE_PLACEMENT_SEED_OFFSET = 48;
+    // 봉인 표시와 체크섬 (CRC32C: 이 두 필드를 뺀 헤더 + 평면 전체). 봉인하지 않은 파일은 0 이다
+    private static final int SEAL_MARKER_OFFSET = 56;
+    private static final int SEAL_CHECKSUM_OFFSET = 60;
+    private static final int SEAL_MARKER = 0x4C414553; // "SEAL"
+
+    private final Path path;
+    private final int cellCount;
+    // close() 뒤에는 null (매핑은 참조가 사라지면 GC 가 풀어 준다)
+    private MappedByteBuffer buffer;
+
+    private BoardFile(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        this.cellCount = Math.multiplyExact(getRowSize(), getColSize());
+    }
+
+    public static BoardFile create(Path path, int rowSize, int colSize, int landMineCount, BoardTopologyType topologyType) {
+        long fileSize = fileSizeOf(Math.multiplyExact(rowSize, colSize));
+
+        try (FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(VERSION_OFFSET, VERSION);
+            buffer.putInt(ROW_SIZE_OFFSET, rowSize);
+            buffer.putInt(COL_SIZE_OFFSET, colSize);
+            buffer.putInt(LAND_MINE_COUNT_OFFSET, landMineCount);
+            buffer.putInt(TOPOLOGY_OFFSET, topologyType.ordinal());
+            return new BoardFile(path, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("게임 파일을 만들 수 없습니다: " + path, e);
+        }
+    }
+
+    public static BoardFile open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            validateHeader(path, buffer, channel.size());
+            return new BoardFile(path, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("게임 파일을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    public boolean isAt(Path otherPath) {
+        return path.toAbsolutePath().normalize().equals(otherPath.toAbsolutePath().normalize());
+    }
+
+    public int getRowSize() {
+        return buffer.getInt(ROW_SIZE_OFFSET);
+    }
+
+    public int getColSize() {
+        return buffer.getInt(COL_SIZE_OFFSET);
+    }
+
+    public int getLandMineCount() {
+        return buffer.getInt(LAND_MINE_COUNT_OFFSET);
+    }
+
+    public BoardTopologyType getTopologyType() {
+        return BoardTopologyType.values()[buffer.getInt(TOPOLOGY_OFFSET)];
+    }
+
+    public GameStatus getGameStatus() {
+        return GameStatus.values()[buffer.getInt(GAME_STATUS_OFFSET)];
+    }
+
+    public int getUnopenedSafeCellCount() {
+        return buffer.getInt(UNOPENED_SAFE_CELL_COUNT_OFFSET);
+    }
+
+    public int getCorrectlyFlaggedLandMineCount() {
+        return buffer.getInt(CORRECTLY_FLAGGED_LAND_MINE_COUNT_OFFSET);
+    }
+
+    public int getFlagCount() {
+        return buffer.getInt(FLAG_COUNT_OFFSET);
+    }
+
+    /**
+     * 첫 오픈을 기다리며 아직 지뢰를 놓지 않은 보드인지
+     */
+    public boolean isLandMinePlacementPending() {
+        return buffer.getInt(LAND_MINE_PLACEMENT_PENDING_OFFSET) != 0;
+    }
+
+    public long getLandMinePlacementSeed() {
+        return buffer.getLong(LAND_MINE_PLACEMENT_SEED_OFFSET);
+    }
+
+    public BitPlane getLandMinePlane() {
+        return planeAt(0);
+    }
+
+    public BitPlane getOpenedPlane() {
+        return planeAt(1);
+    }
+
+    public BitPlane getFlaggedPlane() {
+        return planeAt(2);
+    }
+
+    /**
+     * 매 수마다 바뀌는 게임 상태와 카운터를 헤더에 기록
+     */
+    public void writeProgress(GameStatus gameStatus, int unopenedSafeCellCount, int correctlyFlaggedLandMineCount, int flagCount) {
+        buffer.putInt(GAME_STATUS_OFFSET, gameStatus.ordinal());
+        buffer.putInt(UNOPENED_SAFE_CELL_COUNT_OFFSET, unopenedSafeCellCount);
+        buffer.putInt(CORRECTLY_FLAGGED_LAND_MINE_COUNT_OFFSET, correctlyFlaggedLandMineCount);
+        buffer.putInt(FLAG_COUNT_OFFSET, flagCount);
+    }
+
+    /**
+     * 지뢰 배치를 미뤄 둔 상태와 배치에 쓸 시드를 헤더에 기록
+     */
+    public void writeLandMinePlacement(boolean pending, long seed) {
+        buffer.putInt(LAND_MINE_PLACEMENT_PENDING_OFFSET, pending ? 1 : 0);
+        buffer.putLong(LAND_MINE_PLACEMENT_SEED_OFFSET, seed);
+    }
+
+    /**
+     * 변경된 페이지를 디스크에 내려쓴다.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * 지금 내용의 체크섬을 헤더에 남긴다. 이후에 보드를 바꾸면 봉인이 맞지 않게 되므로, 다 쓴 파일에만 쓴다.
+     */
+    public void seal() {
+        buffer.putInt(SEAL_CHECKSUM_OFFSET, checksum());
+        buffer.putInt(SEAL_MARKER_OFFSET, SEAL_MARKER);
+    }
+
+    /**
+     * 봉인된 파일이고, 봉인한 뒤로 내용이 바뀌거나 깨지지 않았는지
+     */
+    public boolean isSealed() {
+        return buffer.getInt(SEAL_MARKER_OFFSET) == SEAL_MARKER
+            && buffer.getInt(SEAL_CHECKSUM_OFFSET) == checksum();
+    }
+
+    /**
+     * 바뀐 내용을 내려쓰고 매핑을 놓는다. 닫은 뒤에는 이 파일과 여기서 얻은 평면을 쓰지 않는다.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+    }
+
+    private int checksum() {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, SEAL_MARKER_OFFSET));
+        crc.update(buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE));
+        return (int) crc.getValue();
+    }
+
+    private BitPlane planeAt(int planeIndex) {
+        int planeByteSize = BitPlane.wordCountOf(cellCount) * Long.BYTES;
+        int offset = HEADER_SIZE + planeIndex * planeByteSize;
+
+        return BitPlane.over(
+            buffer.slice(offset, planeByteSize).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer(),
+            cellCount
+        );
+    }
+
+    private static long fileSizeOf(int cellCount) {
+        return HEADER_SIZE + 3L * BitPlane.wordCountOf(cellCount) * Long.BYTES;
+    }
+
+    /**
+     * 헤더의 값을 그대로 믿고 배열 인덱스나 매핑 크기로 쓰기 전에, 범위를 모두 확인한다.
+     */
+    private static void validateHeader(Path path, MappedByteBuffer buffer, long fileSize) {
+        if (fileSize < HEADER_SIZE) {
+            throw invalidFile(path, "헤더보다 작은 파일입니다. (" + fileSize + "바이트)");
+        }
+        if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw invalidFile(path, String.format("지뢰찾기 게임 파일이 아닙니다. (magic 0x%08X)", buffer.getInt(MAGIC_OFFSET)));
+        }
+        if (buffer.getInt(VERSION_OFFSET) != VERSION) {
+            throw invalidFile(path, "지원하지 않는 버전입니다. (" + buffer.getInt(VERSION_OFFSET) + ", 지원: " + VERSION + ")");
+        }
+
+        int rowSize = buffer.getInt(ROW_SIZE_OFFSET);
+        int colSize = buffer.getInt(COL_SIZE_OFFSET);
+        if (rowSize <= 0 || colSize <= 0 || (long) rowSize * colSize > Integer.MAX_VALUE) {
+            throw invalidFile(path, "보드 크기가 잘못되었습니다. (" + rowSize + " x " + colSize + ")");
+        }
+        int cellCount = rowSize * colSize;
+        if (fileSize != fileSizeOf(cellCount)) {
+            throw invalidFile(path, "파일 길이가 보드 크기와 맞지 않습니다. (" + fileSize + "바이트, 예상: " + fileSizeOf(cellCount) + "바이트)");
+        }
+
+        validateRange(path, "지뢰 수", buffer.getInt(LAND_MINE_COUNT_OFFSET), 0, cellCount);
+        validateRange(path, "보드 모양", buffer.getInt(TOPOLOGY_OFFSET), 0, BoardTopologyType.values().length - 1);
+        validateRange(path, "게임 상태", buffer.getInt(GAME_STATUS_OFFSET), 0, GameStatus.values().length - 1);
+        validateRange(path, "닫힌 안전 셀 수", buffer.getInt(UNOPENED_SAFE_CELL_COUNT_OFFSET), 0, cellCount);
+        validateRange(path, "맞게 꽂은 깃발 수", buffer.getInt(CORRECTLY_FLAGGED_LAND_MINE_COUNT_OFFSET), 0, cellCount);
+        validateRange(path, "깃발 수", buffer.getInt(FLAG_COUNT_OFFSET), 0, cellCount);
+        validateRange(path, "지뢰 배치 대기 표시", buffer.getInt(LAND_MINE_PLACEMENT_PENDING_OFFSET), 0, 1);
+    }
+
+    private static void validateRange(Path path, String name, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw invalidFile(path, name + " 값이 범위를 벗어났습니다. (" + value + ", 범위: " + min + "~" + max + ")");
+        }
+    }
+
+    private static IllegalArgumentException invalidFile(Path path, String reason) {
+        return new IllegalArgumentException("게임 파일을 읽을 수 없습니다: " + path + " - " + reason);
+    }
+}
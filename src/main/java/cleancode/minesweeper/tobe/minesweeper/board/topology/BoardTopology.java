@@ -0,0 +1,37 @@
+package cleancode.minesweeper.tobe.minesweeper.board.topology;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+
+/**
+ * 셀 인덱스 기준으로 이웃 셀을 알려주는 보드 모양
+ */
+public interface BoardTopology {
+
+    int getRowSize();
+
+    int getColSize();
+
+    int getMaxNeighborCount();
+
+    /**
+     * index 셀의 이웃 인덱스를 neighbors 배열 앞쪽부터 채운다.
+     * @return 채운 이웃의 수
+     */
+    int findNeighbors(int index, int[] neighbors);
+
+    /**
+     * index 셀 주변에 있는 지뢰의 수
+     */
+    int countNearbyLandMines(BitPlane landMineCells, int index);
+
+    /**
+     * 이웃이 위, 현재, 아래 행의 좌우 한 칸까지인 격자라면 행 단위 구간 채우기를 쓸 수 있다.
+     */
+    default boolean supportsScanline() {
+        return false;
+    }
+
+    default int getCellCount() {
+        return getRowSize() * getColSize();
+    }
+}
@@ -0,0 +1,48 @@
+package cleancode.minesweeper.tobe.minesweeper.board.topology;
+
+import java.util.Arrays;
+
+public enum BoardTopologyType {
+
+    SQUARE("사각 격자") {
+        @Override
+        public BoardTopology create(int rowSize, int colSize) {
+            return new SquareTopology(rowSize, colSize);
+        }
+    },
+    TORUS("상하좌우가 이어진 사각 격자") {
+        @Override
+        public BoardTopology create(int rowSize, int colSize) {
+            return new TorusTopology(rowSize, colSize);
+        }
+    },
+    HEX("육각 격자") {
+        @Override
+        public BoardTopology create(int rowSize, int colSize) {
+            return new HexTopology(rowSize, colSize);
+        }
+    },
+    ;
+
+    private final String description;
+
+    BoardTopologyType(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 실행 인자 등에서 이름(square, torus, hex)으로 보드 모양을 고른다.
+     */
+    public static BoardTopologyType findBy(String name) {
+        return Arrays.stream(values())
+            .filter(topologyType -> topologyType.name().equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 보드 모양입니다: " + name));
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public abstract BoardTopology create(int rowSize, int colSize);
+}
@@ -0,0 +1,82 @@
+package cleancode.minesweeper.tobe.minesweeper.board.topology;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+
+/**
+ * 홀수 행을 반 칸 오른쪽으로 민 육각 격자 (odd-r 배치, 6방향)
+ */
+public class HexTopology implements BoardTopology {
+
+    private static final int[] EVEN_ROW_DELTA_ROWS = {-1, -1, 0, 0, 1, 1};
+    private static final int[] EVEN_ROW_DELTA_COLS = {-1, 0, -1, 1, -1, 0};
+    private static final int[] ODD_ROW_DELTA_ROWS = {-1, -1, 0, 0, 1, 1};
+    private static final int[] ODD_ROW_DELTA_COLS = {0, 1, -1, 1, 0, 1};
+
+    private final int rowSize;
+    private final int colSize;
+
+    public HexTopology(int rowSize, int colSize) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+    }
+
+    @Override
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int getColSize() {
+        return colSize;
+    }
+
+    @Override
+    public int getMaxNeighborCount() {
+        return EVEN_ROW_DELTA_ROWS.length;
+    }
+
+    @Override
+    public int findNeighbors(int index, int[] neighbors) {
+        int row = index / colSize;
+        int col = index % colSize;
+
+        boolean isOddRow = (row & 1) == 1;
+        int[] deltaRows = isOddRow ? ODD_ROW_DELTA_ROWS : EVEN_ROW_DELTA_ROWS;
+        int[] deltaCols = isOddRow ? ODD_ROW_DELTA_COLS : EVEN_ROW_DELTA_COLS;
+
+        int neighborCount = 0;
+        for (int i = 0; i < deltaRows.length; i++) {
+            int nearbyRow = row + deltaRows[i];
+            int nearbyCol = col + deltaCols[i];
+            if (isOutOfBoard(nearbyRow, nearbyCol)) {
+                continue;
+            }
+            neighbors[neighborCount++] = nearbyRow * colSize + nearbyCol;
+        }
+        return neighborCount;
+    }
+
+    @Override
+    public int countNearbyLandMines(BitPlane landMineCells, int index) {
+        int row = index / colSize;
+        int col = index % colSize;
+
+        boolean isOddRow = (row & 1) == 1;
+        int[] deltaRows = isOddRow ? ODD_ROW_DELTA_ROWS : EVEN_ROW_DELTA_ROWS;
+        int[] deltaCols = isOddRow ? ODD_ROW_DELTA_COLS : EVEN_ROW_DELTA_COLS;
+
+        int count = 0;
+        for (int i = 0; i < deltaRows.length; i++) {
+            int nearbyRow = row + deltaRows[i];
+            int nearbyCol = col + deltaCols[i];
+            if (!isOutOfBoard(nearbyRow, nearbyCol) && landMineCells.get(nearbyRow * colSize + nearbyCol)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isOutOfBoard(int row, int col) {
+        return row < 0 || row >= rowSize || col < 0 || col >= colSize;
+    }
+}
@@ -0,0 +1,76 @@
+package cleancode.minesweeper.tobe.minesweeper.board.topology;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+
+/**
+ * 모든 셀의 이웃을 미리 계산해 둔 평평한 int 인접 테이블
+ * 셀 index 의 이웃은 neighbors[index * stride] 부터 neighborCounts[index] 개가 들어 있다.
+ */
+public class NeighborTable implements BoardTopology {
+
+    private final BoardTopology topology;
+    private final int stride;
+    private final int[] neighbors;
+    private final byte[] neighborCounts;
+
+    private NeighborTable(BoardTopology topology) {
+        this.topology = topology;
+        this.stride = topology.getMaxNeighborCount();
+
+        int cellCount = topology.getCellCount();
+        this.neighbors = new int[Math.multiplyExact(cellCount, stride)];
+        this.neighborCounts = new byte[cellCount];
+
+        int[] buffer = new int[stride];
+        for (int index = 0; index < cellCount; index++) {
+            int neighborCount = topology.findNeighbors(index, buffer);
+            System.arraycopy(buffer, 0, neighbors, index * stride, neighborCount);
+            neighborCounts[index] = (byte) neighborCount;
+        }
+    }
+
+    public static NeighborTable from(BoardTopology topology) {
+        return new NeighborTable(topology);
+    }
+
+    @Override
+    public int getRowSize() {
+        return topology.getRowSize();
+    }
+
+    @Override
+    public int getColSize() {
+        return topology.getColSize();
+    }
+
+    @Override
+    public int getMaxNeighborCount() {
+        return stride;
+    }
+
+    @Override
+    public boolean supportsScanline() {
+        return topology.supportsScanline();
+    }
+
+    @Override
+    public int findNeighbors(int index, int[] neighbors) {
+        int neighborCount = neighborCounts[index];
+        System.arraycopy(this.neighbors, index * stride, neighbors, 0, neighborCount);
+        return neighborCount;
+    }
+
+    @Override
+    public int countNearbyLandMines(BitPlane landMineCells, int index) {
+        int from = index * stride;
+        int to = from + neighborCounts[index];
+
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (landMineCells.get(neighbors[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
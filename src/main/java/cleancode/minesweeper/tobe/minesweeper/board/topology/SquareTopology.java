@@ -0,0 +1,92 @@
+package cleancode.minesweeper.tobe.minesweeper.board.topology;
+
+import java.util.List;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.position.RelativePosition;
+
+/**
+ * 가장자리에서 잘리는 일반적인 8방향 사각 격자
+ */
+public class SquareTopology implements BoardTopology {
+
+    private final int rowSize;
+    private final int colSize;
+    private final int[] deltaRows;
+    private final int[] deltaCols;
+
+    public SquareTopology(int rowSize, int colSize) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+
+        List<RelativePosition> surroundedPositions = RelativePosition.SURROUNDED_POSITION;
+        this.deltaRows = new int[surroundedPositions.size()];
+        this.deltaCols = new int[surroundedPositions.size()];
+        for (int i = 0; i < surroundedPositions.size(); i++) {
+            deltaRows[i] = surroundedPositions.get(i).getDeltaRow();
+            deltaCols[i] = surroundedPositions.get(i).getDeltaCol();
+        }
+    }
+
+    @Override
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int getColSize() {
+        return colSize;
+    }
+
+    @Override
+    public int getMaxNeighborCount() {
+        return deltaRows.length;
+    }
+
+    @Override
+    public boolean supportsScanline() {
+        return true;
+    }
+
+    @Override
+    public int findNeighbors(int index, int[] neighbors) {
+        int row = index / colSize;
+        int col = index % colSize;
+
+        int neighborCount = 0;
+        for (int i = 0; i < deltaRows.length; i++) {
+            int nearbyRow = row + deltaRows[i];
+            int nearbyCol = col + deltaCols[i];
+            if (nearbyRow < 0 || nearbyRow >= rowSize || nearbyCol < 0 || nearbyCol >= colSize) {
+                continue;
+            }
+            neighbors[neighborCount++] = nearbyRow * colSize + nearbyCol;
+        }
+        return neighborCount;
+    }
+
+    /**
+     * 위, 현재, 아래 행마다 최대 3칸 구간을 워드 단위 popcount 로 센다.
+     */
+    @Override
+    public int countNearbyLandMines(BitPlane landMineCells, int index) {
+        int row = index / colSize;
+        int col = index % colSize;
+
+        int fromRow = Math.max(row - 1, 0);
+        int toRow = Math.min(row + 1, rowSize - 1);
+        int fromCol = Math.max(col - 1, 0);
+        int toCol = Math.min(col + 1, colSize - 1);
+
+        int count = 0;
+        for (int nearbyRow = fromRow; nearbyRow <= toRow; nearbyRow++) {
+            int rowOffset = nearbyRow * colSize;
+            count += landMineCells.countInRange(rowOffset + fromCol, rowOffset + toCol + 1);
+        }
+
+        if (landMineCells.get(index)) {
+            count--;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,100 @@
+package cleancode.minesweeper.tobe.minesweeper.board.topology;
+
+import java.util.List;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.position.RelativePosition;
+
+/**
+ * 위아래, 좌우 가장자리가 서로 이어진 8방향 사각 격자
+ */
+public class TorusTopology implements BoardTopology {
+
+    private final int rowSize;
+    private final int colSize;
+    private final List<RelativePosition> surroundedPositions = RelativePosition.SURROUNDED_POSITION;
+
+    public TorusTopology(int rowSize, int colSize) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+    }
+
+    @Override
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int getColSize() {
+        return colSize;
+    }
+
+    @Override
+    public int getMaxNeighborCount() {
+        return surroundedPositions.size();
+    }
+
+    @Override
+    public int findNeighbors(int index, int[] neighbors) {
+        int row = index / colSize;
+        int col = index % colSize;
+
+        int neighborCount = 0;
+        for (int i = 0; i < surroundedPositions.size(); i++) {
+            RelativePosition relativePosition = surroundedPositions.get(i);
+            int nearbyRow = Math.floorMod(row + relativePosition.getDeltaRow(), rowSize);
+            int nearbyCol = Math.floorMod(col + relativePosition.getDeltaCol(), colSize);
+            int neighbor = nearbyRow * colSize + nearbyCol;
+
+            // 보드가 3칸보다 좁으면 같은 셀이 여러 방향에서 겹칠 수 있다
+            if (neighbor != index && !contains(neighbors, neighborCount, neighbor)) {
+                neighbors[neighborCount++] = neighbor;
+            }
+        }
+        return neighborCount;
+    }
+
+    @Override
+    public int countNearbyLandMines(BitPlane landMineCells, int index) {
+        // 보드가 좁아 이웃이 겹칠 수 있을 때만 중복 제거용 버퍼를 쓴다
+        if (rowSize < 3 || colSize < 3) {
+            return countNearbyLandMinesWithoutDuplicates(landMineCells, index);
+        }
+
+        int row = index / colSize;
+        int col = index % colSize;
+
+        int count = 0;
+        for (int i = 0; i < surroundedPositions.size(); i++) {
+            RelativePosition relativePosition = surroundedPositions.get(i);
+            int nearbyRow = Math.floorMod(row + relativePosition.getDeltaRow(), rowSize);
+            int nearbyCol = Math.floorMod(col + relativePosition.getDeltaCol(), colSize);
+            if (landMineCells.get(nearbyRow * colSize + nearbyCol)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int countNearbyLandMinesWithoutDuplicates(BitPlane landMineCells, int index) {
+        int[] neighbors = new int[getMaxNeighborCount()];
+        int neighborCount = findNeighbors(index, neighbors);
+
+        int count = 0;
+        for (int i = 0; i < neighborCount; i++) {
+            if (landMineCells.get(neighbors[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean contains(int[] neighbors, int neighborCount, int neighbor) {
+        for (int i = 0; i < neighborCount; i++) {
+            if (neighbors[i] == neighbor) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
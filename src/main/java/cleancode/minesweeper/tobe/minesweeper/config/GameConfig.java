@@ -1,5 +1,8 @@
 package cleancode.minesweeper.tobe.minesweeper.config;
 
+import java.nio.file.Path;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
 import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
 import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
 import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
@@ -9,11 +12,46 @@ public class GameConfig {
     private final GameLevel gameLevel;
     private final InputHandler inputHandler;
     private final OutputHandler outputHandler;
+    private final Path journalDirectory;
+    private final boolean noGuessEnabled;
+    // 협동 모드에서 여러 세션이 함께 두는 보드 (null 이면 게임마다 보드를 새로 만든다)
+    private final GameBoard sharedGameBoard;
 
     public GameConfig(GameLevel gameLevel, InputHandler inputHandler, OutputHandler outputHandler) {
+        this(gameLevel, inputHandler, outputHandler, null);
+    }
+
+    /**
+     * journalDirectory 에 수를 기록하고, 기존 저널이 있으면 그 게임을 복구해 이어서 진행한다.
+     */
+    public GameConfig(GameLevel gameLevel, InputHandler inputHandler, OutputHandler outputHandler, Path journalDirectory) {
+        this(gameLevel, inputHandler, outputHandler, journalDirectory, false);
+    }
+
+    /**
+     * noGuessEnabled 이면 첫 오픈 셀에서 추측 없이 끝까지 풀 수 있는 판으로 진행한다.
+     */
+    public GameConfig(GameLevel gameLevel, InputHandler inputHandler, OutputHandler outputHandler, Path journalDirectory,
+        boolean noGuessEnabled) {
+        this.gameLevel = gameLevel;
+        this.inputHandler = inputHandler;
+        this.outputHandler = outputHandler;
+        this.journalDirectory = journalDirectory;
+        this.noGuessEnabled = noGuessEnabled;
+        this.sharedGameBoard = null;
+    }
+
+    /**
+     * 이미 초기화된 sharedGameBoard(GameBoard.concurrent)를 여러 플레이어가 함께 푼다.
+     * 다른 플레이어의 수가 섞이므로 저널, 추측 없는 판, 되돌리기는 쓰지 않는다.
+     */
+    public GameConfig(GameBoard sharedGameBoard, GameLevel gameLevel, InputHandler inputHandler, OutputHandler outputHandler) {
         this.gameLevel = gameLevel;
         this.inputHandler = inputHandler;
         this.outputHandler = outputHandler;
+        this.journalDirectory = null;
+        this.noGuessEnabled = false;
+        this.sharedGameBoard = sharedGameBoard;
     }
 
     public GameLevel getGameLevel() {
@@ -27,4 +65,24 @@ public class GameConfig {
     public OutputHandler getOutputHandler() {
         return outputHandler;
     }
+
+    public Path getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalDirectory != null;
+    }
+
+    public boolean isNoGuessEnabled() {
+        return noGuessEnabled;
+    }
+
+    public GameBoard getSharedGameBoard() {
+        return sharedGameBoard;
+    }
+
+    public boolean isSharedBoard() {
+        return sharedGameBoard != null;
+    }
 }
@@ -0,0 +1,20 @@
+package cleancode.minesweeper.tobe.minesweeper.gamelevel;
+
+/**
+ * 실행 인자 등에서 이름으로 난이도를 고른다.
+ */
+public final class GameLevels {
+
+	private GameLevels() {
+	}
+
+	public static GameLevel findBy(String name) {
+		return switch (name) {
+			case "very-beginner" -> new VeryBeginner();
+			case "beginner" -> new Beginner();
+			case "middle" -> new Middle();
+			case "advanced" -> new Advanced();
+			default -> throw new IllegalArgumentException("알 수 없는 난이도입니다: " + name);
+		};
+	}
+}
@@ -0,0 +1,260 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.infinite.InfiniteGameBoard;
+import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignFinder;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.InfiniteViewport;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.Viewport;
+
+/**
+ * 보드 한 화면을 UTF-8 바이트로 한 번에 인코딩한다.
+ * 셀 문양은 상태(와 숫자)별로 미리 인코딩해 두고, 화면 버퍼와 열 머리글은 재사용한다.
+ * 출력 결과는 예전처럼 셀마다 print 하던 것과 바이트 단위로 같다.
+ * 화면(Viewport)이 주어지면 그 창 안의 셀만 보드에 묻고 그린다.
+ */
+public class BoardFrameRenderer {
+
+	private static final char BASE_CHAR_FOR_COL = 'a';
+	private static final int MAX_NEARBY_LAND_MINE_COUNT = 8;
+	private static final int ROW_LABEL_WIDTH = 2;
+
+	private static final byte SPACE = ' ';
+	private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+	private static final byte[] REMAINING_LAND_MINE_LABEL = "남은 지뢰: ".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] VIEWPORT_LABEL = "화면: ".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] ROW_RANGE_SUFFIX = "행 / ".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] COL_RANGE_SUFFIX = "열 / ".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] RANGE_SEPARATOR = "~".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] LIST_SEPARATOR = ", ".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] ORIGIN_LABEL = "창 왼쪽 위: ".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] ROW_SUFFIX = "행, ".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] COL_SUFFIX = "열".getBytes(StandardCharsets.UTF_8);
+
+	// 상태 ordinal -> 문양 + 공백
+	private final byte[][] statusSigns = new byte[CellSnapshotStatus.values().length][];
+	// 근처 지뢰 수 -> 문양 + 공백
+	private final byte[][] numberSigns = new byte[MAX_NEARBY_LAND_MINE_COUNT + 1][];
+
+	private byte[] frame = new byte[4096];
+	private int frameLength;
+
+	private byte[] colHeader = new byte[0];
+	private int colHeaderFromCol = -1;
+	private int colHeaderToCol = -1;
+
+	public BoardFrameRenderer() {
+		this(new CellSignFinder());
+	}
+
+	/**
+	 * cellSignFinder 의 Provider 목록(테마)으로 문양을 미리 인코딩한다.
+	 */
+	public BoardFrameRenderer(CellSignFinder cellSignFinder) {
+		for (CellSnapshotStatus status : CellSnapshotStatus.values()) {
+			if (status != CellSnapshotStatus.NUMBER) {
+				statusSigns[status.ordinal()] = encodeCellSign(cellSignFinder, CellSnapshot.of(status));
+			}
+		}
+		for (int count = 0; count <= MAX_NEARBY_LAND_MINE_COUNT; count++) {
+			numberSigns[count] = encodeCellSign(cellSignFinder, CellSnapshot.ofNumber(count));
+		}
+	}
+
+	/**
+	 * 보드 전체를 화면 버퍼에 그린다. 결과는 getFrame() 의 [0, getFrameLength()) 구간이다.
+	 */
+	public void render(GameBoard board) {
+		frameLength = 0;
+		renderCells(board, 0, board.getRowSize(), 0, board.getColSize());
+		renderRemainingLandMineCount(board);
+	}
+
+	/**
+	 * 화면 창 안의 셀만 그린다. 비용은 보드 크기가 아니라 창 크기에 비례한다.
+	 */
+	public void render(GameBoard board, Viewport viewport) {
+		frameLength = 0;
+
+		viewport.fitTo(board.getRowSize(), board.getColSize());
+		int fromRow = viewport.getTopRow();
+		int toRow = viewport.getBottomRowExclusive(board.getRowSize());
+		int fromCol = viewport.getLeftCol();
+		int toCol = viewport.getRightColExclusive(board.getColSize());
+
+		renderCells(board, fromRow, toRow, fromCol, toCol);
+		renderViewportRange(board, fromRow, toRow, fromCol, toCol);
+		renderRemainingLandMineCount(board);
+	}
+
+	/**
+	 * 무한 보드의 창을 그린다. 행/열 머리글은 창 안의 상대 좌표이고, 창의 보드 좌표는 아래에 따로 적는다.
+	 */
+	public void render(InfiniteGameBoard board, InfiniteViewport viewport) {
+		frameLength = 0;
+
+		append(getColHeader(0, viewport.getColCount()));
+		append(LINE_SEPARATOR);
+		for (int relativeRow = 0; relativeRow < viewport.getRowCount(); relativeRow++) {
+			appendRowLabel(relativeRow + 1);
+			int row = viewport.toBoardRow(relativeRow);
+			for (int relativeCol = 0; relativeCol < viewport.getColCount(); relativeCol++) {
+				CellSnapshot snapshot = board.getSnapshot(row, viewport.toBoardCol(relativeCol));
+				append(findCellSign(snapshot));
+			}
+			append(LINE_SEPARATOR);
+		}
+
+		// "창 왼쪽 위: -10행, 32열"
+		append(ORIGIN_LABEL);
+		appendNumber(viewport.getTopRow());
+		append(ROW_SUFFIX);
+		appendNumber(viewport.getLeftCol());
+		append(COL_SUFFIX);
+		append(LINE_SEPARATOR);
+		append(LINE_SEPARATOR);
+	}
+
+	public byte[] getFrame() {
+		return frame;
+	}
+
+	public int getFrameLength() {
+		return frameLength;
+	}
+
+	private void renderCells(GameBoard board, int fromRow, int toRow, int fromCol, int toCol) {
+		append(getColHeader(fromCol, toCol));
+		append(LINE_SEPARATOR);
+
+		for (int row = fromRow; row < toRow; row++) {
+			appendRowLabel(row + 1);
+			for (int col = fromCol; col < toCol; col++) {
+				CellSnapshot snapshot = board.getSnapshot(row, col);
+				append(findCellSign(snapshot));
+			}
+			append(LINE_SEPARATOR);
+		}
+	}
+
+	/**
+	 * "화면: 1~20행 / 120, a~x열 / 124"
+	 */
+	private void renderViewportRange(GameBoard board, int fromRow, int toRow, int fromCol, int toCol) {
+		append(VIEWPORT_LABEL);
+		appendNumber(fromRow + 1);
+		append(RANGE_SEPARATOR);
+		appendNumber(toRow);
+		append(ROW_RANGE_SUFFIX);
+		appendNumber(board.getRowSize());
+		append(LIST_SEPARATOR);
+		appendChar((char)(BASE_CHAR_FOR_COL + fromCol));
+		append(RANGE_SEPARATOR);
+		appendChar((char)(BASE_CHAR_FOR_COL + toCol - 1));
+		append(COL_RANGE_SUFFIX);
+		appendNumber(board.getColSize());
+		append(LINE_SEPARATOR);
+	}
+
+	private void renderRemainingLandMineCount(GameBoard board) {
+		append(REMAINING_LAND_MINE_LABEL);
+		appendNumber(board.getRemainingLandMineCount());
+		append(LINE_SEPARATOR);
+		append(LINE_SEPARATOR);
+	}
+
+	private byte[] findCellSign(CellSnapshot snapshot) {
+		if (snapshot.isSameStatus(CellSnapshotStatus.NUMBER)) {
+			return numberSigns[snapshot.getNearByLandMineCount()];
+		}
+		return statusSigns[snapshot.getStatus().ordinal()];
+	}
+
+	/**
+	 * "    a b c ..." 형태의 열 머리글. 보이는 열 범위가 바뀔 때만 다시 만든다.
+	 */
+	private byte[] getColHeader(int fromCol, int toCol) {
+		if (fromCol != colHeaderFromCol || toCol != colHeaderToCol) {
+			StringBuilder header = new StringBuilder("    ");
+			for (int col = fromCol; col < toCol; col++) {
+				if (col > fromCol) {
+					header.append(' ');
+				}
+				header.append((char)(BASE_CHAR_FOR_COL + col));
+			}
+			colHeader = header.toString().getBytes(StandardCharsets.UTF_8);
+			colHeaderFromCol = fromCol;
+			colHeaderToCol = toCol;
+		}
+		return colHeader;
+	}
+
+	/**
+	 * "%2d  " 와 같은 행 머리글
+	 */
+	private void appendRowLabel(int rowNumber) {
+		for (int digits = digitCountOf(rowNumber); digits < ROW_LABEL_WIDTH; digits++) {
+			appendByte(SPACE);
+		}
+		appendNumber(rowNumber);
+		appendByte(SPACE);
+		appendByte(SPACE);
+	}
+
+	private void appendNumber(int number) {
+		if (number < 0) {
+			appendByte((byte)'-');
+			number = -number;
+		}
+
+		int digits = digitCountOf(number);
+		ensureCapacity(digits);
+		for (int i = frameLength + digits - 1; i >= frameLength; i--) {
+			frame[i] = (byte)('0' + number % 10);
+			number /= 10;
+		}
+		frameLength += digits;
+	}
+
+	private int digitCountOf(int number) {
+		int digits = 1;
+		while (number >= 10) {
+			number /= 10;
+			digits++;
+		}
+		return digits;
+	}
+
+	private void appendChar(char value) {
+		if (value < 0x80) {
+			appendByte((byte)value);
+			return;
+		}
+		append(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void append(byte[] bytes) {
+		ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, frame, frameLength, bytes.length);
+		frameLength += bytes.length;
+	}
+
+	private void appendByte(byte value) {
+		ensureCapacity(1);
+		frame[frameLength++] = value;
+	}
+
+	private void ensureCapacity(int additional) {
+		if (frameLength + additional > frame.length) {
+			frame = Arrays.copyOf(frame, Math.max(frame.length * 2, frameLength + additional));
+		}
+	}
+
+	private static byte[] encodeCellSign(CellSignFinder cellSignFinder, CellSnapshot snapshot) {
+		return (cellSignFinder.findCellSign(snapshot) + " ").getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -17,6 +17,13 @@ public class BoardIndexConverter {
 		return convertColFrom(cellInputCol);
 	}
 
+	/**
+	 * 행/열 인덱스를 입력 형식("a1")으로 바꾼다.
+	 */
+	public String convertToCellInput(int rowIndex, int colIndex) {
+		return (char)(BASE_CHAR_FOR_COL + colIndex) + String.valueOf(rowIndex + 1);
+	}
+
 	private int convertRowFrom(String cellInputRow) {
 		int rowIndex = Integer.parseInt(cellInputRow) - 1;
 		if (rowIndex < 0) {
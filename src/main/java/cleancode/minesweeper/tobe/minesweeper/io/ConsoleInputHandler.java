@@ -1,8 +1,11 @@
 package cleancode.minesweeper.tobe.minesweeper.io;
 
+import java.util.Optional;
 import java.util.Scanner;
 
 import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.PanDirection;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.Viewport;
 import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
 
 public class ConsoleInputHandler implements InputHandler {
@@ -10,10 +13,33 @@ public class ConsoleInputHandler implements InputHandler {
 	public static final Scanner SCANNER = new Scanner(System.in);
 
 	private final BoardIndexConverter boardIndexConverter = new BoardIndexConverter();
+	private final Scanner scanner;
+
+	// null 이면 좌표를 입력해도 화면 창을 옮기지 않는다
+	private final Viewport viewport;
+
+	// 직전 좌표 입력 대신 받은 화면 이동 명령
+	private PanDirection panDirection;
+
+	public ConsoleInputHandler() {
+		this(SCANNER);
+	}
+
+	public ConsoleInputHandler(Scanner scanner) {
+		this(scanner, null);
+	}
+
+	/**
+	 * 창 밖의 좌표를 입력하면 viewport 가 그 셀을 비추도록 옮긴다.
+	 */
+	public ConsoleInputHandler(Scanner scanner, Viewport viewport) {
+		this.scanner = scanner;
+		this.viewport = viewport;
+	}
 
 	@Override
 	public UserAction getUserActionFromUser() {
-		String userInput = SCANNER.nextLine();
+		String userInput = scanner.nextLine();
 
 		// NPE를 방지하기 위한 "1"이라는 확실합 타입으로 비교
 		if ("1".equals(userInput)) {
@@ -22,16 +48,43 @@ public class ConsoleInputHandler implements InputHandler {
 		if ("2".equals(userInput)) {
 			return UserAction.FLAG;
 		}
+		if ("3".equals(userInput)) {
+			return UserAction.HINT;
+		}
+		if ("4".equals(userInput)) {
+			return UserAction.CHORD;
+		}
+		if ("5".equals(userInput)) {
+			return UserAction.UNDO;
+		}
+		if ("6".equals(userInput)) {
+			return UserAction.REDO;
+		}
 		return UserAction.UNKNOWN;
 	}
 
 	@Override
 	public CellPosition getCellPositionFromUser() {
-		String userInput = SCANNER.nextLine();
+		String userInput = scanner.nextLine();
+
+		// 좌표 대신 화면 이동 명령(^, v, <, >)을 받은 경우 (좌표는 쓰이지 않는다)
+		panDirection = PanDirection.findBy(userInput).orElse(null);
+		if (panDirection != null) {
+			return CellPosition.of(0, 0);
+		}
 
 		int rowIndex = boardIndexConverter.getSelectedRowIndex(userInput);
 		int colIndex = boardIndexConverter.getSelectedColIndex(userInput);
 
-		return CellPosition.of(rowIndex, colIndex);
+		CellPosition cellPosition = CellPosition.of(rowIndex, colIndex);
+		if (viewport != null) {
+			viewport.focusOn(cellPosition);
+		}
+		return cellPosition;
+	}
+
+	@Override
+	public Optional<PanDirection> getPanDirection() {
+		return Optional.ofNullable(panDirection);
 	}
 }
@@ -1,83 +1,122 @@
 package cleancode.minesweeper.tobe.minesweeper.io;
 
-import java.util.List;
-import java.util.stream.IntStream;
+import java.io.PrintStream;
 
 import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.infinite.InfiniteGameBoard;
 import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignFinder;
-import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignProvider;
-import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.InfiniteViewport;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.PanDirection;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.Viewport;
 
 public class ConsoleOutputHandler implements OutputHandler {
 
-	private final CellSignFinder cellSignFinder = new CellSignFinder();
+	private final BoardFrameRenderer boardFrameRenderer;
+	private final PrintStream out;
+
+	// null 이면 보드 전체를 그린다
+	private final Viewport viewport;
+
+	public ConsoleOutputHandler() {
+		this(System.out);
+	}
+
+	public ConsoleOutputHandler(PrintStream out) {
+		this(out, null);
+	}
+
+	/**
+	 * 터미널보다 큰 보드는 viewport 창만 그린다. 창은 입력 쪽(ConsoleInputHandler)과 함께 쓴다.
+	 */
+	public ConsoleOutputHandler(PrintStream out, Viewport viewport) {
+		this(out, viewport, new CellSignFinder());
+	}
+
+	/**
+	 * cellSignFinder 에 다른 Provider 목록을 넣으면 셀 문양 테마를 바꿀 수 있다.
+	 */
+	public ConsoleOutputHandler(PrintStream out, Viewport viewport, CellSignFinder cellSignFinder) {
+		this.out = out;
+		this.viewport = viewport;
+		this.boardFrameRenderer = new BoardFrameRenderer(cellSignFinder);
+	}
 
 	@Override
 	public void showGameStartComments() {
-		System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
-		System.out.println("지뢰찾기 게임 시작!");
-		System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
+		out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
+		out.println("지뢰찾기 게임 시작!");
+		out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
 	}
 
 	@Override
 	public void showBoard(GameBoard board) {
-		String alphabets = generateColAlphabets(board);
-		System.out.println("    " + alphabets);
-
-		for (int row = 0; row < board.getRowSize(); row++) {
-			System.out.printf("%2d  ", row + 1);
-			for (int col = 0; col < board.getColSize(); col++) {
-				CellPosition cellPosition = CellPosition.of(row, col);
-
-				CellSnapshot snapshot = board.getSnapshot(cellPosition);
-				// String cellSign = cellSignFinder.findCellSign(snapshot);
-				String cellSign = CellSignProvider.findCellSignFrom(snapshot);
-
-				System.out.print(cellSign + " ");
-			}
-			System.out.println();
+		// 화면 전체를 한 버퍼에 그린 뒤 한 번에 내보낸다
+		if (viewport == null) {
+			boardFrameRenderer.render(board);
+		} else {
+			boardFrameRenderer.render(board, viewport);
 		}
-
-		System.out.println();
+		out.write(boardFrameRenderer.getFrame(), 0, boardFrameRenderer.getFrameLength());
+		out.flush();
 	}
 
-	private String generateColAlphabets(GameBoard board) {
-		List<String> alphabets = IntStream.range(0, board.getColSize())
-			.mapToObj(index -> (char)('a' + index))
-			.map(Object::toString)
-			.toList();
-
-		return String.join(" ", alphabets);
+	@Override
+	public void showBoard(InfiniteGameBoard board, InfiniteViewport viewport) {
+		boardFrameRenderer.render(board, viewport);
+		out.write(boardFrameRenderer.getFrame(), 0, boardFrameRenderer.getFrameLength());
+		out.flush();
 	}
 
 	@Override
 	public void showGameWinningComment() {
-		System.out.println("지뢰를 모두 찾았습니다. GAME CLEAR!");
+		out.println("지뢰를 모두 찾았습니다. GAME CLEAR!");
 	}
 
 	@Override
 	public void showGameLosingComment() {
-		System.out.println("지뢰를 밟았습니다. GAME OVER!");
+		out.println("지뢰를 밟았습니다. GAME OVER!");
 	}
 
 	@Override
 	public void showCommentForSelectingCell() {
-		System.out.println("선택한 셀에 대한 행위를 선택하세요. (1: 오픈, 2: 깃발 꽂기)");
+		out.println("선택한 셀에 대한 행위를 선택하세요. (1: 오픈, 2: 깃발 꽂기, 3: 힌트, 4: 주변 열기, 5: 되돌리기, 6: 다시 하기)");
 	}
 
 	@Override
 	public void showCommentForUserAction() {
-		System.out.println("선택할 좌표를 입력하세요. (예: a1)");
+		out.println("선택할 좌표를 입력하세요. (예: a1)");
+		if (viewport != null) {
+			out.println("화면 이동: " + panCommandGuide());
+		}
+	}
+
+	private String panCommandGuide() {
+		StringBuilder guide = new StringBuilder();
+		for (PanDirection direction : PanDirection.values()) {
+			if (!guide.isEmpty()) {
+				guide.append(", ");
+			}
+			guide.append(direction.getCommand()).append(": ").append(direction.getDescription());
+		}
+		return guide.toString();
 	}
 
 	@Override
 	public void showExceptionMessage(Exception exception) {
-		System.out.println(exception.getMessage());
+		out.println(exception.getMessage());
 	}
 
 	@Override
 	public void showSimpleMessage(String message) {
-		System.out.println(message);
+		out.println(message);
+	}
+
+	@Override
+	public void panBoard(PanDirection direction) {
+		if (viewport == null) {
+			OutputHandler.super.panBoard(direction);
+			return;
+		}
+		viewport.pan(direction);
 	}
 }
@@ -1,10 +1,28 @@
 package cleancode.minesweeper.tobe.minesweeper.io;
 
+import java.util.Optional;
+
 import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.PanDirection;
 import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
 
 public interface InputHandler {
 	UserAction getUserActionFromUser();
 
 	CellPosition getCellPositionFromUser();
+
+	/**
+	 * 직전 좌표 입력이 화면 이동 명령이었다면 그 방향
+	 * 이때는 getCellPositionFromUser 의 좌표를 쓰지 않고, 행위도 묻지 않고 UserAction.PAN 으로 처리한다.
+	 */
+	default Optional<PanDirection> getPanDirection() {
+		return Optional.empty();
+	}
+
+	/**
+	 * 더 이상 입력을 받을 수 없는 상태 (예: 접속 종료)
+	 */
+	default boolean isClosed() {
+		return false;
+	}
 }
@@ -1,6 +1,9 @@
 package cleancode.minesweeper.tobe.minesweeper.io;
 
 import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.infinite.InfiniteGameBoard;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.InfiniteViewport;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.PanDirection;
 
 public interface OutputHandler {
 
@@ -8,6 +11,13 @@ public interface OutputHandler {
 
 	void showBoard(GameBoard board);
 
+	/**
+	 * 무한 보드의 화면 창을 그린다. 창 없이 보드 전체를 그리는 화면은 무한 보드를 그릴 수 없다.
+	 */
+	default void showBoard(InfiniteGameBoard board, InfiniteViewport viewport) {
+		showSimpleMessage("무한 보드를 그릴 수 없는 화면입니다.");
+	}
+
 	void showGameWinningComment();
 
 	void showGameLosingComment();
@@ -19,4 +29,18 @@ public interface OutputHandler {
 	void showExceptionMessage(Exception exception);
 
 	void showSimpleMessage(String message);
+
+	/**
+	 * 고를 수 없는 행동을 골랐을 때. 다른 안내 문구와 구분해야 하는 화면(예: 거부된 수를 세는 화면)만 다시 정의한다.
+	 */
+	default void showCommentForInvalidUserAction() {
+		showSimpleMessage("잘못된 번호를 선택하셨습니다.");
+	}
+
+	/**
+	 * 다음에 그릴 화면 창을 옮긴다. 창 없이 보드 전체를 그리는 화면은 옮길 것이 없다.
+	 */
+	default void panBoard(PanDirection direction) {
+		showSimpleMessage("화면 이동을 지원하지 않는 화면입니다.");
+	}
 }
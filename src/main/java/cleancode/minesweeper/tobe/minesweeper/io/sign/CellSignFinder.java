@@ -3,7 +3,13 @@ package cleancode.minesweeper.tobe.minesweeper.io.sign;
 import java.util.List;
 
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
+/**
+ * 스냅샷에 맞는 문양을 Provider 목록에서 찾는다.
+ * 스냅샷의 종류는 상태 5가지와 숫자 0~8 뿐이므로, 만들 때 모든 스냅샷의 문양을 표로 미리 찾아 둔다.
+ * Provider 목록을 바꿔 끼우면 다른 테마로 그릴 수 있다.
+ */
 public class CellSignFinder {
 
     public static final List<CellSignProvidable> CELL_SIGN_PROVIDERS = List.of(
@@ -14,8 +20,40 @@ public class CellSignFinder {
         new UncheckedCellSignProvider()
     );
 
+    private static final int MAX_NEARBY_LAND_MINE_COUNT = 8;
+
+    private final List<CellSignProvidable> cellSignProviders;
+
+    // 상태 ordinal -> 문양, 근처 지뢰 수 -> 숫자 문양
+    private final String[] statusSigns = new String[CellSnapshotStatus.values().length];
+    private final String[] numberSigns = new String[MAX_NEARBY_LAND_MINE_COUNT + 1];
+
+    public CellSignFinder() {
+        this(CELL_SIGN_PROVIDERS);
+    }
+
+    public CellSignFinder(List<CellSignProvidable> cellSignProviders) {
+        this.cellSignProviders = List.copyOf(cellSignProviders);
+
+        for (CellSnapshotStatus status : CellSnapshotStatus.values()) {
+            if (status != CellSnapshotStatus.NUMBER) {
+                statusSigns[status.ordinal()] = findCellSignByProviders(CellSnapshot.of(status));
+            }
+        }
+        for (int count = 0; count <= MAX_NEARBY_LAND_MINE_COUNT; count++) {
+            numberSigns[count] = findCellSignByProviders(CellSnapshot.ofNumber(count));
+        }
+    }
+
     public String findCellSign(CellSnapshot snapshot) {
-        return CELL_SIGN_PROVIDERS.stream()
+        if (snapshot.isSameStatus(CellSnapshotStatus.NUMBER)) {
+            return numberSigns[snapshot.getNearByLandMineCount()];
+        }
+        return statusSigns[snapshot.getStatus().ordinal()];
+    }
+
+    private String findCellSignByProviders(CellSnapshot snapshot) {
+        return cellSignProviders.stream()
             .filter(provider -> provider.supports(snapshot)) // 스냅샷에 맞는 Provider 선택
             .findFirst()
             .map(provider -> provider.provide(snapshot)) // 문양
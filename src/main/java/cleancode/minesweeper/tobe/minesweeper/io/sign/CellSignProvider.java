@@ -1,7 +1,5 @@
 package cleancode.minesweeper.tobe.minesweeper.io.sign;
 
-import java.util.Arrays;
-
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
@@ -28,7 +26,11 @@ public enum CellSignProvider implements CellSignProvidable {
     NUMBER(CellSnapshotStatus.NUMBER) {
         @Override
         public String provide(CellSnapshot cellSnapshot) {
-            return String.valueOf(cellSnapshot.getNearByLandMineCount());
+            int count = cellSnapshot.getNearByLandMineCount();
+            if (count >= 0 && count < NUMBER_SIGNS.length) {
+                return NUMBER_SIGNS[count];
+            }
+            return String.valueOf(count);
         }
     },
     UNCHECKED(CellSnapshotStatus.UNCHECKED) {
@@ -44,6 +46,18 @@ public enum CellSignProvider implements CellSignProvidable {
     private static final String LAND_MINE_SIGN = "☼";
     private static final String UNCHECKED_SIGN = "□";
 
+    // 근처 지뢰 수(0~8)의 문양은 미리 만들어 둔다
+    private static final String[] NUMBER_SIGNS = {"0", "1", "2", "3", "4", "5", "6", "7", "8"};
+
+    // 상태 ordinal -> Provider
+    private static final CellSignProvider[] PROVIDERS_BY_STATUS = new CellSignProvider[CellSnapshotStatus.values().length];
+
+    static {
+        for (CellSignProvider provider : values()) {
+            PROVIDERS_BY_STATUS[provider.status.ordinal()] = provider;
+        }
+    }
+
     private final CellSnapshotStatus status;
 
     CellSignProvider(CellSnapshotStatus status) {
@@ -61,9 +75,10 @@ public enum CellSignProvider implements CellSignProvidable {
     }
 
     private static CellSignProvider findBy(CellSnapshot cellSnapshot) {
-        return Arrays.stream(values())
-            .filter(provider -> provider.supports(cellSnapshot))
-            .findFirst()
-            .orElseThrow(() -> new IllegalStateException("확인할 수 없는 셀입니다."));
+        CellSignProvider provider = PROVIDERS_BY_STATUS[cellSnapshot.getStatus().ordinal()];
+        if (provider == null) {
+            throw new IllegalStateException("확인할 수 없는 셀입니다.");
+        }
+        return provider;
     }
 }
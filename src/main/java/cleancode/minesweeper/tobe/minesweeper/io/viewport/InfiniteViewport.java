@@ -0,0 +1,65 @@
+package cleancode.minesweeper.tobe.minesweeper.io.viewport;
+
+/**
+ * 무한 보드에서 화면에 보여 줄 창
+ * 보드에 끝이 없으므로 Viewport 와 달리 창의 위치를 자르지 않고, 음수 좌표로도 옮겨 간다.
+ * 사용자는 창 안의 상대 좌표(a1 = 창의 왼쪽 위)로 셀을 고른다.
+ */
+public class InfiniteViewport {
+
+	private final int rowCount;
+	private final int colCount;
+
+	private int topRow;
+	private int leftCol;
+
+	public InfiniteViewport(int rowCount, int colCount) {
+		if (rowCount <= 0 || colCount <= 0) {
+			throw new IllegalArgumentException("화면 크기는 1 이상이어야 합니다.");
+		}
+		this.rowCount = rowCount;
+		this.colCount = colCount;
+	}
+
+	/**
+	 * 창 크기의 절반만큼 이동한다.
+	 */
+	public void pan(PanDirection direction) {
+		topRow += direction.getRowSign() * Math.max(rowCount / 2, 1);
+		leftCol += direction.getColSign() * Math.max(colCount / 2, 1);
+	}
+
+	public boolean containsRelative(int relativeRow, int relativeCol) {
+		return relativeRow >= 0 && relativeRow < rowCount && relativeCol >= 0 && relativeCol < colCount;
+	}
+
+	/**
+	 * 창 안의 상대 행을 보드의 행으로 바꾼다.
+	 */
+	public int toBoardRow(int relativeRow) {
+		return topRow + relativeRow;
+	}
+
+	/**
+	 * 창 안의 상대 열을 보드의 열로 바꾼다.
+	 */
+	public int toBoardCol(int relativeCol) {
+		return leftCol + relativeCol;
+	}
+
+	public int getTopRow() {
+		return topRow;
+	}
+
+	public int getLeftCol() {
+		return leftCol;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getColCount() {
+		return colCount;
+	}
+}
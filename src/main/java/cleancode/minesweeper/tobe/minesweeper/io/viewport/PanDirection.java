@@ -0,0 +1,47 @@
+package cleancode.minesweeper.tobe.minesweeper.io.viewport;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum PanDirection {
+
+	UP("^", "위로", -1, 0),
+	DOWN("v", "아래로", 1, 0),
+	LEFT("<", "왼쪽으로", 0, -1),
+	RIGHT(">", "오른쪽으로", 0, 1),
+	;
+
+	private final String command;
+	private final String description;
+	private final int rowSign;
+	private final int colSign;
+
+	PanDirection(String command, String description, int rowSign, int colSign) {
+		this.command = command;
+		this.description = description;
+		this.rowSign = rowSign;
+		this.colSign = colSign;
+	}
+
+	public static Optional<PanDirection> findBy(String userInput) {
+		return Arrays.stream(values())
+			.filter(direction -> direction.command.equals(userInput))
+			.findFirst();
+	}
+
+	public String getCommand() {
+		return command;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public int getRowSign() {
+		return rowSign;
+	}
+
+	public int getColSign() {
+		return colSign;
+	}
+}
@@ -0,0 +1,82 @@
+package cleancode.minesweeper.tobe.minesweeper.io.viewport;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+
+/**
+ * 보드에서 화면에 보여 줄 창 (행/열 범위)
+ * 입력 쪽에서 이동하거나 초점을 옮기고, 출력 쪽은 이 창 안의 셀만 그린다.
+ * 창의 위치는 그릴 때 보드 크기에 맞춰 잘라낸다.
+ */
+public class Viewport {
+
+	private final int rowCount;
+	private final int colCount;
+
+	private int topRow;
+	private int leftCol;
+
+	public Viewport(int rowCount, int colCount) {
+		if (rowCount <= 0 || colCount <= 0) {
+			throw new IllegalArgumentException("화면 크기는 1 이상이어야 합니다.");
+		}
+		this.rowCount = rowCount;
+		this.colCount = colCount;
+	}
+
+	/**
+	 * 창 크기의 절반만큼 이동한다.
+	 */
+	public void pan(PanDirection direction) {
+		topRow = Math.max(topRow + direction.getRowSign() * Math.max(rowCount / 2, 1), 0);
+		leftCol = Math.max(leftCol + direction.getColSign() * Math.max(colCount / 2, 1), 0);
+	}
+
+	/**
+	 * 주어진 셀이 창 밖에 있으면 그 셀이 가운데 오도록 창을 옮긴다.
+	 */
+	public void focusOn(CellPosition cellPosition) {
+		int row = cellPosition.getRowIndex();
+		int col = cellPosition.getColIndex();
+
+		if (row < topRow || row >= topRow + rowCount) {
+			topRow = Math.max(row - rowCount / 2, 0);
+		}
+		if (col < leftCol || col >= leftCol + colCount) {
+			leftCol = Math.max(col - colCount / 2, 0);
+		}
+	}
+
+	/**
+	 * 창이 보드 밖으로 나가지 않도록 위치를 맞춘다.
+	 */
+	public void fitTo(int boardRowSize, int boardColSize) {
+		topRow = clamp(topRow, boardRowSize - rowCount);
+		leftCol = clamp(leftCol, boardColSize - colCount);
+	}
+
+	public int getTopRow() {
+		return topRow;
+	}
+
+	public int getLeftCol() {
+		return leftCol;
+	}
+
+	/**
+	 * 창의 마지막 행 다음 인덱스 (보드 크기를 넘지 않는다)
+	 */
+	public int getBottomRowExclusive(int boardRowSize) {
+		return Math.min(topRow + rowCount, boardRowSize);
+	}
+
+	/**
+	 * 창의 마지막 열 다음 인덱스 (보드 크기를 넘지 않는다)
+	 */
+	public int getRightColExclusive(int boardColSize) {
+		return Math.min(leftCol + colCount, boardColSize);
+	}
+
+	private int clamp(int value, int max) {
+		return Math.max(Math.min(value, max), 0);
+	}
+}
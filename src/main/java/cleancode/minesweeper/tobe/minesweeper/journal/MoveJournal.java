@@ -0,0 +1,306 @@
+package cleancode.minesweeper.tobe.minesweeper.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardFile;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+/**
+ * 보드에 적용한 수를 고정 길이(12바이트) 레코드로 덧붙여 기록하는 저널
+ * 일정 수마다 보드 스냅샷을 함께 남겨 두어, 복구할 때는 가장 가까운 스냅샷을 읽고 그 뒤의 수만 다시 적용한다.
+ * 레코드는 append 가 돌아오기 전에 디스크까지 내려쓰고, 스냅샷은 봉인된 임시 파일을 원자적으로 옮겨 만든다.
+ * 그래서 프로세스가 죽거나 전원이 꺼져도 잃는 것은 덜 써진 마지막 레코드뿐이고, 깨진 스냅샷은 건너뛰고 이전 스냅샷에서 복구한다.
+ * 되돌리기/다시 하기도 레코드로 남기고 복구한 보드에서 다시 되돌리므로, 복구한 보드는 되돌릴 수 있는 보드다.
+ */
+public class MoveJournal {
+
+    private static final String JOURNAL_FILE_NAME = "moves.journal";
+    private static final int RECORD_SIZE = 12;
+    private static final int SNAPSHOT_INTERVAL = 10_000;
+
+    private final Path directory;
+    private final FileChannel channel;
+    private final ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    private long moveCount;
+
+    private MoveJournal(Path directory, FileChannel channel, long moveCount) {
+        this.directory = directory;
+        this.channel = channel;
+        this.moveCount = moveCount;
+    }
+
+    /**
+     * 새 저널을 시작한다. 초기화된 보드를 0번째 스냅샷으로 남긴다.
+     * 저널 파일은 스냅샷을 다 남긴 뒤에 만들어지므로, 도중에 멈추면 exists() 가 false 가 되어 이전 게임과 섞이지 않는다.
+     */
+    public static MoveJournal start(Path directory, GameBoard initializedBoard) {
+        Path journalPath = directory.resolve(JOURNAL_FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(journalPath);
+            deleteSnapshots(directory);
+            initializedBoard.saveTo(snapshotPathOf(directory, 0));
+
+            Path tempJournalPath = directory.resolve(JOURNAL_FILE_NAME + ".tmp");
+            try (FileChannel tempChannel = FileChannel.open(tempJournalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                tempChannel.force(true);
+            }
+            Files.move(tempJournalPath, journalPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            return new MoveJournal(directory, channel, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 시작할 수 없습니다: " + directory, e);
+        }
+    }
+
+    public static boolean exists(Path directory) {
+        return Files.exists(directory.resolve(JOURNAL_FILE_NAME))
+            && Files.exists(snapshotPathOf(directory, 0));
+    }
+
+    /**
+     * 가장 가까운 온전한 스냅샷을 불러오고 그 뒤의 레코드만 적용해 보드를 복구한 뒤, 같은 저널에 이어서 기록한다.
+     * 마지막에 덜 써진 레코드가 있으면 버린다. 봉인이 맞지 않는 스냅샷은 건너뛰고 그 이전 스냅샷을 쓴다.
+     * 스냅샷에는 되돌리기 이력이 없으므로, 그 뒤의 레코드가 스냅샷 이전의 수를 되돌리거나 스냅샷 이전에 되돌린 수를 다시 두면
+     * 더 이전 스냅샷에서 시작한다.
+     */
+    public static Recovery recover(Path directory) {
+        Path journalPath = directory.resolve(JOURNAL_FILE_NAME);
+
+        try (FileChannel readChannel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            long recordCount = readChannel.size() / RECORD_SIZE;
+            MappedByteBuffer records = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, recordCount * RECORD_SIZE);
+            records.order(ByteOrder.LITTLE_ENDIAN);
+
+            long snapshotMoveCount = (recordCount / SNAPSHOT_INTERVAL) * SNAPSHOT_INTERVAL;
+            while (!isUsableSnapshot(snapshotPathOf(directory, snapshotMoveCount))
+                || reachesHistoryBefore(records, snapshotMoveCount, recordCount)) {
+                if (snapshotMoveCount == 0) {
+                    throw new IllegalStateException("저널을 복구할 스냅샷이 없습니다: " + directory);
+                }
+                snapshotMoveCount -= SNAPSHOT_INTERVAL;
+            }
+
+            GameBoard gameBoard = GameBoard.loadUndoableFrom(snapshotPathOf(directory, snapshotMoveCount));
+            for (long move = snapshotMoveCount; move < recordCount; move++) {
+                applyRecord(gameBoard, records, (int) (move * RECORD_SIZE));
+            }
+
+            FileChannel writeChannel = FileChannel.open(journalPath, StandardOpenOption.WRITE);
+            writeChannel.truncate(recordCount * RECORD_SIZE);
+            writeChannel.position(recordCount * RECORD_SIZE);
+            return new Recovery(gameBoard, new MoveJournal(directory, writeChannel, recordCount));
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 복구할 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 보드에 적용한 수를 기록하고 디스크에 내려쓴다. 스냅샷 주기가 되면 수를 적용한 뒤의 보드를 함께 저장한다.
+     * (스냅샷은 레코드가 내려써진 뒤에 만들어지므로, 스냅샷이 있으면 그 번호까지의 레코드도 있다)
+     * 되돌리기 이력과 맞도록 보드를 실제로 바꾼 수만 기록한다. 되돌리기/다시 하기의 좌표는 다시 적용할 때 쓰지 않는다.
+     */
+    public void append(CellPosition cellPosition, UserAction userAction, GameBoard boardAfterMove) {
+        recordBuffer.clear();
+        recordBuffer.putInt(codeOf(userAction));
+        recordBuffer.putInt(cellPosition.getRowIndex());
+        recordBuffer.putInt(cellPosition.getColIndex());
+        recordBuffer.flip();
+
+        try {
+            while (recordBuffer.hasRemaining()) {
+                channel.write(recordBuffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널에 기록할 수 없습니다.", e);
+        }
+
+        moveCount++;
+        if (moveCount % SNAPSHOT_INTERVAL == 0) {
+            boardAfterMove.saveTo(snapshotPathOf(directory, moveCount));
+        }
+    }
+
+    public long getMoveCount() {
+        return moveCount;
+    }
+
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 닫을 수 없습니다.", e);
+        }
+    }
+
+    private static void applyRecord(GameBoard gameBoard, ByteBuffer records, int offset) {
+        UserAction userAction = userActionOf(records.getInt(offset));
+        int rowIndex = records.getInt(offset + 4);
+        int colIndex = records.getInt(offset + 8);
+
+        if (userAction == UserAction.OPEN) {
+            gameBoard.openAt(rowIndex, colIndex);
+            return;
+        }
+        if (userAction == UserAction.FLAG) {
+            gameBoard.flagAt(rowIndex, colIndex);
+            return;
+        }
+        if (userAction == UserAction.CHORD) {
+            gameBoard.chordAt(rowIndex, colIndex);
+            return;
+        }
+        // 스냅샷을 고를 때 이력이 모자라지 않도록 했으므로, 여기서 움직일 수 없다면 저널이 보드와 어긋난 것이다
+        if (userAction == UserAction.UNDO) {
+            if (!gameBoard.canUndo()) {
+                throw new IllegalStateException("저널의 되돌리기 레코드를 적용할 수 없습니다: " + offset / RECORD_SIZE + "번째 수");
+            }
+            gameBoard.undo();
+            return;
+        }
+        if (userAction == UserAction.REDO) {
+            if (!gameBoard.canRedo()) {
+                throw new IllegalStateException("저널의 다시 하기 레코드를 적용할 수 없습니다: " + offset / RECORD_SIZE + "번째 수");
+            }
+            gameBoard.redo();
+        }
+    }
+
+    /**
+     * fromMove 번째 스냅샷에서 시작해 toMove 까지 다시 적용할 때, 스냅샷 이전의 이력이 필요한 레코드가 있는지
+     * 스냅샷 뒤의 레코드만으로 되돌릴 수 있는 수와 다시 둘 수 있는 수를 센다. 칸 단위 수는 다시 할 수 있는 수를 비운다.
+     */
+    private static boolean reachesHistoryBefore(ByteBuffer records, long fromMove, long toMove) {
+        long undoableMoveCount = 0;
+        long redoableMoveCount = 0;
+        for (long move = fromMove; move < toMove; move++) {
+            UserAction userAction = userActionOf(records.getInt((int) (move * RECORD_SIZE)));
+            if (userAction == UserAction.UNDO) {
+                if (undoableMoveCount == 0) {
+                    return true;
+                }
+                undoableMoveCount--;
+                redoableMoveCount++;
+                continue;
+            }
+            if (userAction == UserAction.REDO) {
+                if (redoableMoveCount == 0) {
+                    return true;
+                }
+                redoableMoveCount--;
+                undoableMoveCount++;
+                continue;
+            }
+            undoableMoveCount++;
+            redoableMoveCount = 0;
+        }
+        return false;
+    }
+
+    /**
+     * enum 순서가 바뀌어도 파일이 깨지지 않도록 행동마다 고정된 코드를 쓴다.
+     */
+    private static int codeOf(UserAction userAction) {
+        if (userAction == UserAction.OPEN) {
+            return 1;
+        }
+        if (userAction == UserAction.FLAG) {
+            return 2;
+        }
+        if (userAction == UserAction.CHORD) {
+            return 3;
+        }
+        if (userAction == UserAction.UNDO) {
+            return 4;
+        }
+        if (userAction == UserAction.REDO) {
+            return 5;
+        }
+        throw new IllegalArgumentException("기록할 수 없는 행동입니다: " + userAction);
+    }
+
+    private static UserAction userActionOf(int code) {
+        if (code == 1) {
+            return UserAction.OPEN;
+        }
+        if (code == 2) {
+            return UserAction.FLAG;
+        }
+        if (code == 3) {
+            return UserAction.CHORD;
+        }
+        if (code == 4) {
+            return UserAction.UNDO;
+        }
+        if (code == 5) {
+            return UserAction.REDO;
+        }
+        return UserAction.UNKNOWN;
+    }
+
+    private static boolean isUsableSnapshot(Path path) {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (BoardFile boardFile = BoardFile.open(path)) {
+            return boardFile.isSealed();
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 이전 세션의 스냅샷(과 옮기지 못한 임시 파일)이 새 저널의 같은 번호로 잘못 쓰이지 않도록 지운다.
+     */
+    private static void deleteSnapshots(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : paths.filter(MoveJournal::isSnapshot).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static boolean isSnapshot(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.startsWith("snapshot-") && (fileName.endsWith(".board") || fileName.endsWith(".board.tmp"));
+    }
+
+    private static Path snapshotPathOf(Path directory, long moveCount) {
+        return directory.resolve(String.format("snapshot-%012d.board", moveCount));
+    }
+
+    public static class Recovery {
+
+        private final GameBoard gameBoard;
+        private final MoveJournal moveJournal;
+
+        private Recovery(GameBoard gameBoard, MoveJournal moveJournal) {
+            this.gameBoard = gameBoard;
+            this.moveJournal = moveJournal;
+        }
+
+        public GameBoard getGameBoard() {
+            return gameBoard;
+        }
+
+        public MoveJournal getMoveJournal() {
+            return moveJournal;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package cleancode.minesweeper.tobe.minesweeper.script;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
+
+/**
+ * 화면을 그리지 않고 결과만 센다. 대량의 수를 엔진에 흘려 보내는 회귀/처리량 시험용
+ * 마지막으로 받은 보드를 기억해 두어 게임이 끝난 상태를 확인할 수 있다.
+ */
+public class HeadlessOutputHandler implements OutputHandler {
+
+    private GameBoard lastBoard;
+    private long winCount;
+    private long loseCount;
+    private long rejectedMoveCount;
+
+    @Override
+    public void showGameStartComments() {
+    }
+
+    @Override
+    public void showBoard(GameBoard board) {
+        lastBoard = board;
+    }
+
+    @Override
+    public void showGameWinningComment() {
+        winCount++;
+    }
+
+    @Override
+    public void showGameLosingComment() {
+        loseCount++;
+    }
+
+    @Override
+    public void showCommentForSelectingCell() {
+    }
+
+    @Override
+    public void showCommentForUserAction() {
+    }
+
+    @Override
+    public void showExceptionMessage(Exception exception) {
+        rejectedMoveCount++;
+    }
+
+    /**
+     * 힌트나 되돌릴 수 없다는 안내처럼 수를 거부한 것이 아닌 문구도 여기로 오므로 세지 않는다.
+     */
+    @Override
+    public void showSimpleMessage(String message) {
+    }
+
+    @Override
+    public void showCommentForInvalidUserAction() {
+        rejectedMoveCount++;
+    }
+
+    public GameBoard getLastBoard() {
+        return lastBoard;
+    }
+
+    public long getWinCount() {
+        return winCount;
+    }
+
+    public long getLoseCount() {
+        return loseCount;
+    }
+
+    /**
+     * 잘못된 좌표나 행동이라 보드에 두지 못한 수
+     */
+    public long getRejectedMoveCount() {
+        return rejectedMoveCount;
+    }
+}
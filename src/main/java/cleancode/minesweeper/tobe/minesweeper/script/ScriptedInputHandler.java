@@ -0,0 +1,112 @@
+package cleancode.minesweeper.tobe.minesweeper.script;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.io.BoardIndexConverter;
+import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+/**
+ * 파일이나 메모리의 명령 스트림에서 수를 읽는다. 한 줄에 한 수: "a1 open", "c7 flag", "d2 hint", "b3 chord"
+ * 빈 줄과 '#' 으로 시작하는 줄은 건너뛰고, 스트림이 끝나면 isClosed() 가 true 가 된다.
+ */
+public class ScriptedInputHandler implements InputHandler {
+
+    private static final char COMMENT_PREFIX = '#';
+
+    private final BoardIndexConverter boardIndexConverter = new BoardIndexConverter();
+    private final BufferedReader reader;
+
+    // 스트림 끝을 미리 알 수 있도록 다음 줄을 한 줄 앞서 읽어 둔다
+    private String nextLine;
+    private UserAction pendingUserAction = UserAction.UNKNOWN;
+    private long moveCount;
+
+    public ScriptedInputHandler(BufferedReader reader) {
+        this.reader = reader;
+        readAhead();
+    }
+
+    @Override
+    public CellPosition getCellPositionFromUser() {
+        if (nextLine == null) {
+            throw new GameException("더 이상 읽을 수가 없습니다.");
+        }
+        String line = nextLine;
+        readAhead();
+        moveCount++;
+
+        // "a1 open" -> 좌표 / 행동
+        int separatorIndex = line.indexOf(' ');
+        if (separatorIndex < 0) {
+            pendingUserAction = UserAction.UNKNOWN;
+            throw new GameException("잘못된 입력입니다: " + line);
+        }
+        String cellInput = line.substring(0, separatorIndex);
+        pendingUserAction = userActionOf(line.substring(separatorIndex + 1).trim());
+
+        int rowIndex = boardIndexConverter.getSelectedRowIndex(cellInput);
+        int colIndex = boardIndexConverter.getSelectedColIndex(cellInput);
+        return CellPosition.of(rowIndex, colIndex);
+    }
+
+    @Override
+    public UserAction getUserActionFromUser() {
+        return pendingUserAction;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return nextLine == null;
+    }
+
+    /**
+     * 지금까지 읽은 수 (잘못된 줄 포함)
+     */
+    public long getMoveCount() {
+        return moveCount;
+    }
+
+    private UserAction userActionOf(String actionInput) {
+        if ("open".equals(actionInput) || "1".equals(actionInput)) {
+            return UserAction.OPEN;
+        }
+        if ("flag".equals(actionInput) || "2".equals(actionInput)) {
+            return UserAction.FLAG;
+        }
+        if ("hint".equals(actionInput) || "3".equals(actionInput)) {
+            return UserAction.HINT;
+        }
+        if ("chord".equals(actionInput) || "4".equals(actionInput)) {
+            return UserAction.CHORD;
+        }
+        if ("undo".equals(actionInput) || "5".equals(actionInput)) {
+            return UserAction.UNDO;
+        }
+        if ("redo".equals(actionInput) || "6".equals(actionInput)) {
+            return UserAction.REDO;
+        }
+        return UserAction.UNKNOWN;
+    }
+
+    private void readAhead() {
+        try {
+            String line = reader.readLine();
+            while (line != null && isSkippable(line)) {
+                line = reader.readLine();
+            }
+            nextLine = line == null ? null : line.trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException("명령 스트림을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private boolean isSkippable(String line) {
+        String trimmed = line.strip();
+        return trimmed.isEmpty() || trimmed.charAt(0) == COMMENT_PREFIX;
+    }
+}
@@ -0,0 +1,124 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+
+import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+/**
+ * 여러 명이 동시에 접속해 각자 지뢰찾기를 하는 로컬 TCP 서버
+ * 접속마다 세션 하나를 sessionExecutor 의 스레드 하나에서 끝까지 실행한다.
+ * 협동 모드에서는 모든 세션이 한 보드(GameBoard.concurrent)를 함께 풀고, 그 판이 끝나면 다음 접속부터 새 판을 푼다.
+ */
+public class GameServer {
+
+    private final int port;
+    private final GameLevel gameLevel;
+    private final ExecutorService sessionExecutor;
+    private final SessionRegistry sessionRegistry;
+    private final boolean coOpEnabled;
+
+    private ServerSocket serverSocket;
+    private Thread acceptThread;
+    private GameBoard sharedGameBoard;
+
+    public GameServer(int port, GameLevel gameLevel, Duration idleTimeout, ExecutorService sessionExecutor) {
+        this(port, gameLevel, idleTimeout, sessionExecutor, false);
+    }
+
+    public GameServer(int port, GameLevel gameLevel, Duration idleTimeout, ExecutorService sessionExecutor,
+        boolean coOpEnabled) {
+        this.port = port;
+        this.gameLevel = gameLevel;
+        this.sessionExecutor = sessionExecutor;
+        this.sessionRegistry = new SessionRegistry(idleTimeout);
+        this.coOpEnabled = coOpEnabled;
+    }
+
+    public void start() {
+        try {
+            serverSocket = new ServerSocket(port);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버를 시작할 수 없습니다. (port: " + port + ")", e);
+        }
+
+        sessionRegistry.startSweeping();
+        acceptThread = new Thread(this::acceptSessions, "game-server-accept");
+        acceptThread.start();
+    }
+
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 서버 소켓
+        }
+        sessionRegistry.shutdown();
+        sessionExecutor.shutdownNow();
+    }
+
+    public int getLocalPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public SessionRegistry getSessionRegistry() {
+        return sessionRegistry;
+    }
+
+    private void acceptSessions() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                GameSession session = sessionRegistry.register(socket);
+                sessionExecutor.execute(() -> runSession(session));
+            } catch (IOException e) {
+                // 서버 소켓이 닫히면 accept 가 실패하며 루프를 빠져나간다
+            }
+        }
+    }
+
+    /**
+     * 지금 함께 푸는 판. 아직 없거나 이미 끝났으면 새 판을 만든다.
+     */
+    public synchronized GameBoard currentSharedGameBoard() {
+        if (sharedGameBoard == null || !sharedGameBoard.isInProgress()) {
+            sharedGameBoard = GameBoard.concurrent(gameLevel);
+            sharedGameBoard.initializeGame();
+        }
+        return sharedGameBoard;
+    }
+
+    private void runSession(GameSession session) {
+        try (session) {
+            Socket socket = session.getSocket();
+            Scanner scanner = new Scanner(socket.getInputStream(), StandardCharsets.UTF_8);
+            PrintStream out = new PrintStream(new BufferedOutputStream(socket.getOutputStream()), true, StandardCharsets.UTF_8);
+
+            SocketInputHandler inputHandler = new SocketInputHandler(scanner, session);
+            SocketOutputHandler outputHandler = new SocketOutputHandler(out, session);
+            GameConfig gameConfig = coOpEnabled
+                ? new GameConfig(currentSharedGameBoard(), gameLevel, inputHandler, outputHandler)
+                : new GameConfig(gameLevel, inputHandler, outputHandler);
+
+            Minesweeper minesweeper = new Minesweeper(gameConfig);
+            minesweeper.initialize();
+            minesweeper.run();
+        } catch (IOException e) {
+            // 접속 직후 끊긴 세션
+        } finally {
+            sessionRegistry.unregister(session);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * 접속 하나에 대응하는 게임 세션
+ */
+public class GameSession implements AutoCloseable {
+
+    private final long id;
+    private final Socket socket;
+    private final SessionRegistry sessionRegistry;
+
+    private volatile long lastActivityNanos = System.nanoTime();
+    private volatile long moveReceivedNanos;
+
+    public GameSession(long id, Socket socket, SessionRegistry sessionRegistry) {
+        this.id = id;
+        this.socket = socket;
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Socket getSocket() {
+        return socket;
+    }
+
+    /**
+     * 입력이 한 줄 들어올 때마다 호출
+     */
+    public void touch() {
+        lastActivityNanos = System.nanoTime();
+    }
+
+    /**
+     * 한 수(좌표 + 행동)를 모두 입력 받은 시점
+     */
+    public void markMoveReceived() {
+        touch();
+        moveReceivedNanos = lastActivityNanos;
+    }
+
+    /**
+     * 수를 적용한 결과 화면을 내보낸 시점. 입력부터 여기까지를 수 처리 지연 시간으로 기록한다.
+     */
+    public void markMoveAnswered() {
+        if (moveReceivedNanos == 0) {
+            return;
+        }
+        sessionRegistry.recordMoveLatency(System.nanoTime() - moveReceivedNanos);
+        moveReceivedNanos = 0;
+    }
+
+    public boolean isIdleSince(long deadlineNanos) {
+        return lastActivityNanos - deadlineNanos < 0;
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 이미 끊긴 접속은 닫을 것이 없다
+        }
+    }
+}
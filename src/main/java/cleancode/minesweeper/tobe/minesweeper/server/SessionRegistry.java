@@ -0,0 +1,100 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 접속 중인 세션 목록
+ * 주기적으로 유휴 세션을 끊고, 초당 세션 수와 수 처리 지연 시간을 집계한다.
+ */
+public class SessionRegistry {
+
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextSessionId = new AtomicLong();
+    private final Duration idleTimeout;
+    private final ScheduledExecutorService idleSessionSweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idle-session-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long startedAtNanos = System.nanoTime();
+    private final LongAdder startedSessionCount = new LongAdder();
+    private final LongAdder moveCount = new LongAdder();
+    private final LongAdder totalMoveLatencyNanos = new LongAdder();
+    private final AtomicLong maxMoveLatencyNanos = new AtomicLong();
+
+    public SessionRegistry(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public void startSweeping() {
+        long periodMillis = Math.max(idleTimeout.toMillis() / 4, 100);
+        idleSessionSweeper.scheduleAtFixedRate(this::closeIdleSessions, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public GameSession register(Socket socket) {
+        GameSession session = new GameSession(nextSessionId.incrementAndGet(), socket, this);
+        sessions.put(session.getId(), session);
+        startedSessionCount.increment();
+        return session;
+    }
+
+    public void unregister(GameSession session) {
+        sessions.remove(session.getId());
+    }
+
+    public void closeIdleSessions() {
+        long deadlineNanos = System.nanoTime() - idleTimeout.toNanos();
+        sessions.values().stream()
+            .filter(session -> session.isIdleSince(deadlineNanos))
+            .forEach(GameSession::close);
+    }
+
+    public void shutdown() {
+        idleSessionSweeper.shutdownNow();
+        sessions.values().forEach(GameSession::close);
+    }
+
+    public void recordMoveLatency(long latencyNanos) {
+        moveCount.increment();
+        totalMoveLatencyNanos.add(latencyNanos);
+        maxMoveLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    public long getStartedSessionCount() {
+        return startedSessionCount.sum();
+    }
+
+    public double getSessionsPerSecond() {
+        double elapsedSeconds = (System.nanoTime() - startedAtNanos) / 1_000_000_000.0;
+        return startedSessionCount.sum() / elapsedSeconds;
+    }
+
+    public long getMoveCount() {
+        return moveCount.sum();
+    }
+
+    public double getAverageMoveLatencyMicros() {
+        long count = moveCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+        return totalMoveLatencyNanos.sum() / 1_000.0 / count;
+    }
+
+    public double getMaxMoveLatencyMicros() {
+        return maxMoveLatencyNanos.get() / 1_000.0;
+    }
+}
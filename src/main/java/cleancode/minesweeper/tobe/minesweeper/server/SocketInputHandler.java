@@ -0,0 +1,68 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Scanner;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.io.ConsoleInputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.PanDirection;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+/**
+ * 소켓에서 한 줄씩 입력을 읽는다. 해석 규칙은 콘솔 입력과 같다.
+ */
+public class SocketInputHandler implements InputHandler {
+
+    private final ConsoleInputHandler lineInputHandler;
+    private final GameSession session;
+
+    private volatile boolean closed;
+
+    public SocketInputHandler(Scanner scanner, GameSession session) {
+        this.lineInputHandler = new ConsoleInputHandler(scanner);
+        this.session = session;
+    }
+
+    @Override
+    public UserAction getUserActionFromUser() {
+        try {
+            UserAction userAction = lineInputHandler.getUserActionFromUser();
+            session.markMoveReceived();
+            return userAction;
+        } catch (NoSuchElementException | IllegalStateException e) {
+            throw disconnected();
+        }
+    }
+
+    @Override
+    public CellPosition getCellPositionFromUser() {
+        try {
+            CellPosition cellPosition = lineInputHandler.getCellPositionFromUser();
+            session.touch();
+            return cellPosition;
+        } catch (NoSuchElementException | IllegalStateException e) {
+            throw disconnected();
+        }
+    }
+
+    @Override
+    public Optional<PanDirection> getPanDirection() {
+        return lineInputHandler.getPanDirection();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 접속이 끊기거나 유휴 시간 초과로 소켓이 닫히면 입력 스트림이 끝난다.
+     */
+    private GameException disconnected() {
+        closed = true;
+        return new GameException("접속이 종료되었습니다.");
+    }
+}
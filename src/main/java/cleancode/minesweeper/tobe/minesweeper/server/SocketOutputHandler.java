@@ -0,0 +1,25 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.io.PrintStream;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.io.ConsoleOutputHandler;
+
+/**
+ * 콘솔과 같은 화면을 소켓으로 내보낸다.
+ */
+public class SocketOutputHandler extends ConsoleOutputHandler {
+
+    private final GameSession session;
+
+    public SocketOutputHandler(PrintStream out, GameSession session) {
+        super(out);
+        this.session = session;
+    }
+
+    @Override
+    public void showBoard(GameBoard board) {
+        super.showBoard(board);
+        session.markMoveAnswered();
+    }
+}
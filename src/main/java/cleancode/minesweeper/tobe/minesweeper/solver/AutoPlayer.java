@@ -0,0 +1,102 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.util.random.RandomGenerator;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+
+/**
+ * 힌트만으로 게임을 끝까지 둔다.
+ * 확실한 안전 셀을 열고 확실한 지뢰에 깃발을 꽂다가, 더 알아낼 것이 없으면 미지 셀 하나를 골라 연다.
+ */
+public class AutoPlayer {
+
+    private final RandomGenerator random;
+
+    public AutoPlayer(RandomGenerator random) {
+        this.random = random;
+    }
+
+    public Result play(GameBoard gameBoard) {
+        HintSolver hintSolver = new HintSolver(gameBoard);
+        hintSolver.observeAll();
+
+        long moveCount = 0;
+        long guessCount = 0;
+        while (gameBoard.isInProgress()) {
+            Hints hints = hintSolver.solve();
+
+            boolean progressed = false;
+            for (int index : hints.getSafeCellIndices()) {
+                hintSolver.observe(gameBoard.openAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index)));
+                moveCount++;
+                progressed = true;
+            }
+            for (int index : hints.getLandMineIndices()) {
+                if (!gameBoard.getSnapshot(index).isSameStatus(CellSnapshotStatus.FLAG)) {
+                    gameBoard.flagAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+                    moveCount++;
+                    progressed = true;
+                }
+            }
+            if (progressed || !gameBoard.isInProgress()) {
+                continue;
+            }
+
+            int guessIndex = chooseGuess(hintSolver);
+            hintSolver.observe(gameBoard.openAt(gameBoard.rowIndexOf(guessIndex), gameBoard.colIndexOf(guessIndex)));
+            moveCount++;
+            guessCount++;
+        }
+        return new Result(gameBoard.isWinStatus(), moveCount, guessCount);
+    }
+
+    /**
+     * 더 알아낼 것이 없을 때 열어 볼 미지 셀 (기본: 무작위)
+     */
+    protected int chooseGuess(HintSolver hintSolver) {
+        int cellCount = hintSolver.getGameBoard().getCellCount();
+        int unknownCount = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (hintSolver.isUnknown(index)) {
+                unknownCount++;
+            }
+        }
+
+        int target = random.nextInt(unknownCount);
+        for (int index = 0; index < cellCount; index++) {
+            if (hintSolver.isUnknown(index) && target-- == 0) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("열어 볼 셀이 없습니다.");
+    }
+
+    public static class Result {
+
+        private final boolean won;
+        private final long moveCount;
+        private final long guessCount;
+
+        private Result(boolean won, long moveCount, long guessCount) {
+            this.won = won;
+            this.moveCount = moveCount;
+            this.guessCount = guessCount;
+        }
+
+        public boolean isWon() {
+            return won;
+        }
+
+        public long getMoveCount() {
+            return moveCount;
+        }
+
+        /**
+         * 확실한 셀이 없어 추측으로 연 횟수
+         */
+        public long getGuessCount() {
+            return guessCount;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 제약을 공유하지 않는 다른 묶음과는 독립인 프런티어(숫자 셀에 닿은 미지 셀) 한 묶음
+ * 셀을 정해진 순서로 하나씩 지뢰/안전으로 정하며, "아직 끝나지 않은 제약들의 남은 지뢰 수" 가 같은 경우는
+ * 하나의 상태로 합친다. (층 d 의 상태 = 앞의 d 개 셀을 정한 뒤 경계 제약들의 남은 지뢰 수)
+ * 뒤에서부터 상태별 "남은 셀을 k 개 지뢰로 채우는 경우의 수" 를 한 번씩만 세고,
+ * 앞에서부터 같은 방식으로 세어 두 값을 곱해 셀별 경우의 수를 얻는다.
+ * 경우의 수는 지뢰 수 k 별로 따로 센다. (묶음 밖 셀에 남는 지뢰 수에 따라 가중치가 다르기 때문)
+ * 경우의 수는 셀 수에 대해 지수적으로 커지므로, 층마다 가장 큰 값을 1 로 맞추고 맞춘 배율은 로그로 따로 쌓는다.
+ */
+class FrontierComponent {
+
+    private final int[] cells;
+    private final int[] remainders;
+    private final int[][] constraintPositions;
+    private final int maxLandMineCount;
+
+    // 층별 상태: 경계 제약의 남은 지뢰 수를 문자 하나씩으로 이어 붙인 키
+    private String[][] states;
+    // [층][상태] -> 다음 층 상태 (셀을 안전으로 / 지뢰로 정했을 때, 불가능하면 -1)
+    private int[][] safeTransitions;
+    private int[][] landMineTransitions;
+    // [층][상태][k] 뒤쪽 셀들을 지뢰 k 개로 채우는 경우의 수 (층마다 배율을 맞춘 값)
+    private double[][][] suffixCounts;
+    // [층] 맞춘 값에 exp(배율) 을 곱하면 실제 경우의 수
+    private double[] logSuffixScales;
+
+    /**
+     * @param cells 열거 순서대로 놓인 셀 인덱스
+     * @param remainders 제약별 남은 지뢰 수
+     * @param constraintPositions 제약별로 닿아 있는 셀의 위치(cells 기준, 오름차순)
+     * @param maxLandMineCount 묶음에 들어갈 수 있는 지뢰 수의 상한 (남은 지뢰 수)
+     */
+    FrontierComponent(int[] cells, int[] remainders, int[][] constraintPositions, int maxLandMineCount) {
+        this.cells = cells;
+        this.remainders = remainders;
+        this.constraintPositions = constraintPositions;
+        this.maxLandMineCount = Math.min(maxLandMineCount, cells.length);
+    }
+
+    int[] getCells() {
+        return cells;
+    }
+
+    /**
+     * 상태 그래프를 만들고 지뢰 수별 전체 경우의 수를 센다.
+     * @return [k] 묶음 안에 지뢰가 k 개인 배치의 수에 비례하는 값 (가장 큰 값이 1)
+     */
+    double[] countArrangements() {
+        buildStates();
+        countSuffixes();
+        return suffixCounts[0][0];
+    }
+
+    /**
+     * 셀별로 지뢰인 배치의 가중 합을 구한다. countArrangements() 다음에 부른다.
+     * @param weights [k] 묶음 안에 지뢰가 k 개인 배치 하나의 가중치 (묶음 밖 배치의 수)
+     * @return [위치] 그 셀이 지뢰일 확률
+     */
+    double[] calculateProbabilities(double[] weights) {
+        int cellCount = cells.length;
+        double[] probabilities = new double[cellCount];
+
+        double total = 0;
+        double[] totalCounts = suffixCounts[0][0];
+        for (int k = 0; k < totalCounts.length; k++) {
+            total += totalCounts[k] * weights[k];
+        }
+
+        // [상태][a] 앞쪽 셀들을 지뢰 a 개로 채우는 경우의 수 (층마다 배율을 맞춘 값)
+        double[][] prefixCounts = {{1}};
+        double logPrefixScale = 0;
+        for (int position = 0; position < cellCount; position++) {
+            double landMineWeight = 0;
+            double[][] nextSuffixCounts = suffixCounts[position + 1];
+            for (int state = 0; state < prefixCounts.length; state++) {
+                int next = landMineTransitions[position][state];
+                if (next < 0) {
+                    continue;
+                }
+                double[] prefix = prefixCounts[state];
+                double[] suffix = nextSuffixCounts[next];
+                for (int a = 0; a < prefix.length; a++) {
+                    if (prefix[a] == 0) {
+                        continue;
+                    }
+                    double partial = 0;
+                    for (int b = 0; b < suffix.length && a + 1 + b < weights.length; b++) {
+                        partial += suffix[b] * weights[a + 1 + b];
+                    }
+                    landMineWeight += prefix[a] * partial;
+                }
+            }
+            // 앞/뒤 층에서 덜어 낸 배율을 되돌려 전체 경우의 수와 같은 배율로 맞춘다
+            if (landMineWeight > 0) {
+                double logScale = logPrefixScale + logSuffixScales[position + 1] - logSuffixScales[0];
+                probabilities[position] = Math.exp(Math.log(landMineWeight) - Math.log(total) + logScale);
+            }
+
+            prefixCounts = advancePrefixes(position, prefixCounts);
+            logPrefixScale += normalizeLayer(prefixCounts);
+        }
+        return probabilities;
+    }
+
+    private double[][] advancePrefixes(int position, double[][] prefixCounts) {
+        int length = Math.min(position + 1, maxLandMineCount) + 1;
+        double[][] nextPrefixCounts = new double[states[position + 1].length][length];
+        for (int state = 0; state < prefixCounts.length; state++) {
+            double[] prefix = prefixCounts[state];
+            int safeNext = safeTransitions[position][state];
+            if (safeNext >= 0) {
+                addShifted(nextPrefixCounts[safeNext], prefix, 0);
+            }
+            int landMineNext = landMineTransitions[position][state];
+            if (landMineNext >= 0) {
+                addShifted(nextPrefixCounts[landMineNext], prefix, 1);
+            }
+        }
+        return nextPrefixCounts;
+    }
+
+    private void buildStates() {
+        int cellCount = cells.length;
+        int constraintCount = remainders.length;
+
+        // 셀 위치 -> 닿은 제약, 그 제약에서 이 셀 뒤에 남은 셀 수
+        int[] cellConstraintCounts = new int[cellCount];
+        for (int[] positions : constraintPositions) {
+            for (int position : positions) {
+                cellConstraintCounts[position]++;
+            }
+        }
+        int[][] cellConstraints = new int[cellCount][];
+        int[][] membersAfter = new int[cellCount][];
+        for (int position = 0; position < cellCount; position++) {
+            cellConstraints[position] = new int[cellConstraintCounts[position]];
+            membersAfter[position] = new int[cellConstraintCounts[position]];
+            cellConstraintCounts[position] = 0;
+        }
+        for (int constraint = 0; constraint < constraintCount; constraint++) {
+            int[] positions = constraintPositions[constraint];
+            for (int i = 0; i < positions.length; i++) {
+                int position = positions[i];
+                int slot = cellConstraintCounts[position]++;
+                cellConstraints[position][slot] = constraint;
+                membersAfter[position][slot] = positions.length - 1 - i;
+            }
+        }
+
+        // 층 d 의 경계 제약: 첫 셀은 d 보다 앞이고 마지막 셀은 d 이후인 제약
+        int[][] boundaries = new int[cellCount + 1][];
+        int[] boundarySizes = new int[cellCount + 1];
+        for (int[] positions : constraintPositions) {
+            for (int layer = positions[0] + 1; layer <= positions[positions.length - 1]; layer++) {
+                boundarySizes[layer]++;
+            }
+        }
+        for (int layer = 0; layer <= cellCount; layer++) {
+            boundaries[layer] = new int[boundarySizes[layer]];
+            boundarySizes[layer] = 0;
+        }
+        for (int constraint = 0; constraint < constraintCount; constraint++) {
+            int[] positions = constraintPositions[constraint];
+            for (int layer = positions[0] + 1; layer <= positions[positions.length - 1]; layer++) {
+                boundaries[layer][boundarySizes[layer]++] = constraint;
+            }
+        }
+
+        states = new String[cellCount + 1][];
+        safeTransitions = new int[cellCount][];
+        landMineTransitions = new int[cellCount][];
+        states[0] = new String[] {""};
+
+        // 제약 -> 지금 층의 경계 슬롯, 지금 셀을 정한 뒤의 남은 지뢰 수
+        int[] boundarySlots = new int[constraintCount];
+        int[] nextRemainders = new int[constraintCount];
+        for (int position = 0; position < cellCount; position++) {
+            int[] boundary = boundaries[position];
+            int[] nextBoundary = boundaries[position + 1];
+            for (int slot = 0; slot < boundary.length; slot++) {
+                boundarySlots[boundary[slot]] = slot;
+            }
+
+            String[] layerStates = states[position];
+            Map<String, Integer> nextStateIndices = new HashMap<>();
+            safeTransitions[position] = new int[layerStates.length];
+            landMineTransitions[position] = new int[layerStates.length];
+            char[] nextKey = new char[nextBoundary.length];
+
+            for (int state = 0; state < layerStates.length; state++) {
+                String key = layerStates[state];
+                for (int landMine = 0; landMine <= 1; landMine++) {
+                    int next = -1;
+                    if (assign(position, landMine, key, boundary, boundarySlots, cellConstraints[position],
+                        membersAfter[position], nextRemainders)) {
+                        for (int slot = 0; slot < nextBoundary.length; slot++) {
+                            nextKey[slot] = (char) nextRemainders[nextBoundary[slot]];
+                        }
+                        next = nextStateIndices.computeIfAbsent(new String(nextKey), ignored -> nextStateIndices.size());
+                    }
+                    if (landMine == 0) {
+                        safeTransitions[position][state] = next;
+                    } else {
+                        landMineTransitions[position][state] = next;
+                    }
+                }
+            }
+
+            String[] nextStates = new String[nextStateIndices.size()];
+            for (Map.Entry<String, Integer> entry : nextStateIndices.entrySet()) {
+                nextStates[entry.getValue()] = entry.getKey();
+            }
+            states[position + 1] = nextStates;
+        }
+    }
+
+    /**
+     * position 셀을 landMine(0/1) 로 정했을 때 닿은 제약들이 아직 만족 가능한지 보고,
+     * 다음 층 경계 제약의 남은 지뢰 수를 nextRemainders 에 채운다.
+     */
+    private boolean assign(int position, int landMine, String key, int[] boundary, int[] boundarySlots,
+        int[] touchedConstraints, int[] membersAfter, int[] nextRemainders) {
+        for (int constraint : boundary) {
+            nextRemainders[constraint] = key.charAt(boundarySlots[constraint]);
+        }
+        for (int i = 0; i < touchedConstraints.length; i++) {
+            int constraint = touchedConstraints[i];
+            int remainder = constraintPositions[constraint][0] == position
+                ? remainders[constraint]
+                : nextRemainders[constraint];
+            remainder -= landMine;
+            // 남은 셀이 모두 지뢰여도 모자라거나, 이미 넘쳤으면 불가능
+            if (remainder < 0 || remainder > membersAfter[i]) {
+                return false;
+            }
+            nextRemainders[constraint] = remainder;
+        }
+        return true;
+    }
+
+    private void countSuffixes() {
+        int cellCount = cells.length;
+        suffixCounts = new double[cellCount + 1][][];
+        suffixCounts[cellCount] = new double[][] {{1}};
+        logSuffixScales = new double[cellCount + 1];
+
+        for (int position = cellCount - 1; position >= 0; position--) {
+            int length = Math.min(cellCount - position, maxLandMineCount) + 1;
+            double[][] nextCounts = suffixCounts[position + 1];
+            double[][] counts = new double[states[position].length][length];
+            for (int state = 0; state < counts.length; state++) {
+                int safeNext = safeTransitions[position][state];
+                if (safeNext >= 0) {
+                    addShifted(counts[state], nextCounts[safeNext], 0);
+                }
+                int landMineNext = landMineTransitions[position][state];
+                if (landMineNext >= 0) {
+                    addShifted(counts[state], nextCounts[landMineNext], 1);
+                }
+            }
+            suffixCounts[position] = counts;
+            logSuffixScales[position] = logSuffixScales[position + 1] + normalizeLayer(counts);
+        }
+    }
+
+    /**
+     * 층의 모든 값을 가장 큰 값으로 나눈다.
+     * @return 나눈 값의 로그 (모두 0 이면 0)
+     */
+    private static double normalizeLayer(double[][] counts) {
+        double max = 0;
+        for (double[] stateCounts : counts) {
+            for (double count : stateCounts) {
+                max = Math.max(max, count);
+            }
+        }
+        if (max == 0) {
+            return 0;
+        }
+
+        for (double[] stateCounts : counts) {
+            for (int k = 0; k < stateCounts.length; k++) {
+                stateCounts[k] /= max;
+            }
+        }
+        return Math.log(max);
+    }
+
+    /**
+     * target[k + shift] += source[k] (지뢰 수 상한을 넘는 부분은 버린다)
+     */
+    private static void addShifted(double[] target, double[] source, int shift) {
+        int length = Math.min(source.length, target.length - shift);
+        for (int k = 0; k < length; k++) {
+            target[k + shift] += source[k];
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.util.Arrays;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.change.ChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopology;
+
+/**
+ * 보이는 상태(GameBoard.getSnapshot)만으로 확실히 안전한 셀과 확실한 지뢰를 찾는다.
+ * 열린 숫자 셀 하나하나가 "닫힌 이웃 중 지뢰가 n개" 라는 제약이고, 다음 규칙을 고정점까지 반복한다.
+ * - 한 제약: 남은 지뢰가 0이면 모두 안전, 닫힌 이웃 수와 같으면 모두 지뢰
+ * - 두 제약: 한쪽의 미지 셀이 다른 쪽에 포함되면 차집합에 대해 위 규칙 적용 (이웃 슬롯 비트마스크로 포함 검사)
+ * - 전체: 남은 지뢰 수가 0이거나 미지 셀 수와 같을 때
+ * 알아낸 것과 작업 큐는 수를 두는 사이에도 유지하므로, observe(ChangeSet) 로 바뀐 셀만 알려 주면
+ * 그 주변 제약만 다시 검사한다. 깃발은 플레이어의 추측이므로 믿지 않는다.
+ */
+public class HintSolver {
+
+    private static final int CLOSED = -1;
+
+    private final GameBoard gameBoard;
+    private final BoardTopology topology;
+    private final int landMineCount;
+
+    // 열린 셀이 보여 주는 근처 지뢰 수 (닫힌 셀은 CLOSED)
+    private final int[] visibleNumbers;
+    // 닫힌 셀 중 증명된 것
+    private final BitPlane provenSafeCells;
+    private final BitPlane provenLandMineCells;
+
+    // 다시 검사할 제약(열린 숫자 셀) 큐
+    private final BitPlane queuedCells;
+    private int[] queue = new int[64];
+    private int queueSize;
+
+    private final int[] constraintNeighbors;
+    private final int[] candidateNeighbors;
+    private final int[] otherNeighbors;
+    private final int[] markNeighbors;
+    private final int[] unknownCells;
+    private final int[] otherUnknownCells;
+
+    private int closedCellCount;
+    private int provenSafeCellCount;
+    private int provenLandMineCount;
+
+    public HintSolver(GameBoard gameBoard) {
+        this.gameBoard = gameBoard;
+        this.topology = gameBoard.getTopology();
+        this.landMineCount = gameBoard.getLandMineCount();
+
+        int cellCount = gameBoard.getCellCount();
+        this.visibleNumbers = new int[cellCount];
+        Arrays.fill(visibleNumbers, CLOSED);
+        this.provenSafeCells = BitPlane.ofSize(cellCount);
+        this.provenLandMineCells = BitPlane.ofSize(cellCount);
+        this.queuedCells = BitPlane.ofSize(cellCount);
+        this.closedCellCount = cellCount;
+
+        int maxNeighborCount = topology.getMaxNeighborCount();
+        this.constraintNeighbors = new int[maxNeighborCount];
+        this.candidateNeighbors = new int[maxNeighborCount];
+        this.otherNeighbors = new int[maxNeighborCount];
+        this.markNeighbors = new int[maxNeighborCount];
+        this.unknownCells = new int[maxNeighborCount];
+        this.otherUnknownCells = new int[maxNeighborCount];
+    }
+
+    /**
+     * 보드 전체를 한 번 읽는다. (처음 만들었을 때나, 바뀐 셀을 알 수 없을 때)
+     */
+    public void observeAll() {
+        for (int index = 0; index < visibleNumbers.length; index++) {
+            observeCell(index);
+        }
+    }
+
+    /**
+     * 한 수로 바뀐 셀만 읽는다.
+     */
+    public void observe(ChangeSet changeSet) {
+        for (int index : changeSet.getChangedCellIndices()) {
+            observeCell(index);
+        }
+    }
+
+    public Hints solve() {
+        propagate();
+        if (applyGlobalRule()) {
+            propagate();
+        }
+        return collectHints();
+    }
+
+    public boolean isProvenSafe(int index) {
+        return provenSafeCells.get(index);
+    }
+
+    public boolean isProvenLandMine(int index) {
+        return provenLandMineCells.get(index);
+    }
+
+    public boolean isUnknown(int index) {
+        return visibleNumbers[index] == CLOSED
+            && !provenSafeCells.get(index)
+            && !provenLandMineCells.get(index);
+    }
+
+    /**
+     * 열린 셀이 보여 주는 근처 지뢰 수 (닫힌 셀이면 음수)
+     */
+    public int getVisibleNumber(int index) {
+        return visibleNumbers[index];
+    }
+
+    /**
+     * 닫혀 있고 안전인지 지뢰인지 아직 모르는 셀 수 (0 이면 추측 없이 끝까지 풀린다)
+     */
+    public int getUnknownCellCount() {
+        return closedCellCount - provenSafeCellCount - provenLandMineCount;
+    }
+
+    /**
+     * 아직 증명되지 않은 지뢰 수
+     */
+    public int getUnprovenLandMineCount() {
+        return landMineCount - provenLandMineCount;
+    }
+
+    public GameBoard getGameBoard() {
+        return gameBoard;
+    }
+
+    private void observeCell(int index) {
+        if (visibleNumbers[index] != CLOSED || provenLandMineCells.get(index)) {
+            return;
+        }
+
+        CellSnapshot snapshot = gameBoard.getSnapshot(index);
+        if (snapshot.isSameStatus(CellSnapshotStatus.LAND_MIND)) {
+            // 밟은 지뢰도 확실한 지뢰다
+            markLandMine(index);
+            return;
+        }
+        if (!snapshot.isSameStatus(CellSnapshotStatus.NUMBER) && !snapshot.isSameStatus(CellSnapshotStatus.EMPTY)) {
+            return;
+        }
+
+        visibleNumbers[index] = snapshot.getNearByLandMineCount();
+        closedCellCount--;
+        if (provenSafeCells.clear(index)) {
+            provenSafeCellCount--;
+        }
+
+        // 새 제약을 넣고, 미지 셀이 줄어든 이웃 제약도 다시 검사한다
+        enqueue(index);
+        enqueueNeighborConstraints(index);
+    }
+
+    private void propagate() {
+        for (int head = 0; head < queueSize; head++) {
+            int constraint = queue[head];
+            queuedCells.clear(constraint);
+            if (!applySingleRule(constraint)) {
+                applySubsetRule(constraint);
+            }
+        }
+        queueSize = 0;
+    }
+
+    /**
+     * @return 새로 알아낸 셀이 있으면 true
+     */
+    private boolean applySingleRule(int constraint) {
+        int unknownCount = collectUnknownCells(constraint, constraintNeighbors, unknownCells);
+        if (unknownCount == 0) {
+            return false;
+        }
+
+        int remaining = remainingLandMinesOf(constraint, constraintNeighbors);
+        if (remaining == 0) {
+            for (int i = 0; i < unknownCount; i++) {
+                markSafe(unknownCells[i]);
+            }
+            return true;
+        }
+        if (remaining == unknownCount) {
+            for (int i = 0; i < unknownCount; i++) {
+                markLandMine(unknownCells[i]);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 이웃 제약 B 와 비교해 A 의 미지 셀이 B 에 포함되면(또는 그 반대) 차집합을 판정한다.
+     * B 의 미지 셀은 B 의 이웃 슬롯 번호로 비트마스크를 만들어 포함 여부를 본다.
+     */
+    private void applySubsetRule(int constraint) {
+        int unknownCount = collectUnknownCells(constraint, constraintNeighbors, unknownCells);
+        if (unknownCount == 0) {
+            return;
+        }
+        int remaining = remainingLandMinesOf(constraint, constraintNeighbors);
+
+        for (int i = 0; i < unknownCount; i++) {
+            int candidateCount = topology.findNeighbors(unknownCells[i], candidateNeighbors);
+            for (int j = 0; j < candidateCount; j++) {
+                int other = candidateNeighbors[j];
+                if (other == constraint || visibleNumbers[other] <= 0) {
+                    continue;
+                }
+                if (compareWith(constraint, unknownCount, remaining, other)) {
+                    // 상태가 바뀌었으니 처음부터 다시 검사하도록 큐에 넣는다
+                    enqueue(constraint);
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean compareWith(int constraint, int unknownCount, int remaining, int other) {
+        int otherUnknownCount = collectUnknownCells(other, otherNeighbors, otherUnknownCells);
+        int otherRemaining = remainingLandMinesOf(other, otherNeighbors);
+
+        // A 의 미지 셀 중 B 에도 있는 것들의 B 슬롯 마스크
+        int sharedMask = 0;
+        int sharedCount = 0;
+        for (int i = 0; i < unknownCount; i++) {
+            int slot = slotOf(unknownCells[i], otherUnknownCells, otherUnknownCount);
+            if (slot >= 0) {
+                sharedMask |= 1 << slot;
+                sharedCount++;
+            }
+        }
+
+        // A ⊆ B : B \ A 에 지뢰가 (B - A) 개
+        if (sharedCount == unknownCount && otherUnknownCount > unknownCount) {
+            return decideDifference(otherUnknownCells, otherUnknownCount, sharedMask, otherRemaining - remaining);
+        }
+        // B ⊆ A : A \ B 에 지뢰가 (A - B) 개
+        if (sharedCount == otherUnknownCount && unknownCount > otherUnknownCount) {
+            int ownSharedMask = 0;
+            for (int i = 0; i < unknownCount; i++) {
+                if (slotOf(unknownCells[i], otherUnknownCells, otherUnknownCount) >= 0) {
+                    ownSharedMask |= 1 << i;
+                }
+            }
+            return decideDifference(unknownCells, unknownCount, ownSharedMask, remaining - otherRemaining);
+        }
+        return false;
+    }
+
+    private boolean decideDifference(int[] cells, int cellCount, int excludedMask, int landMinesInDifference) {
+        int differenceCount = cellCount - Integer.bitCount(excludedMask);
+        if (landMinesInDifference != 0 && landMinesInDifference != differenceCount) {
+            return false;
+        }
+
+        for (int i = 0; i < cellCount; i++) {
+            if ((excludedMask & (1 << i)) != 0) {
+                continue;
+            }
+            if (landMinesInDifference == 0) {
+                markSafe(cells[i]);
+            } else {
+                markLandMine(cells[i]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 남은 지뢰를 모두 찾았거나, 미지 셀이 모두 지뢰일 수밖에 없을 때
+     */
+    private boolean applyGlobalRule() {
+        int unknownCount = getUnknownCellCount();
+        int remaining = landMineCount - provenLandMineCount;
+        if (unknownCount == 0 || (remaining != 0 && remaining != unknownCount)) {
+            return false;
+        }
+
+        for (int index = 0; index < visibleNumbers.length; index++) {
+            if (!isUnknown(index)) {
+                continue;
+            }
+            if (remaining == 0) {
+                markSafe(index);
+            } else {
+                markLandMine(index);
+            }
+        }
+        return true;
+    }
+
+    private int collectUnknownCells(int constraint, int[] neighbors, int[] unknowns) {
+        int neighborCount = topology.findNeighbors(constraint, neighbors);
+        int unknownCount = 0;
+        for (int i = 0; i < neighborCount; i++) {
+            if (isUnknown(neighbors[i])) {
+                unknowns[unknownCount++] = neighbors[i];
+            }
+        }
+        return unknownCount;
+    }
+
+    /**
+     * 제약의 숫자에서 이미 증명된 이웃 지뢰를 뺀 값
+     */
+    private int remainingLandMinesOf(int constraint, int[] neighbors) {
+        int neighborCount = topology.findNeighbors(constraint, neighbors);
+        int remaining = visibleNumbers[constraint];
+        for (int i = 0; i < neighborCount; i++) {
+            if (provenLandMineCells.get(neighbors[i])) {
+                remaining--;
+            }
+        }
+        return remaining;
+    }
+
+    private int slotOf(int cell, int[] cells, int cellCount) {
+        for (int i = 0; i < cellCount; i++) {
+            if (cells[i] == cell) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void markSafe(int index) {
+        if (provenSafeCells.set(index)) {
+            provenSafeCellCount++;
+            enqueueNeighborConstraints(index);
+        }
+    }
+
+    private void markLandMine(int index) {
+        if (provenLandMineCells.set(index)) {
+            provenLandMineCount++;
+            enqueueNeighborConstraints(index);
+        }
+    }
+
+    private void enqueueNeighborConstraints(int index) {
+        int neighborCount = topology.findNeighbors(index, markNeighbors);
+        for (int i = 0; i < neighborCount; i++) {
+            if (visibleNumbers[markNeighbors[i]] > 0) {
+                enqueue(markNeighbors[i]);
+            }
+        }
+    }
+
+    private void enqueue(int index) {
+        if (!queuedCells.set(index)) {
+            return;
+        }
+        if (queueSize == queue.length) {
+            queue = Arrays.copyOf(queue, queue.length * 2);
+        }
+        queue[queueSize++] = index;
+    }
+
+    private Hints collectHints() {
+        return Hints.of(
+            collectClosedCells(provenSafeCells, provenSafeCellCount),
+            collectClosedCells(provenLandMineCells, provenLandMineCount)
+        );
+    }
+
+    /**
+     * 평면의 켜진 비트를 워드 단위로 훑어 인덱스로 모은다.
+     */
+    private int[] collectClosedCells(BitPlane cells, int count) {
+        int[] indices = new int[count];
+        int found = 0;
+        for (int wordIndex = 0; wordIndex < cells.wordCount() && found < count; wordIndex++) {
+            long word = cells.getWord(wordIndex);
+            while (word != 0) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                if (visibleNumbers[index] == CLOSED) {
+                    indices[found++] = index;
+                }
+            }
+        }
+        return found == count ? indices : Arrays.copyOf(indices, found);
+    }
+}
@@ -0,0 +1,41 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+/**
+ * 지금 보이는 정보만으로 증명된 셀 목록 (셀 인덱스 = row * colSize + col)
+ */
+public class Hints {
+
+    private final int[] safeCellIndices;
+    private final int[] landMineIndices;
+
+    private Hints(int[] safeCellIndices, int[] landMineIndices) {
+        this.safeCellIndices = safeCellIndices;
+        this.landMineIndices = landMineIndices;
+    }
+
+    public static Hints of(int[] safeCellIndices, int[] landMineIndices) {
+        return new Hints(safeCellIndices, landMineIndices);
+    }
+
+    /**
+     * 아직 열리지 않았지만 지뢰가 아님이 확실한 셀
+     */
+    public int[] getSafeCellIndices() {
+        return safeCellIndices;
+    }
+
+    /**
+     * 아직 열리지 않았고 지뢰임이 확실한 셀 (깃발 여부와 무관)
+     */
+    public int[] getLandMineIndices() {
+        return landMineIndices;
+    }
+
+    public boolean hasSafeCell() {
+        return safeCellIndices.length != 0;
+    }
+
+    public boolean isEmpty() {
+        return safeCellIndices.length == 0 && landMineIndices.length == 0;
+    }
+}
@@ -0,0 +1,44 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+/**
+ * 셀별 지뢰 확률 (셀 인덱스 = row * colSize + col)
+ * 열린 셀과 안전이 증명된 셀은 0, 지뢰가 증명된 셀은 1 이다.
+ */
+public class MineProbabilities {
+
+    private final double[] landMineProbabilities;
+    private final double interiorLandMineProbability;
+    private final int safestUnknownCellIndex;
+
+    private MineProbabilities(double[] landMineProbabilities, double interiorLandMineProbability, int safestUnknownCellIndex) {
+        this.landMineProbabilities = landMineProbabilities;
+        this.interiorLandMineProbability = interiorLandMineProbability;
+        this.safestUnknownCellIndex = safestUnknownCellIndex;
+    }
+
+    public static MineProbabilities of(double[] landMineProbabilities, double interiorLandMineProbability, int safestUnknownCellIndex) {
+        return new MineProbabilities(landMineProbabilities, interiorLandMineProbability, safestUnknownCellIndex);
+    }
+
+    public double getLandMineProbability(int index) {
+        return landMineProbabilities[index];
+    }
+
+    /**
+     * 어떤 숫자 셀에도 닿지 않은 미지 셀 하나의 지뢰 확률 (그런 셀이 없으면 0)
+     */
+    public double getInteriorLandMineProbability() {
+        return interiorLandMineProbability;
+    }
+
+    /**
+     * 증명되지 않은 셀 중 지뢰 확률이 가장 낮은 셀 (없으면 -1)
+     */
+    public int getSafestUnknownCellIndex() {
+        return safestUnknownCellIndex;
+    }
+
+    public boolean hasUnknownCell() {
+        return safestUnknownCellIndex >= 0;
+    }
+}
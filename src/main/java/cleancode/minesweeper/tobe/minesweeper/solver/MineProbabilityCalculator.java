@@ -0,0 +1,324 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopology;
+
+/**
+ * 보이는 숫자와 남은 지뢰 수로 미지 셀마다 정확한 지뢰 확률을 구한다. (모든 배치가 같은 확률이라고 본다)
+ * 1. HintSolver 로 확실한 셀을 먼저 걷어 낸다.
+ * 2. 숫자 셀에 닿은 미지 셀(프런티어)을 제약을 공유하는 것끼리 묶는다. 묶음끼리는 독립이므로
+ *    fork-join 풀에서 따로 센다. (FrontierComponent)
+ * 3. 숫자에 닿지 않은 나머지 I 개의 셀에는 남은 지뢰가 아무렇게나 들어가므로,
+ *    프런티어에 지뢰가 m 개인 배치 하나의 가중치는 C(I, 남은 지뢰 - m) 이다.
+ *    이 값은 매우 크므로 로그로 계산하고 가장 큰 값을 1 로 맞춰 쓴다.
+ * 한 묶음의 셀 확률에는 "나머지 묶음들의 지뢰 수 분포" 가 필요하므로, 앞/뒤 묶음의 분포를 미리 합성해 둔다.
+ */
+public class MineProbabilityCalculator {
+
+    private final ForkJoinPool forkJoinPool;
+
+    public MineProbabilityCalculator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public MineProbabilityCalculator(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    public MineProbabilities calculate(HintSolver hintSolver) {
+        hintSolver.solve();
+
+        GameBoard gameBoard = hintSolver.getGameBoard();
+        int cellCount = gameBoard.getCellCount();
+        int remainingLandMineCount = hintSolver.getUnprovenLandMineCount();
+
+        boolean[] frontierCells = new boolean[cellCount];
+        List<FrontierComponent> components = findComponents(hintSolver, frontierCells, remainingLandMineCount);
+
+        int interiorCellCount = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (hintSolver.isUnknown(index) && !frontierCells[index]) {
+                interiorCellCount++;
+            }
+        }
+
+        List<double[]> arrangementCounts = forkJoinPool.submit(() -> components.parallelStream()
+            .map(FrontierComponent::countArrangements)
+            .map(MineProbabilityCalculator::normalize)
+            .toList()
+        ).join();
+
+        int frontierCellCount = 0;
+        for (FrontierComponent component : components) {
+            frontierCellCount += component.getCells().length;
+        }
+        double[] interiorWeights = interiorWeightsOf(interiorCellCount, remainingLandMineCount, frontierCellCount);
+
+        // 묶음 c 를 뺀 나머지 묶음들의 지뢰 수 분포 = (앞쪽 합성) * (뒤쪽 합성)
+        int componentCount = components.size();
+        double[][] prefixDistributions = new double[componentCount + 1][];
+        double[][] suffixDistributions = new double[componentCount + 1][];
+        prefixDistributions[0] = new double[] {1};
+        suffixDistributions[componentCount] = new double[] {1};
+        for (int c = 0; c < componentCount; c++) {
+            prefixDistributions[c + 1] = normalize(convolve(prefixDistributions[c], arrangementCounts.get(c)));
+        }
+        for (int c = componentCount - 1; c >= 0; c--) {
+            suffixDistributions[c] = normalize(convolve(arrangementCounts.get(c), suffixDistributions[c + 1]));
+        }
+
+        double[][] componentWeights = new double[componentCount][];
+        for (int c = 0; c < componentCount; c++) {
+            double[] others = convolve(prefixDistributions[c], suffixDistributions[c + 1]);
+            componentWeights[c] = componentWeightsOf(others, interiorWeights, arrangementCounts.get(c).length);
+        }
+
+        double[] landMineProbabilities = new double[cellCount];
+        List<double[]> componentProbabilities = forkJoinPool.submit(() -> IntStream.range(0, componentCount)
+            .parallel()
+            .mapToObj(c -> components.get(c).calculateProbabilities(componentWeights[c]))
+            .toList()
+        ).join();
+        for (int c = 0; c < componentCount; c++) {
+            int[] cells = components.get(c).getCells();
+            double[] probabilities = componentProbabilities.get(c);
+            for (int position = 0; position < cells.length; position++) {
+                landMineProbabilities[cells[position]] = probabilities[position];
+            }
+        }
+
+        double interiorLandMineProbability = interiorLandMineProbabilityOf(
+            prefixDistributions[componentCount], interiorWeights, interiorCellCount, remainingLandMineCount);
+
+        int safestIndex = -1;
+        for (int index = 0; index < cellCount; index++) {
+            if (hintSolver.isProvenLandMine(index)) {
+                landMineProbabilities[index] = 1;
+                continue;
+            }
+            if (!hintSolver.isUnknown(index)) {
+                continue;
+            }
+            if (!frontierCells[index]) {
+                landMineProbabilities[index] = interiorLandMineProbability;
+            }
+            if (safestIndex < 0 || landMineProbabilities[index] < landMineProbabilities[safestIndex]) {
+                safestIndex = index;
+            }
+        }
+        return MineProbabilities.of(landMineProbabilities, interiorLandMineProbability, safestIndex);
+    }
+
+    /**
+     * 숫자 셀(제약)과 그 미지 이웃을 모은 뒤, 제약을 따라 너비 우선으로 묶음을 나눈다.
+     * 너비 우선 순서로 셀을 놓아야 열거할 때 동시에 걸쳐 있는 제약(상태의 크기)이 적다.
+     */
+    private List<FrontierComponent> findComponents(HintSolver hintSolver, boolean[] frontierCells, int remainingLandMineCount) {
+        BoardTopology topology = hintSolver.getGameBoard().getTopology();
+        int cellCount = frontierCells.length;
+        int[] neighbors = new int[topology.getMaxNeighborCount()];
+
+        // 제약별 미지 이웃 (평탄화된 목록)
+        int constraintCount = 0;
+        int[] remainders = new int[16];
+        int[] memberStarts = new int[17];
+        int[] members = new int[64];
+        for (int index = 0; index < cellCount; index++) {
+            int visibleNumber = hintSolver.getVisibleNumber(index);
+            if (visibleNumber <= 0) {
+                continue;
+            }
+
+            int neighborCount = topology.findNeighbors(index, neighbors);
+            int memberStart = memberStarts[constraintCount];
+            int remainder = visibleNumber;
+            for (int i = 0; i < neighborCount; i++) {
+                int neighbor = neighbors[i];
+                if (hintSolver.isProvenLandMine(neighbor)) {
+                    remainder--;
+                } else if (hintSolver.isUnknown(neighbor)) {
+                    if (memberStart + neighborCount > members.length) {
+                        members = Arrays.copyOf(members, members.length * 2);
+                    }
+                    members[memberStart++] = neighbor;
+                }
+            }
+            if (memberStart == memberStarts[constraintCount]) {
+                continue;
+            }
+
+            if (constraintCount + 1 == remainders.length) {
+                remainders = Arrays.copyOf(remainders, remainders.length * 2);
+                memberStarts = Arrays.copyOf(memberStarts, memberStarts.length * 2);
+            }
+            remainders[constraintCount] = remainder;
+            memberStarts[++constraintCount] = memberStart;
+        }
+
+        // 셀 -> 닿은 제약 (평탄화된 목록)
+        int[] cellConstraintStarts = new int[cellCount + 1];
+        for (int i = 0; i < memberStarts[constraintCount]; i++) {
+            cellConstraintStarts[members[i] + 1]++;
+            frontierCells[members[i]] = true;
+        }
+        for (int index = 0; index < cellCount; index++) {
+            cellConstraintStarts[index + 1] += cellConstraintStarts[index];
+        }
+        int[] cellConstraints = new int[memberStarts[constraintCount]];
+        int[] filled = Arrays.copyOf(cellConstraintStarts, cellCount);
+        for (int constraint = 0; constraint < constraintCount; constraint++) {
+            for (int i = memberStarts[constraint]; i < memberStarts[constraint + 1]; i++) {
+                cellConstraints[filled[members[i]]++] = constraint;
+            }
+        }
+
+        List<FrontierComponent> components = new ArrayList<>();
+        int[] positions = new int[cellCount];
+        boolean[] visitedCells = new boolean[cellCount];
+        boolean[] visitedConstraints = new boolean[constraintCount];
+        int[] cellQueue = new int[cellCount];
+        int[] componentConstraints = new int[constraintCount];
+
+        for (int start = 0; start < cellCount; start++) {
+            if (!frontierCells[start] || visitedCells[start]) {
+                continue;
+            }
+
+            int queueSize = 0;
+            int componentConstraintCount = 0;
+            visitedCells[start] = true;
+            cellQueue[queueSize++] = start;
+            for (int head = 0; head < queueSize; head++) {
+                int cell = cellQueue[head];
+                positions[cell] = head;
+                for (int i = cellConstraintStarts[cell]; i < cellConstraintStarts[cell + 1]; i++) {
+                    int constraint = cellConstraints[i];
+                    if (visitedConstraints[constraint]) {
+                        continue;
+                    }
+                    visitedConstraints[constraint] = true;
+                    componentConstraints[componentConstraintCount++] = constraint;
+                    for (int j = memberStarts[constraint]; j < memberStarts[constraint + 1]; j++) {
+                        if (!visitedCells[members[j]]) {
+                            visitedCells[members[j]] = true;
+                            cellQueue[queueSize++] = members[j];
+                        }
+                    }
+                }
+            }
+
+            int[] componentRemainders = new int[componentConstraintCount];
+            int[][] constraintPositions = new int[componentConstraintCount][];
+            for (int i = 0; i < componentConstraintCount; i++) {
+                int constraint = componentConstraints[i];
+                componentRemainders[i] = remainders[constraint];
+                int[] memberPositions = new int[memberStarts[constraint + 1] - memberStarts[constraint]];
+                for (int j = 0; j < memberPositions.length; j++) {
+                    memberPositions[j] = positions[members[memberStarts[constraint] + j]];
+                }
+                Arrays.sort(memberPositions);
+                constraintPositions[i] = memberPositions;
+            }
+            components.add(new FrontierComponent(Arrays.copyOf(cellQueue, queueSize), componentRemainders,
+                constraintPositions, remainingLandMineCount));
+        }
+        return components;
+    }
+
+    /**
+     * [m] 프런티어 전체에 지뢰가 m 개일 때 나머지 셀의 배치 수 C(I, 남은 지뢰 - m) 에 비례하는 값
+     * C(I, r + 1) / C(I, r) = (I - r) / (r + 1) 이므로 로그를 누적해 구하고, 가장 큰 값을 1 로 맞춘다.
+     */
+    private double[] interiorWeightsOf(int interiorCellCount, int remainingLandMineCount, int frontierCellCount) {
+        int maxFrontierLandMineCount = Math.min(frontierCellCount, remainingLandMineCount);
+        double[] logWeights = new double[maxFrontierLandMineCount + 1];
+        Arrays.fill(logWeights, Double.NEGATIVE_INFINITY);
+
+        int fromRemainder = Math.max(remainingLandMineCount - maxFrontierLandMineCount, 0);
+        int toRemainder = Math.min(remainingLandMineCount, interiorCellCount);
+        double logWeight = 0;
+        double maxLogWeight = Double.NEGATIVE_INFINITY;
+        for (int remainder = fromRemainder; remainder <= toRemainder; remainder++) {
+            if (remainder > fromRemainder) {
+                logWeight += Math.log(interiorCellCount - remainder + 1) - Math.log(remainder);
+            }
+            logWeights[remainingLandMineCount - remainder] = logWeight;
+            maxLogWeight = Math.max(maxLogWeight, logWeight);
+        }
+
+        double[] weights = new double[logWeights.length];
+        for (int m = 0; m < weights.length; m++) {
+            weights[m] = Math.exp(logWeights[m] - maxLogWeight);
+        }
+        return weights;
+    }
+
+    /**
+     * [k] 이 묶음에 지뢰가 k 개인 배치 하나의 가중치 = sum_j (나머지 묶음에 j 개인 배치 수) * 내부 가중치[k + j]
+     */
+    private double[] componentWeightsOf(double[] others, double[] interiorWeights, int length) {
+        double[] weights = new double[length];
+        for (int k = 0; k < length; k++) {
+            double weight = 0;
+            for (int j = 0; j < others.length && k + j < interiorWeights.length; j++) {
+                weight += others[j] * interiorWeights[k + j];
+            }
+            weights[k] = weight;
+        }
+        return weights;
+    }
+
+    private double interiorLandMineProbabilityOf(double[] frontierDistribution, double[] interiorWeights,
+        int interiorCellCount, int remainingLandMineCount) {
+        if (interiorCellCount == 0) {
+            return 0;
+        }
+
+        double total = 0;
+        double interiorLandMines = 0;
+        for (int m = 0; m < frontierDistribution.length && m < interiorWeights.length; m++) {
+            double weight = frontierDistribution[m] * interiorWeights[m];
+            total += weight;
+            interiorLandMines += weight * (remainingLandMineCount - m);
+        }
+        return interiorLandMines / total / interiorCellCount;
+    }
+
+    private static double[] convolve(double[] left, double[] right) {
+        double[] result = new double[left.length + right.length - 1];
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == 0) {
+                continue;
+            }
+            for (int j = 0; j < right.length; j++) {
+                result[i + j] += left[i] * right[j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 분포 전체에 같은 수를 곱해도 확률은 그대로이므로, 넘치지 않도록 가장 큰 값을 1 로 맞춘다.
+     */
+    private static double[] normalize(double[] values) {
+        double max = 0;
+        for (double value : values) {
+            max = Math.max(max, value);
+        }
+        if (max == 0) {
+            return values;
+        }
+
+        double[] normalized = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            normalized[i] = values[i] / max;
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,127 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopologyType;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+/**
+ * 시작 셀을 연 뒤 HintSolver 만으로(추측 없이) 모든 안전 셀을 열 수 있는 배치를 찾는다.
+ * 배치는 (GameBoard.initializeGame(seed), 처음 연 셀) 로 정해지므로 후보를 시드로 주고받는다.
+ * 찾은 시드로 초기화한 보드에서 같은 시작 셀을 먼저 열면 검사한 것과 같은 판이 된다.
+ * 작업자마다 독립된 시드열로 후보를 만들어 검사하고, 가장 먼저 통과한 후보를 쓴다. 나머지 작업자는 그 즉시 멈춘다.
+ * 어느 작업자가 먼저 찾느냐에 따라 결과가 달라지므로, 같은 시드라도 같은 판이 나온다고 보장하지 않는다.
+ * 작업자는 이 생성기가 가진 작업자 수만큼의 스레드에서만 돈다. 공용 풀을 쓰면 검사가 끝날 때까지
+ * 같은 풀을 쓰는 병렬 작업(지뢰 배치, 확률 계산)이 밀리므로, 다 쓴 생성기는 close() 로 스레드를 정리한다.
+ */
+public class NoGuessBoardGenerator implements AutoCloseable {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(2);
+
+    private final ExecutorService executorService;
+    private final int workerCount;
+    private final Duration timeout;
+
+    public NoGuessBoardGenerator() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_TIMEOUT);
+    }
+
+    public NoGuessBoardGenerator(int workerCount, Duration timeout) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("작업자 수는 1 이상이어야 합니다.");
+        }
+        this.executorService = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "no-guess-board-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.workerCount = workerCount;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return (startRowIndex, startColIndex) 에서 시작해 추측 없이 풀리는 배치의 시드, 제한 시간 안에 못 찾으면 empty
+     */
+    public OptionalLong findSeed(GameLevel gameLevel, BoardTopologyType topologyType, int startRowIndex, int startColIndex,
+        long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        AtomicBoolean found = new AtomicBoolean();
+
+        List<Callable<Long>> workers = new ArrayList<>(workerCount);
+        for (int worker = 0; worker < workerCount; worker++) {
+            SplittableRandom workerRandom = random.split();
+            workers.add(() -> searchSeed(gameLevel, topologyType, startRowIndex, startColIndex, workerRandom, found));
+        }
+
+        try {
+            return OptionalLong.of(executorService.invokeAny(workers, timeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return OptionalLong.empty();
+        } catch (ExecutionException | TimeoutException e) {
+            return OptionalLong.empty();
+        } finally {
+            // 시간이 다 되었거나 다른 작업자가 찾았으면 남은 작업자도 멈춘다
+            found.set(true);
+        }
+    }
+
+    /**
+     * 검사 중인 작업자를 멈추고 스레드를 정리한다.
+     */
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    private long searchSeed(GameLevel gameLevel, BoardTopologyType topologyType, int startRowIndex, int startColIndex,
+        SplittableRandom random, AtomicBoolean found) {
+        // 후보마다 같은 보드를 다시 초기화해 쓴다
+        GameBoard candidateBoard = new GameBoard(gameLevel, topologyType);
+        while (!found.get() && !Thread.currentThread().isInterrupted()) {
+            long candidateSeed = random.nextLong();
+            candidateBoard.initializeGame(candidateSeed);
+            if (isSolvableWithoutGuess(candidateBoard, startRowIndex, startColIndex, found)) {
+                found.set(true);
+                return candidateSeed;
+            }
+        }
+        throw new CancellationException("다른 작업자가 먼저 찾았거나 시간이 다 되었습니다.");
+    }
+
+    /**
+     * 시작 셀을 열고, 증명된 안전 셀만 계속 열었을 때 모르는 셀이 남지 않으면 통과
+     */
+    private boolean isSolvableWithoutGuess(GameBoard candidateBoard, int startRowIndex, int startColIndex,
+        AtomicBoolean found) {
+        HintSolver hintSolver = new HintSolver(candidateBoard);
+        hintSolver.observe(candidateBoard.openAt(startRowIndex, startColIndex));
+        if (candidateBoard.isLoseStatus()) {
+            return false;
+        }
+
+        while (!found.get()) {
+            Hints hints = hintSolver.solve();
+            if (!hints.hasSafeCell()) {
+                return hintSolver.getUnknownCellCount() == 0;
+            }
+            for (int index : hints.getSafeCellIndices()) {
+                hintSolver.observe(candidateBoard.openAt(candidateBoard.rowIndexOf(index), candidateBoard.colIndexOf(index)));
+            }
+        }
+        return false;
+    }
+}
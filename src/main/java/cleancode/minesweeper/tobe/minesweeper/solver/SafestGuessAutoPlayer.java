@@ -0,0 +1,25 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 더 알아낼 것이 없을 때 무작위 대신 지뢰 확률이 가장 낮은 셀을 여는 자동 플레이어
+ */
+public class SafestGuessAutoPlayer extends AutoPlayer {
+
+    private final MineProbabilityCalculator mineProbabilityCalculator;
+
+    public SafestGuessAutoPlayer(RandomGenerator random, MineProbabilityCalculator mineProbabilityCalculator) {
+        super(random);
+        this.mineProbabilityCalculator = mineProbabilityCalculator;
+    }
+
+    @Override
+    protected int chooseGuess(HintSolver hintSolver) {
+        MineProbabilities mineProbabilities = mineProbabilityCalculator.calculate(hintSolver);
+        if (!mineProbabilities.hasUnknownCell()) {
+            return super.chooseGuess(hintSolver);
+        }
+        return mineProbabilities.getSafestUnknownCellIndex();
+    }
+}
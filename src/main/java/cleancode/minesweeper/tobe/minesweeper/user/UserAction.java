@@ -4,6 +4,11 @@ public enum UserAction {
 
     OPEN("셀 열기"),
     FLAG("깃발 꽂기"),
+    HINT("힌트"),
+    CHORD("주변 열기"),
+    UNDO("되돌리기"),
+    REDO("다시 하기"),
+    PAN("화면 이동"),
     UNKNOWN("알 수 없음");
 
     private final String description;
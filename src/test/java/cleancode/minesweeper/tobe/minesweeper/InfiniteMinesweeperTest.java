@@ -0,0 +1,73 @@
+package cleancode.minesweeper.tobe.minesweeper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.io.ConsoleInputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.ConsoleOutputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.InfiniteViewport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InfiniteMinesweeperTest {
+
+    @Test
+    void panMovesWindowAndCellsAreChosenRelativeToIt() {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InfiniteMinesweeper minesweeper = new InfiniteMinesweeper(
+            1L,
+            0,
+            scriptedInput("^\n<\nb2\n2\n"),
+            new ConsoleOutputHandler(new PrintStream(bytes, true, StandardCharsets.UTF_8)),
+            new InfiniteViewport(20, 26)
+        );
+        minesweeper.initialize();
+
+        // when
+        minesweeper.run();
+
+        // then
+        assertThat(minesweeper.getGameBoard().getSnapshot(-9, -12).getStatus()).isEqualTo(CellSnapshotStatus.FLAG);
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).contains("창 왼쪽 위: -10행, -13열");
+    }
+
+    @Test
+    void openedAreaInsideWindowIsFilledBeforeDrawing() {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        InfiniteMinesweeper minesweeper = new InfiniteMinesweeper(
+            1L,
+            0,
+            scriptedInput("a1\n1\n>\n" + ">\n".repeat(24)),
+            new ConsoleOutputHandler(new PrintStream(bytes, true, StandardCharsets.UTF_8)),
+            new InfiniteViewport(20, 26)
+        );
+        minesweeper.initialize();
+
+        // when
+        minesweeper.run();
+
+        // then
+        assertThat(minesweeper.getGameBoard().getSnapshot(0, 25 * 13).getStatus()).isEqualTo(CellSnapshotStatus.EMPTY);
+        assertThat(minesweeper.getGameBoard().isInProgress()).isTrue();
+    }
+
+    /**
+     * 줄이 떨어지면 입력이 닫힌 것으로 보는 콘솔 입력
+     */
+    private ConsoleInputHandler scriptedInput(String lines) {
+        Scanner scanner = new Scanner(lines);
+        return new ConsoleInputHandler(scanner) {
+            @Override
+            public boolean isClosed() {
+                return !scanner.hasNextLine();
+            }
+        };
+    }
+}
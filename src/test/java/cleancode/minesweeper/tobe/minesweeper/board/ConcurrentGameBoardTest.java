@@ -0,0 +1,162 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentGameBoardTest {
+
+    private static final int PLAYER_COUNT = 8;
+    private static final int ROUND_COUNT = 50;
+
+    private static final GameLevel GAME_LEVEL = new GameLevel() {
+        @Override
+        public int getRowSize() {
+            return 30;
+        }
+
+        @Override
+        public int getColSize() {
+            return 30;
+        }
+
+        @Override
+        public int getLandMineCount() {
+            return 120;
+        }
+    };
+
+    @Test
+    void countersStayConsistentWhenPlayersRaceToFlagAndOpen() throws InterruptedException {
+        for (int round = 0; round < ROUND_COUNT; round++) {
+            // given
+            long seed = round;
+            GameBoard gameBoard = GameBoard.concurrent(GAME_LEVEL);
+            gameBoard.initializeGame(seed);
+            gameBoard.placeLandMines(0, 0);
+            boolean[] landMines = findLandMines(seed);
+
+            // when
+            // 0번 플레이어는 안전한 셀을 모두 열고, 나머지는 같은 셀에 깃발을 꽂거나 열며 경합한다
+            List<Thread> players = new ArrayList<>();
+            CountDownLatch startLine = new CountDownLatch(1);
+            for (int player = 0; player < PLAYER_COUNT; player++) {
+                players.add(startPlayer(gameBoard, landMines, player, seed, startLine));
+            }
+            startLine.countDown();
+            for (Thread player : players) {
+                player.join();
+            }
+
+            // then
+            assertThat(gameBoard.isWinStatus()).isTrue();
+            assertThat(gameBoard.getRemainingLandMineCount()).isEqualTo(0);
+            assertThat(countFlags(gameBoard)).isEqualTo(GAME_LEVEL.getLandMineCount());
+        }
+    }
+
+    @Test
+    void firstMovesFromManyPlayersPlaceLandMinesOnce() throws InterruptedException {
+        // given
+        GameBoard gameBoard = GameBoard.concurrent(GAME_LEVEL);
+        gameBoard.initializeGame(7L);
+        CountDownLatch startLine = new CountDownLatch(1);
+        List<Thread> players = new ArrayList<>();
+
+        // when
+        for (int player = 0; player < PLAYER_COUNT; player++) {
+            int row = player;
+            Thread thread = new Thread(() -> {
+                awaitQuietly(startLine);
+                gameBoard.flagAt(29, row);
+                gameBoard.openAt(row, 0);
+            });
+            thread.start();
+            players.add(thread);
+        }
+        startLine.countDown();
+        for (Thread player : players) {
+            player.join();
+        }
+
+        // then
+        assertThat(countFlags(gameBoard) + gameBoard.getRemainingLandMineCount()).isEqualTo(GAME_LEVEL.getLandMineCount());
+    }
+
+    private Thread startPlayer(GameBoard gameBoard, boolean[] landMines, int player, long seed, CountDownLatch startLine) {
+        Thread thread = new Thread(() -> {
+            awaitQuietly(startLine);
+            // 모두 같은 순서로 돌아야 같은 셀에서 자주 부딪힌다
+            int[] cells = shuffledCells(gameBoard.getCellCount(), new SplittableRandom(seed));
+            SplittableRandom random = new SplittableRandom(seed * PLAYER_COUNT + player);
+            for (int index : cells) {
+                int row = gameBoard.rowIndexOf(index);
+                int col = gameBoard.colIndexOf(index);
+                if (landMines[index]) {
+                    gameBoard.flagAt(row, col);
+                } else if (player == 0 || random.nextInt(4) == 0) {
+                    gameBoard.openAt(row, col);
+                } else {
+                    gameBoard.flagAt(row, col);
+                }
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * 같은 시드와 첫 셀로 놓은 보드에서 셀을 하나씩 열어 보면 지뢰 위치를 알 수 있다.
+     */
+    private boolean[] findLandMines(long seed) {
+        boolean[] landMines = new boolean[GAME_LEVEL.getRowSize() * GAME_LEVEL.getColSize()];
+        GameBoard probe = new GameBoard(GAME_LEVEL);
+        for (int index = 0; index < landMines.length; index++) {
+            probe.initializeGame(seed);
+            probe.placeLandMines(0, 0);
+            probe.openAt(probe.rowIndexOf(index), probe.colIndexOf(index));
+            landMines[index] = probe.isLoseStatus();
+        }
+        return landMines;
+    }
+
+    private int[] shuffledCells(int cellCount, SplittableRandom random) {
+        int[] cells = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            cells[i] = i;
+        }
+        for (int i = cellCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = cells[i];
+            cells[i] = cells[j];
+            cells[j] = temp;
+        }
+        return cells;
+    }
+
+    private int countFlags(GameBoard gameBoard) {
+        int count = 0;
+        for (int index = 0; index < gameBoard.getCellCount(); index++) {
+            if (gameBoard.getSnapshot(index).isSameStatus(CellSnapshotStatus.FLAG)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.change.ChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameBoardTest {
+
+    private static final int FIRST_ROW_INDEX = 7;
+    private static final int FIRST_COL_INDEX = 9;
+
+    @Test
+    void firstOpenIsAlwaysAnEmptyCell() {
+        for (long seed = 0; seed < 200; seed++) {
+            // given
+            GameBoard gameBoard = new GameBoard(new Middle());
+            gameBoard.initializeGame(seed);
+            int rowIndex = (int) (seed % gameBoard.getRowSize());
+            int colIndex = (int) (seed * 7 % gameBoard.getColSize());
+
+            // when
+            gameBoard.openAt(rowIndex, colIndex);
+
+            // then
+            assertThat(gameBoard.isLoseStatus()).isFalse();
+            assertThat(gameBoard.getSnapshot(rowIndex, colIndex).isSameStatus(CellSnapshotStatus.EMPTY)).isTrue();
+        }
+    }
+
+    @Test
+    void flagsPlantedBeforeTheFirstOpenCountTowardsTheWin() {
+        // given: 같은 시드와 같은 첫 셀로 배치기를 돌려 지뢰 위치를 미리 안다
+        long seed = 5L;
+        GameBoard gameBoard = new GameBoard(new Beginner());
+        gameBoard.initializeGame(seed);
+        BitPlane landMines = landMinesOf(gameBoard, seed, gameBoard.indexOf(4, 5));
+        for (int index = 0; index < gameBoard.getCellCount(); index++) {
+            if (landMines.get(index)) {
+                gameBoard.flagAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+            }
+        }
+
+        // when
+        gameBoard.openAt(4, 5);
+        for (int index = 0; index < gameBoard.getCellCount(); index++) {
+            if (!landMines.get(index)) {
+                gameBoard.openAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+            }
+        }
+
+        // then
+        assertThat(gameBoard.getRemainingLandMineCount()).isEqualTo(0);
+        assertThat(gameBoard.isWinStatus()).isTrue();
+    }
+
+    @Test
+    void sameSeedAndSameFirstCellGiveSameBoard() {
+        // given
+        GameBoard gameBoard = new GameBoard(new Middle());
+        GameBoard sameSeedBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(11L);
+        sameSeedBoard.initializeGame(11L);
+
+        // when
+        gameBoard.openAt(3, 4);
+        sameSeedBoard.placeLandMines(3, 4);
+        sameSeedBoard.openAt(3, 4);
+
+        // then
+        assertThat(isSameVisibleBoard(gameBoard, sameSeedBoard)).isTrue();
+    }
+
+    @Test
+    void chordOpensTheSameCellsAsOpeningEachUnflaggedNeighbor() {
+        for (long seed = 0; seed < 30; seed++) {
+            // given
+            GameBoard gameBoard = startedBoard(seed);
+            GameBoard sequentialBoard = startedBoard(seed);
+            BitPlane landMines = landMinesOf(gameBoard, seed, gameBoard.indexOf(FIRST_ROW_INDEX, FIRST_COL_INDEX));
+            int chordIndex = findNumberCellWithClosedSafeNeighbor(gameBoard, landMines);
+            if (chordIndex < 0) {
+                continue;
+            }
+            int[] neighbors = neighborsOf(gameBoard, chordIndex);
+            for (int neighbor : neighbors) {
+                if (landMines.get(neighbor)) {
+                    gameBoard.flagAt(gameBoard.rowIndexOf(neighbor), gameBoard.colIndexOf(neighbor));
+                    sequentialBoard.flagAt(gameBoard.rowIndexOf(neighbor), gameBoard.colIndexOf(neighbor));
+                }
+            }
+
+            // when
+            gameBoard.chordAt(gameBoard.rowIndexOf(chordIndex), gameBoard.colIndexOf(chordIndex));
+            for (int neighbor : neighbors) {
+                if (!landMines.get(neighbor)) {
+                    sequentialBoard.openAt(gameBoard.rowIndexOf(neighbor), gameBoard.colIndexOf(neighbor));
+                }
+            }
+
+            // then
+            assertThat(gameBoard.isInProgress()).isTrue();
+            assertThat(isSameVisibleBoard(gameBoard, sequentialBoard)).isTrue();
+            assertThat(gameBoard.getRemainingLandMineCount()).isEqualTo(sequentialBoard.getRemainingLandMineCount());
+        }
+    }
+
+    @Test
+    void chordWithAWrongFlagOpensTheUnflaggedLandMineAndLoses() {
+        // given: 숫자만큼 깃발을 꽂되, 하나는 지뢰가 아닌 셀에 꽂는다
+        GameBoard gameBoard = startedBoard(0L);
+        BitPlane landMines = landMinesOf(gameBoard, 0L, gameBoard.indexOf(FIRST_ROW_INDEX, FIRST_COL_INDEX));
+        int chordIndex = findNumberCellWithClosedSafeNeighbor(gameBoard, landMines);
+        int[] neighbors = neighborsOf(gameBoard, chordIndex);
+        boolean wrongFlagPlanted = false;
+        boolean landMineLeftUnflagged = false;
+        for (int neighbor : neighbors) {
+            if (isClosed(gameBoard, neighbor) && !landMines.get(neighbor) && !wrongFlagPlanted) {
+                gameBoard.flagAt(gameBoard.rowIndexOf(neighbor), gameBoard.colIndexOf(neighbor));
+                wrongFlagPlanted = true;
+            }
+        }
+        for (int neighbor : neighbors) {
+            if (landMines.get(neighbor)) {
+                if (landMineLeftUnflagged) {
+                    gameBoard.flagAt(gameBoard.rowIndexOf(neighbor), gameBoard.colIndexOf(neighbor));
+                }
+                landMineLeftUnflagged = true;
+            }
+        }
+
+        // when
+        ChangeSet changeSet = gameBoard.chordAt(gameBoard.rowIndexOf(chordIndex), gameBoard.colIndexOf(chordIndex));
+
+        // then
+        assertThat(changeSet.getGameStatus()).isEqualTo(GameStatus.LOSE);
+        assertThat(gameBoard.isLoseStatus()).isTrue();
+    }
+
+    @Test
+    void chordWhenFlagCountDoesNotMatchTheNumberChangesNothing() {
+        // given
+        GameBoard gameBoard = startedBoard(0L);
+        BitPlane landMines = landMinesOf(gameBoard, 0L, gameBoard.indexOf(FIRST_ROW_INDEX, FIRST_COL_INDEX));
+        int chordIndex = findNumberCellWithClosedSafeNeighbor(gameBoard, landMines);
+        GameBoard untouchedBoard = startedBoard(0L);
+
+        // when: 깃발 없이 숫자 셀을, 그리고 닫힌 셀을 chord 한다
+        ChangeSet numberCellChangeSet = gameBoard.chordAt(gameBoard.rowIndexOf(chordIndex), gameBoard.colIndexOf(chordIndex));
+        ChangeSet closedCellChangeSet = gameBoard.chordAt(0, 0);
+
+        // then
+        assertThat(numberCellChangeSet.getChangedCellCount()).isEqualTo(0);
+        assertThat(closedCellChangeSet.getChangedCellCount()).isEqualTo(0);
+        assertThat(gameBoard.isInProgress()).isTrue();
+        assertThat(isSameVisibleBoard(gameBoard, untouchedBoard)).isTrue();
+    }
+
+    @Test
+    void undoingEveryMoveAndRedoingThemReturnsToTheSameBoard() {
+        // given
+        long seed = 31L;
+        GameBoard gameBoard = startedUndoableBoard(seed);
+        BitPlane landMines = landMinesOf(gameBoard, seed, gameBoard.indexOf(FIRST_ROW_INDEX, FIRST_COL_INDEX));
+        List<CellSnapshot[]> boardsAfterEachMove = new ArrayList<>();
+        boardsAfterEachMove.add(visibleCellsOf(gameBoard));
+        for (int index = 0; index < gameBoard.getCellCount() && boardsAfterEachMove.size() < 40; index++) {
+            if (!isClosed(gameBoard, index)) {
+                continue;
+            }
+            ChangeSet changeSet = landMines.get(index)
+                ? gameBoard.flagAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index))
+                : gameBoard.openAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+            if (changeSet.hasChanges()) {
+                boardsAfterEachMove.add(visibleCellsOf(gameBoard));
+            }
+        }
+        int remainingLandMineCount = gameBoard.getRemainingLandMineCount();
+
+        // when // then
+        for (int move = boardsAfterEachMove.size() - 1; move > 0; move--) {
+            gameBoard.undo();
+            assertThat(visibleCellsOf(gameBoard)).isEqualTo(boardsAfterEachMove.get(move - 1));
+        }
+        for (int move = 1; move < boardsAfterEachMove.size(); move++) {
+            gameBoard.redo();
+            assertThat(visibleCellsOf(gameBoard)).isEqualTo(boardsAfterEachMove.get(move));
+        }
+        assertThat(gameBoard.canRedo()).isFalse();
+        assertThat(gameBoard.getRemainingLandMineCount()).isEqualTo(remainingLandMineCount);
+        assertThat(gameBoard.isInProgress()).isTrue();
+    }
+
+    @Test
+    void newMoveAfterUndoClearsRedo() {
+        // given
+        GameBoard gameBoard = startedUndoableBoard(37L);
+        int[] closedCellIndices = closedCellIndicesOf(gameBoard, 2);
+        gameBoard.flagAt(gameBoard.rowIndexOf(closedCellIndices[0]), gameBoard.colIndexOf(closedCellIndices[0]));
+        gameBoard.undo();
+
+        // when
+        gameBoard.flagAt(gameBoard.rowIndexOf(closedCellIndices[1]), gameBoard.colIndexOf(closedCellIndices[1]));
+
+        // then
+        assertThat(gameBoard.canRedo()).isFalse();
+        assertThat(gameBoard.redo().hasChanges()).isFalse();
+        assertThat(gameBoard.getSnapshot(closedCellIndices[0])).isEqualTo(CellSnapshot.ofUnchecked());
+        assertThat(gameBoard.getSnapshot(closedCellIndices[1])).isEqualTo(CellSnapshot.ofFlag());
+    }
+
+    @Test
+    void undoingTheFirstOpenTakesTheLandMinesBackUntilTheNextOpen() {
+        // given
+        long seed = 41L;
+        GameBoard gameBoard = startedUndoableBoard(seed);
+
+        // when
+        gameBoard.undo();
+        CellSnapshot[] boardAfterUndo = visibleCellsOf(gameBoard);
+        boolean undoableAfterUndo = gameBoard.canUndo();
+        gameBoard.openAt(0, 0);
+
+        // then
+        GameBoard boardFirstOpenedAtTheCorner = new GameBoard(new Middle());
+        boardFirstOpenedAtTheCorner.initializeGame(seed);
+        boardFirstOpenedAtTheCorner.openAt(0, 0);
+        CellSnapshot[] untouchedBoard = new CellSnapshot[gameBoard.getCellCount()];
+        Arrays.fill(untouchedBoard, CellSnapshot.ofUnchecked());
+
+        assertThat(boardAfterUndo).isEqualTo(untouchedBoard);
+        assertThat(undoableAfterUndo).isFalse();
+        assertThat(gameBoard.getSnapshot(0, 0).isSameStatus(CellSnapshotStatus.EMPTY)).isTrue();
+        assertThat(isSameVisibleBoard(gameBoard, boardFirstOpenedAtTheCorner)).isTrue();
+    }
+
+    @Test
+    void undoingALosingMoveRestoresTheProgressTowardsTheWin() {
+        // given
+        long seed = 43L;
+        GameBoard gameBoard = startedUndoableBoard(seed);
+        BitPlane landMines = landMinesOf(gameBoard, seed, gameBoard.indexOf(FIRST_ROW_INDEX, FIRST_COL_INDEX));
+        int[] landMineIndices = landMineIndicesOf(landMines, 2);
+        int flaggedLandMineIndex = landMineIndices[0];
+        int landMineIndex = landMineIndices[1];
+        gameBoard.flagAt(gameBoard.rowIndexOf(flaggedLandMineIndex), gameBoard.colIndexOf(flaggedLandMineIndex));
+        int remainingLandMineCount = gameBoard.getRemainingLandMineCount();
+        gameBoard.openAt(gameBoard.rowIndexOf(landMineIndex), gameBoard.colIndexOf(landMineIndex));
+
+        // when
+        gameBoard.undo();
+
+        // then
+        assertThat(gameBoard.isInProgress()).isTrue();
+        assertThat(gameBoard.getRemainingLandMineCount()).isEqualTo(remainingLandMineCount);
+        assertThat(gameBoard.getSnapshot(landMineIndex)).isEqualTo(CellSnapshot.ofUnchecked());
+
+        // 진행 카운터가 맞게 돌아왔다면, 남은 안전한 셀을 모두 열고 지뢰에만 깃발을 꽂았을 때 바로 그때 이긴다
+        for (int index = 0; index < gameBoard.getCellCount(); index++) {
+            if (!landMines.get(index) && isClosed(gameBoard, index)) {
+                assertThat(gameBoard.isInProgress()).isTrue();
+                gameBoard.openAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+            }
+        }
+        for (int index = 0; index < gameBoard.getCellCount(); index++) {
+            if (landMines.get(index) && !gameBoard.getSnapshot(index).isSameStatus(CellSnapshotStatus.FLAG)) {
+                assertThat(gameBoard.isInProgress()).isTrue();
+                gameBoard.flagAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+            }
+        }
+        assertThat(gameBoard.isWinStatus()).isTrue();
+    }
+
+    @Test
+    void coordinatesOutsideTheBoardAreRejectedInsteadOfWrappingToTheNextRow() {
+        // given
+        GameBoard gameBoard = startedBoard(47L);
+        CellSnapshot[] boardBeforeMoves = visibleCellsOf(gameBoard);
+
+        // when // then
+        assertThatThrownBy(() -> gameBoard.openAt(0, gameBoard.getColSize()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gameBoard.flagAt(gameBoard.getRowSize(), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gameBoard.getSnapshot(-1, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> gameBoard.getSnapshot(gameBoard.getCellCount()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(visibleCellsOf(gameBoard)).isEqualTo(boardBeforeMoves);
+    }
+
+    private GameBoard startedBoard(long seed) {
+        GameBoard gameBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(seed);
+        gameBoard.openAt(FIRST_ROW_INDEX, FIRST_COL_INDEX);
+        return gameBoard;
+    }
+
+    private GameBoard startedUndoableBoard(long seed) {
+        GameBoard gameBoard = GameBoard.undoable(new Middle());
+        gameBoard.initializeGame(seed);
+        gameBoard.openAt(FIRST_ROW_INDEX, FIRST_COL_INDEX);
+        return gameBoard;
+    }
+
+    /**
+     * 보드는 지뢰 위치를 공개하지 않으므로, 같은 시드와 같은 첫 셀로 배치기를 한 번 더 돌린다.
+     */
+    private BitPlane landMinesOf(GameBoard gameBoard, long seed, int firstIndex) {
+        BitPlane landMines = BitPlane.ofSize(gameBoard.getCellCount());
+        new LandMinePlacer().placeAvoiding(landMines, gameBoard.getLandMineCount(), gameBoard.getTopology(), firstIndex,
+            new SplittableRandom(seed));
+        return landMines;
+    }
+
+    /**
+     * 지뢰가 아닌 닫힌 이웃이 있는 열린 숫자 셀 (그 이웃에 잘못된 깃발을 꽂을 수 있다)
+     */
+    private int findNumberCellWithClosedSafeNeighbor(GameBoard gameBoard, BitPlane landMines) {
+        for (int index = 0; index < gameBoard.getCellCount(); index++) {
+            CellSnapshot snapshot = gameBoard.getSnapshot(index);
+            if (!snapshot.isSameStatus(CellSnapshotStatus.NUMBER)) {
+                continue;
+            }
+            int closedSafeNeighborCount = 0;
+            for (int neighbor : neighborsOf(gameBoard, index)) {
+                if (isClosed(gameBoard, neighbor) && !landMines.get(neighbor)) {
+                    closedSafeNeighborCount++;
+                }
+            }
+            if (closedSafeNeighborCount > 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private int[] neighborsOf(GameBoard gameBoard, int index) {
+        int[] neighbors = new int[gameBoard.getTopology().getMaxNeighborCount()];
+        int neighborCount = gameBoard.getTopology().findNeighbors(index, neighbors);
+        return Arrays.copyOf(neighbors, neighborCount);
+    }
+
+    private boolean isClosed(GameBoard gameBoard, int index) {
+        CellSnapshot snapshot = gameBoard.getSnapshot(index);
+        return snapshot.isSameStatus(CellSnapshotStatus.UNCHECKED) || snapshot.isSameStatus(CellSnapshotStatus.FLAG);
+    }
+
+    private int[] closedCellIndicesOf(GameBoard gameBoard, int count) {
+        int[] closedCellIndices = new int[count];
+        int found = 0;
+        for (int index = 0; index < gameBoard.getCellCount() && found < count; index++) {
+            if (isClosed(gameBoard, index)) {
+                closedCellIndices[found++] = index;
+            }
+        }
+        return closedCellIndices;
+    }
+
+    private int[] landMineIndicesOf(BitPlane landMines, int count) {
+        int[] landMineIndices = new int[count];
+        int found = 0;
+        for (int index = 0; index < landMines.size() && found < count; index++) {
+            if (landMines.get(index)) {
+                landMineIndices[found++] = index;
+            }
+        }
+        return landMineIndices;
+    }
+
+    private CellSnapshot[] visibleCellsOf(GameBoard gameBoard) {
+        CellSnapshot[] snapshots = new CellSnapshot[gameBoard.getCellCount()];
+        for (int index = 0; index < snapshots.length; index++) {
+            snapshots[index] = gameBoard.getSnapshot(index);
+        }
+        return snapshots;
+    }
+
+    private boolean isSameVisibleBoard(GameBoard gameBoard, GameBoard other) {
+        for (int index = 0; index < gameBoard.getCellCount(); index++) {
+            CellSnapshot snapshot = gameBoard.getSnapshot(index);
+            if (!snapshot.equals(other.getSnapshot(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,167 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopology;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopologyType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LandMinePlacerTest {
+
+    private static final int STRIPE_CELL_COUNT = 1 << 16;
+
+    private final LandMinePlacer landMinePlacer = new LandMinePlacer();
+
+    @Test
+    void stripesPlaceExactLandMineCount() {
+        // given
+        BitPlane landMineCells = BitPlane.ofSize(3 * STRIPE_CELL_COUNT + 100);
+
+        // when
+        landMinePlacer.placeInStripes(landMineCells, 40_000, new SplittableRandom(3L));
+
+        // then
+        assertThat(landMineCells.cardinality()).isEqualTo(40_000);
+    }
+
+    @Test
+    void stripesHandleEmptyAndFullBoards() {
+        // given
+        BitPlane emptyBoard = BitPlane.ofSize(2 * STRIPE_CELL_COUNT + 7);
+        BitPlane fullBoard = BitPlane.ofSize(2 * STRIPE_CELL_COUNT + 7);
+
+        // when
+        landMinePlacer.placeInStripes(emptyBoard, 0, new SplittableRandom(1L));
+        landMinePlacer.placeInStripes(fullBoard, fullBoard.size(), new SplittableRandom(1L));
+
+        // then
+        assertThat(emptyBoard.cardinality()).isEqualTo(0);
+        assertThat(fullBoard.cardinality()).isEqualTo(fullBoard.size());
+    }
+
+    @Test
+    void sameSeedPlacesSameLandMines() {
+        // given
+        BitPlane landMineCells = BitPlane.ofSize(4 * STRIPE_CELL_COUNT);
+        BitPlane sameSeedCells = BitPlane.ofSize(4 * STRIPE_CELL_COUNT);
+
+        // when
+        landMinePlacer.placeInStripes(landMineCells, 50_000, new SplittableRandom(9L));
+        landMinePlacer.placeInStripes(sameSeedCells, 50_000, new SplittableRandom(9L));
+
+        // then
+        assertThat(isSamePlane(landMineCells, sameSeedCells)).isTrue();
+    }
+
+    @Test
+    void stripeLandMineCountFollowsHypergeometricDistribution() {
+        // given
+        int cellCount = 3 * STRIPE_CELL_COUNT;
+        int landMineCount = 3_000;
+        int trialCount = 400;
+        BitPlane landMineCells = BitPlane.ofSize(cellCount);
+
+        // when
+        double sum = 0;
+        double squareSum = 0;
+        for (int trial = 0; trial < trialCount; trial++) {
+            landMineCells.clearAll();
+            landMinePlacer.placeInStripes(landMineCells, landMineCount, new SplittableRandom(trial));
+            int firstStripeCount = landMineCells.countInRange(0, STRIPE_CELL_COUNT);
+            sum += firstStripeCount;
+            squareSum += (double) firstStripeCount * firstStripeCount;
+        }
+
+        // then
+        // 기댓값 1000, 분산 1000 * (2/3) * (N - K) / (N - 1) ≈ 666
+        double mean = sum / trialCount;
+        double variance = squareSum / trialCount - mean * mean;
+        assertThat(mean).isCloseTo(1000.0, within(5.0));
+        assertThat(variance).isCloseTo(666.0, within(150.0));
+    }
+
+    @Test
+    void placeAvoidingKeepsSafeCellAndItsNeighborsClear() {
+        // given
+        BoardTopology topology = BoardTopologyType.SQUARE.create(8, 10);
+        int[] safeIndices = {0, 9, 35, 79};
+        int[] neighbors = new int[topology.getMaxNeighborCount()];
+
+        for (int safeIndex : safeIndices) {
+            for (long seed = 0; seed < 200; seed++) {
+                BitPlane landMineCells = BitPlane.ofSize(80);
+
+                // when
+                landMinePlacer.placeAvoiding(landMineCells, 20, topology, safeIndex, new SplittableRandom(seed));
+
+                // then
+                assertThat(landMineCells.cardinality()).isEqualTo(20);
+                assertThat(landMineCells.get(safeIndex)).isFalse();
+                int neighborCount = topology.findNeighbors(safeIndex, neighbors);
+                for (int i = 0; i < neighborCount; i++) {
+                    assertThat(landMineCells.get(neighbors[i])).isFalse();
+                }
+            }
+        }
+    }
+
+    @Test
+    void placeAvoidingKeepsOnlySafeCellClearWhenNeighborsCannotBeSpared() {
+        // given: 16칸에 지뢰 12개면 가운데 셀과 이웃 9칸을 모두 비울 수 없다
+        BoardTopology topology = BoardTopologyType.SQUARE.create(4, 4);
+        int safeIndex = 5;
+
+        for (long seed = 0; seed < 100; seed++) {
+            BitPlane landMineCells = BitPlane.ofSize(16);
+
+            // when
+            landMinePlacer.placeAvoiding(landMineCells, 12, topology, safeIndex, new SplittableRandom(seed));
+
+            // then
+            assertThat(landMineCells.cardinality()).isEqualTo(12);
+            assertThat(landMineCells.get(safeIndex)).isFalse();
+        }
+    }
+
+    @Test
+    void placeAvoidingChoosesEveryLayoutOutsideTheClearedCellsEquallyOften() {
+        // given: 3x4 보드의 모서리 셀을 비우면 남은 8칸에 지뢰 3개, 배치는 C(8, 3) = 56 가지
+        BoardTopology topology = BoardTopologyType.SQUARE.create(3, 4);
+        int layoutCount = 56;
+        int trialCount = layoutCount * 500;
+        Map<Long, Integer> layoutFrequencies = new HashMap<>();
+
+        // when
+        for (int trial = 0; trial < trialCount; trial++) {
+            BitPlane landMineCells = BitPlane.ofSize(12);
+            landMinePlacer.placeAvoiding(landMineCells, 3, topology, 0, new SplittableRandom(trial));
+            layoutFrequencies.merge(landMineCells.getWord(0), 1, Integer::sum);
+        }
+
+        // then
+        // 자유도 55 인 카이제곱 분포에서 100 을 넘을 확률은 0.02% 정도다
+        double expected = (double) trialCount / layoutCount;
+        double chiSquare = 0;
+        for (int frequency : layoutFrequencies.values()) {
+            chiSquare += (frequency - expected) * (frequency - expected) / expected;
+        }
+        assertThat(layoutFrequencies.size()).isEqualTo(layoutCount);
+        assertThat(chiSquare).isLessThan(100.0);
+    }
+
+    private boolean isSamePlane(BitPlane plane, BitPlane other) {
+        for (int wordIndex = 0; wordIndex < plane.wordCount(); wordIndex++) {
+            if (plane.getWord(wordIndex) != other.getWord(wordIndex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
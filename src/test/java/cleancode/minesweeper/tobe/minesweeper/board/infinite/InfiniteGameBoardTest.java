@@ -0,0 +1,140 @@
+package cleancode.minesweeper.tobe.minesweeper.board.infinite;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InfiniteGameBoardTest {
+
+    @Test
+    void openedEmptyCellsInsideWindowHaveNoClosedNeighbors() {
+        // given
+        InfiniteGameBoard board = new InfiniteGameBoard(7L, 200);
+        for (int i = 0; i < 20 && board.isInProgress(); i++) {
+            board.openAt(i * 17, i * 23);
+        }
+
+        // when
+        board.continueFillWithin(-100, -100, 500, 600);
+
+        // then
+        assertThat(countEmptyCellsWithClosedNeighbor(board, -100, -100, 500, 600)).isEqualTo(0);
+    }
+
+    @Test
+    void fillStopsAtRadiusAndLeavesEdgeCellsPending() {
+        // given
+        InfiniteGameBoard board = new InfiniteGameBoard(1L, 0);
+
+        // when
+        board.openAt(0, 0);
+
+        // then
+        assertThat(board.getSnapshot(0, 256).getStatus()).isEqualTo(CellSnapshotStatus.EMPTY);
+        assertThat(board.getSnapshot(0, 300).getStatus()).isEqualTo(CellSnapshotStatus.UNCHECKED);
+        assertThat(board.getPendingFillCellCount() > 0).isTrue();
+    }
+
+    @Test
+    void fillResumesWhenWindowReachesPendingCells() {
+        // given
+        InfiniteGameBoard board = new InfiniteGameBoard(1L, 0);
+        board.openAt(0, 0);
+
+        // when
+        board.continueFillWithin(0, 250, 20, 60);
+
+        // then
+        assertThat(board.getSnapshot(0, 300).getStatus()).isEqualTo(CellSnapshotStatus.EMPTY);
+        assertThat(countEmptyCellsWithClosedNeighbor(board, 0, 250, 20, 60)).isEqualTo(0);
+    }
+
+    @Test
+    void openingPendingEdgeCellResumesFill() {
+        // given
+        InfiniteGameBoard board = new InfiniteGameBoard(1L, 0);
+        board.openAt(0, 0);
+
+        // when
+        board.openAt(0, 257);
+
+        // then
+        assertThat(board.getSnapshot(0, 400).getStatus()).isEqualTo(CellSnapshotStatus.EMPTY);
+        assertThat(board.isInProgress()).isTrue();
+    }
+
+    @Test
+    void sameSeedBuildsSameWorld() {
+        // given
+        InfiniteGameBoard board = new InfiniteGameBoard(42L, 600);
+        InfiniteGameBoard sameSeedBoard = new InfiniteGameBoard(42L, 600);
+
+        // when
+        board.openAt(-70, 130);
+        sameSeedBoard.openAt(-70, 130);
+
+        // then
+        assertThat(isSameWindow(board, sameSeedBoard, -100, 100, 64, 64)).isTrue();
+    }
+
+    @Test
+    void evictedChunksAreRebuiltFromSeed() {
+        // given
+        InfiniteGameBoard board = new InfiniteGameBoard(42L, 600);
+        InfiniteGameBoard untouchedBoard = new InfiniteGameBoard(42L, 600);
+        board.getSnapshot(10_000, 10_000);
+        for (int i = 0; i < 100; i++) {
+            board.flagAt(0, i);
+        }
+        int loadedChunkCount = board.getLoadedChunkCount();
+
+        // when
+        board.evictIdleChunks();
+        int evictedChunkCount = loadedChunkCount - board.getLoadedChunkCount();
+        board.openAt(10_000, 10_000);
+        untouchedBoard.openAt(10_000, 10_000);
+
+        // then
+        assertThat(evictedChunkCount).isEqualTo(1);
+        assertThat(board.isInProgress()).isEqualTo(untouchedBoard.isInProgress());
+        assertThat(isSameWindow(board, untouchedBoard, 9_990, 9_990, 20, 20)).isTrue();
+    }
+
+    private int countEmptyCellsWithClosedNeighbor(InfiniteGameBoard board, int topRow, int leftCol, int rowCount, int colCount) {
+        int count = 0;
+        for (int row = topRow; row < topRow + rowCount; row++) {
+            for (int col = leftCol; col < leftCol + colCount; col++) {
+                if (board.getSnapshot(row, col).isSameStatus(CellSnapshotStatus.EMPTY) && hasClosedNeighbor(board, row, col)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean hasClosedNeighbor(InfiniteGameBoard board, int row, int col) {
+        for (int deltaRow = -1; deltaRow <= 1; deltaRow++) {
+            for (int deltaCol = -1; deltaCol <= 1; deltaCol++) {
+                CellSnapshot snapshot = board.getSnapshot(row + deltaRow, col + deltaCol);
+                if (snapshot.isSameStatus(CellSnapshotStatus.UNCHECKED) || snapshot.isSameStatus(CellSnapshotStatus.FLAG)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isSameWindow(InfiniteGameBoard board, InfiniteGameBoard other, int topRow, int leftCol, int rowCount, int colCount) {
+        for (int row = topRow; row < topRow + rowCount; row++) {
+            for (int col = leftCol; col < leftCol + colCount; col++) {
+                if (!board.getSnapshot(row, col).equals(other.getSnapshot(row, col))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+package cleancode.minesweeper.tobe.minesweeper.board.storage;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopologyType;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void savedBoardLoadsWithSameCellsAndCounters() {
+        // given
+        GameBoard gameBoard = new GameBoard(new Middle(), BoardTopologyType.HEX);
+        gameBoard.initializeGame(5L);
+        gameBoard.openAt(7, 7);
+        gameBoard.flagAt(0, 0);
+        Path path = tempDir.resolve("game.mswp");
+
+        // when
+        gameBoard.saveTo(path);
+        GameBoard loadedBoard = GameBoard.loadFrom(path);
+
+        // then
+        assertThat(loadedBoard.getTopology().getMaxNeighborCount()).isEqualTo(6);
+        assertThat(loadedBoard.getRemainingLandMineCount()).isEqualTo(gameBoard.getRemainingLandMineCount());
+        assertThat(loadedBoard.isInProgress()).isEqualTo(gameBoard.isInProgress());
+        assertThat(isSameBoard(loadedBoard, gameBoard)).isTrue();
+    }
+
+    @Test
+    void boardWaitingForFirstOpenPlacesSameLandMinesAfterLoading() {
+        // given
+        GameBoard gameBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(11L);
+        Path path = tempDir.resolve("pending.mswp");
+        gameBoard.saveTo(path);
+
+        // when
+        GameBoard loadedBoard = GameBoard.loadFrom(path);
+        loadedBoard.openAt(3, 4);
+        gameBoard.openAt(3, 4);
+
+        // then
+        assertThat(isSameBoard(loadedBoard, gameBoard)).isTrue();
+    }
+
+    @Test
+    void rejectsFileWithWrongMagic() throws IOException {
+        // given
+        Path path = savedBoard();
+        writeIntAt(path, 0, 0x12345678);
+
+        // when // then
+        assertThatThrownBy(() -> BoardFile.open(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("magic");
+    }
+
+    @Test
+    void rejectsUnsupportedVersion() throws IOException {
+        // given
+        Path path = savedBoard();
+        writeIntAt(path, 4, 99);
+
+        // when // then
+        assertThatThrownBy(() -> BoardFile.open(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("버전");
+    }
+
+    @Test
+    void rejectsOutOfRangeTopologyAndStatus() throws IOException {
+        // given
+        Path topologyPath = savedBoard();
+        writeIntAt(topologyPath, 20, 7);
+        Path statusPath = savedBoard();
+        writeIntAt(statusPath, 24, -1);
+
+        // when // then
+        assertThatThrownBy(() -> BoardFile.open(topologyPath))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("보드 모양");
+        assertThatThrownBy(() -> BoardFile.open(statusPath))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("게임 상태");
+    }
+
+    @Test
+    void rejectsFileShorterThanBoardSize() throws IOException {
+        // given
+        Path path = savedBoard();
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(file.length() - 8);
+        }
+
+        // when // then
+        assertThatThrownBy(() -> BoardFile.open(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("파일 길이");
+    }
+
+    private Path savedBoard() {
+        GameBoard gameBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(1L);
+        gameBoard.openAt(0, 0);
+        Path path = tempDir.resolve("board-" + System.nanoTime() + ".mswp");
+        gameBoard.saveTo(path);
+        return path;
+    }
+
+    private void writeIntAt(Path path, int offset, int value) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(offset);
+            // 헤더는 little-endian 이다
+            file.writeInt(Integer.reverseBytes(value));
+        }
+    }
+
+    private boolean isSameBoard(GameBoard board, GameBoard other) {
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (!board.getSnapshot(index).equals(other.getSnapshot(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
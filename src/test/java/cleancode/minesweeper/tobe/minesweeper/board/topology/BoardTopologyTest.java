@@ -0,0 +1,137 @@
+package cleancode.minesweeper.tobe.minesweeper.board.topology;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardTopologyTest {
+
+    @Test
+    void squareCornerHasThreeNeighbors() {
+        // given
+        BoardTopology topology = BoardTopologyType.SQUARE.create(3, 4);
+
+        // when
+        int[] neighbors = neighborsOf(topology, 0);
+
+        // then
+        assertThat(neighbors).containsExactlyInAnyOrder(1, 4, 5);
+    }
+
+    @Test
+    void torusWrapsAroundEdges() {
+        // given
+        BoardTopology topology = BoardTopologyType.TORUS.create(4, 5);
+
+        // when
+        int[] neighbors = neighborsOf(topology, 0);
+
+        // then
+        assertThat(neighbors).containsExactlyInAnyOrder(1, 4, 5, 6, 9, 15, 16, 19);
+    }
+
+    @Test
+    void narrowTorusDoesNotRepeatNeighbors() {
+        // given
+        BoardTopology topology = BoardTopologyType.TORUS.create(2, 2);
+
+        // when
+        int[] neighbors = neighborsOf(topology, 0);
+
+        // then
+        assertThat(neighbors).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    void hexRowsShiftByHalfCell() {
+        // given
+        BoardTopology topology = BoardTopologyType.HEX.create(4, 4);
+
+        // when
+        int[] evenRowNeighbors = neighborsOf(topology, 4 * 2 + 1);
+        int[] oddRowNeighbors = neighborsOf(topology, 4 + 1);
+
+        // then
+        assertThat(evenRowNeighbors).containsExactlyInAnyOrder(4, 5, 8, 10, 12, 13);
+        assertThat(oddRowNeighbors).containsExactlyInAnyOrder(1, 2, 4, 6, 9, 10);
+    }
+
+    @Test
+    void neighborsAreSymmetricOnEveryTopology() {
+        for (BoardTopologyType topologyType : BoardTopologyType.values()) {
+            // given
+            BoardTopology topology = topologyType.create(5, 7);
+
+            for (int index = 0; index < topology.getCellCount(); index++) {
+                // when
+                int[] neighbors = neighborsOf(topology, index);
+
+                // then
+                for (int neighbor : neighbors) {
+                    assertThat(neighborsOf(topology, neighbor)).contains(index);
+                }
+            }
+        }
+    }
+
+    @Test
+    void neighborTableMatchesTopologyItWasBuiltFrom() {
+        for (BoardTopologyType topologyType : BoardTopologyType.values()) {
+            // given
+            BoardTopology topology = topologyType.create(6, 9);
+            NeighborTable neighborTable = NeighborTable.from(topology);
+            BitPlane landMineCells = BitPlane.ofSize(topology.getCellCount());
+            for (int index = 0; index < topology.getCellCount(); index += 3) {
+                landMineCells.set(index);
+            }
+
+            for (int index = 0; index < topology.getCellCount(); index++) {
+                // when & then
+                assertThat(neighborsOf(neighborTable, index)).containsExactly(neighborsOf(topology, index));
+                assertThat(neighborTable.countNearbyLandMines(landMineCells, index))
+                    .isEqualTo(topology.countNearbyLandMines(landMineCells, index));
+            }
+        }
+    }
+
+    @Test
+    void countNearbyLandMinesCountsEachNeighborOnce() {
+        for (BoardTopologyType topologyType : BoardTopologyType.values()) {
+            // given
+            BoardTopology topology = topologyType.create(2, 3);
+            BitPlane landMineCells = BitPlane.ofSize(topology.getCellCount());
+            for (int index = 0; index < topology.getCellCount(); index++) {
+                landMineCells.set(index);
+            }
+
+            for (int index = 0; index < topology.getCellCount(); index++) {
+                // when
+                int count = topology.countNearbyLandMines(landMineCells, index);
+
+                // then
+                assertThat(count).isEqualTo(neighborsOf(topology, index).length);
+            }
+        }
+    }
+
+    @Test
+    void findTopologyTypeByName() {
+        // when & then
+        assertThat(BoardTopologyType.findBy("hex")).isEqualTo(BoardTopologyType.HEX);
+        assertThat(BoardTopologyType.findBy("TORUS")).isEqualTo(BoardTopologyType.TORUS);
+        assertThatThrownBy(() -> BoardTopologyType.findBy("triangle"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int[] neighborsOf(BoardTopology topology, int index) {
+        int[] neighbors = new int[topology.getMaxNeighborCount()];
+        int neighborCount = topology.findNeighbors(index, neighbors);
+        return Arrays.copyOf(neighbors, neighborCount);
+    }
+
+}
@@ -0,0 +1,146 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignProvider;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.Viewport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardFrameRendererTest {
+
+    private static final long SEED = 7L;
+
+    @Test
+    void renderFreshBoardLikeCellByCellPrinting() {
+        // given
+        GameBoard gameBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(SEED);
+
+        // when
+        String frame = render(gameBoard);
+
+        // then
+        assertThat(frame).isEqualTo(renderCellByCell(gameBoard, 0, gameBoard.getRowSize(), 0, gameBoard.getColSize()));
+    }
+
+    @Test
+    void renderOpenedAndFlaggedBoardLikeCellByCellPrinting() {
+        // given
+        GameBoard gameBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(SEED);
+        gameBoard.openAt(7, 9);
+        gameBoard.flagAt(0, 0);
+        gameBoard.flagAt(13, 17);
+
+        // when
+        String frame = render(gameBoard);
+
+        // then
+        assertThat(frame).isEqualTo(renderCellByCell(gameBoard, 0, gameBoard.getRowSize(), 0, gameBoard.getColSize()));
+    }
+
+    @Test
+    void renderLostBoardLikeCellByCellPrinting() {
+        // given
+        GameBoard gameBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(SEED);
+        gameBoard.openAt(7, 9);
+        for (int index = 0; index < gameBoard.getCellCount() && gameBoard.isInProgress(); index++) {
+            gameBoard.openAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index));
+        }
+
+        // when
+        String frame = render(gameBoard);
+
+        // then
+        assertThat(gameBoard.isLoseStatus()).isTrue();
+        assertThat(frame).isEqualTo(renderCellByCell(gameBoard, 0, gameBoard.getRowSize(), 0, gameBoard.getColSize()));
+    }
+
+    @Test
+    void renderViewportLikeCellByCellPrintingOfTheWindow() {
+        // given
+        GameBoard gameBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(SEED);
+        gameBoard.openAt(7, 9);
+        Viewport viewport = new Viewport(5, 6);
+        viewport.focusOn(CellPosition.of(7, 9));
+
+        BoardFrameRenderer renderer = new BoardFrameRenderer();
+
+        // when
+        renderer.render(gameBoard, viewport);
+        String frame = new String(renderer.getFrame(), 0, renderer.getFrameLength(), StandardCharsets.UTF_8);
+
+        // then
+        int fromRow = viewport.getTopRow();
+        int toRow = viewport.getBottomRowExclusive(gameBoard.getRowSize());
+        int fromCol = viewport.getLeftCol();
+        int toCol = viewport.getRightColExclusive(gameBoard.getColSize());
+        String expectedCells = renderCellsCellByCell(gameBoard, fromRow, toRow, fromCol, toCol);
+        String expectedRange = String.format("화면: %d~%d행 / %d, %c~%c열 / %d%n",
+            fromRow + 1, toRow, gameBoard.getRowSize(),
+            (char)('a' + fromCol), (char)('a' + toCol - 1), gameBoard.getColSize());
+        assertThat(frame).isEqualTo(expectedCells + expectedRange + remainingLandMineLine(gameBoard));
+    }
+
+    @Test
+    void reuseOfTheRendererDoesNotLeaveThePreviousFrameBehind() {
+        // given
+        GameBoard gameBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(SEED);
+        BoardFrameRenderer renderer = new BoardFrameRenderer();
+        renderer.render(gameBoard, new Viewport(3, 3));
+
+        // when
+        renderer.render(gameBoard);
+        String frame = new String(renderer.getFrame(), 0, renderer.getFrameLength(), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(frame).isEqualTo(renderCellByCell(gameBoard, 0, gameBoard.getRowSize(), 0, gameBoard.getColSize()));
+    }
+
+    private String render(GameBoard gameBoard) {
+        BoardFrameRenderer renderer = new BoardFrameRenderer();
+        renderer.render(gameBoard);
+        return new String(renderer.getFrame(), 0, renderer.getFrameLength(), StandardCharsets.UTF_8);
+    }
+
+    private String renderCellByCell(GameBoard gameBoard, int fromRow, int toRow, int fromCol, int toCol) {
+        return renderCellsCellByCell(gameBoard, fromRow, toRow, fromCol, toCol) + remainingLandMineLine(gameBoard);
+    }
+
+    /**
+     * 렌더러를 쓰기 전 ConsoleOutputHandler 가 셀마다 문양을 찾아 출력하던 방식 그대로
+     */
+    private String renderCellsCellByCell(GameBoard gameBoard, int fromRow, int toRow, int fromCol, int toCol) {
+        StringBuilder builder = new StringBuilder("    ");
+        for (int col = fromCol; col < toCol; col++) {
+            if (col > fromCol) {
+                builder.append(' ');
+            }
+            builder.append((char)('a' + col));
+        }
+        builder.append(System.lineSeparator());
+
+        for (int row = fromRow; row < toRow; row++) {
+            builder.append(String.format("%2d  ", row + 1));
+            for (int col = fromCol; col < toCol; col++) {
+                builder.append(CellSignProvider.findCellSignFrom(gameBoard.getSnapshot(row, col))).append(' ');
+            }
+            builder.append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+
+    private String remainingLandMineLine(GameBoard gameBoard) {
+        return "남은 지뢰: " + gameBoard.getRemainingLandMineCount() + System.lineSeparator() + System.lineSeparator();
+    }
+
+}
@@ -0,0 +1,82 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Scanner;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.PanDirection;
+import cleancode.minesweeper.tobe.minesweeper.io.viewport.Viewport;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsoleInputHandlerTest {
+
+    @Test
+    void panCommandIsReportedInsteadOfThrowing() {
+        // given
+        ConsoleInputHandler inputHandler = new ConsoleInputHandler(new Scanner("v\nb3\n1\n"), new Viewport(20, 30));
+
+        // when
+        inputHandler.getCellPositionFromUser();
+
+        // then
+        assertThat(inputHandler.getPanDirection()).isEqualTo(Optional.of(PanDirection.DOWN));
+    }
+
+    @Test
+    void cellInputClearsPreviousPanCommand() {
+        // given
+        ConsoleInputHandler inputHandler = new ConsoleInputHandler(new Scanner("v\nb3\n1\n"), new Viewport(20, 30));
+        inputHandler.getCellPositionFromUser();
+
+        // when
+        CellPosition cellPosition = inputHandler.getCellPositionFromUser();
+        UserAction userAction = inputHandler.getUserActionFromUser();
+
+        // then
+        assertThat(inputHandler.getPanDirection().isPresent()).isFalse();
+        assertThat(cellPosition.getRowIndex()).isEqualTo(2);
+        assertThat(cellPosition.getColIndex()).isEqualTo(1);
+        assertThat(userAction).isEqualTo(UserAction.OPEN);
+    }
+
+    @Test
+    void outputHandlerMovesSharedViewportOnPan() {
+        // given
+        Viewport viewport = new Viewport(20, 30);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ConsoleOutputHandler outputHandler = new ConsoleOutputHandler(new PrintStream(bytes, true, StandardCharsets.UTF_8), viewport);
+        GameBoard gameBoard = new GameBoard(new Advanced());
+        gameBoard.initializeGame(1L);
+
+        // when
+        outputHandler.panBoard(PanDirection.DOWN);
+        outputHandler.showBoard(gameBoard);
+
+        // then
+        assertThat(viewport.getTopRow()).isEqualTo(10);
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).contains("화면: 11~30행");
+    }
+
+    @Test
+    void outputHandlerWithoutViewportExplainsPanIsUnsupported() {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ConsoleOutputHandler outputHandler = new ConsoleOutputHandler(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+
+        // when
+        outputHandler.panBoard(PanDirection.LEFT);
+
+        // then
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).contains("화면 이동을 지원하지 않는");
+    }
+
+}
@@ -0,0 +1,391 @@
+package cleancode.minesweeper.tobe.minesweeper.journal;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.change.ChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoveJournalTest {
+
+    private static final GameLevel GAME_LEVEL = new Advanced();
+    // 주변 열기가 일을 하려면 지뢰가 빽빽해야 한다
+    private static final GameLevel CHORD_GAME_LEVEL = new Middle();
+    private static final long SEED = 17L;
+    private static final int RECORD_SIZE = 12;
+
+    @TempDir
+    Path journalDirectory;
+
+    @Test
+    void recoveryDropsTruncatedTailRecord() throws IOException {
+        // given
+        CellPosition[] cellPositions = randomCellPositions(200, 1L);
+        UserAction[] userActions = randomUserActions(200, 2L);
+        play(cellPositions, userActions, 200);
+        cutJournalTo(199L * RECORD_SIZE + 5);
+
+        // when
+        MoveJournal.Recovery recovery = MoveJournal.recover(journalDirectory);
+
+        // then
+        assertThat(recovery.getMoveJournal().getMoveCount()).isEqualTo(199L);
+        assertThat(isSameBoard(recovery.getGameBoard(), replay(cellPositions, userActions, 199))).isTrue();
+        assertThat(Files.size(journalDirectory.resolve("moves.journal"))).isEqualTo(199L * RECORD_SIZE);
+        recovery.getMoveJournal().close();
+    }
+
+    @Test
+    void recoveryStartsFromSnapshotAtIntervalBoundary() {
+        // given
+        CellPosition[] cellPositions = randomCellPositions(20_000, 3L);
+        UserAction[] userActions = flagsOnly(20_000);
+        GameBoard gameBoard = play(cellPositions, userActions, 20_000);
+
+        // when
+        MoveJournal.Recovery recovery = MoveJournal.recover(journalDirectory);
+
+        // then
+        assertThat(Files.exists(journalDirectory.resolve("snapshot-000000010000.board"))).isTrue();
+        assertThat(Files.exists(journalDirectory.resolve("snapshot-000000020000.board"))).isTrue();
+        assertThat(recovery.getMoveJournal().getMoveCount()).isEqualTo(20_000L);
+        assertThat(isSameBoard(recovery.getGameBoard(), gameBoard)).isTrue();
+        recovery.getMoveJournal().close();
+    }
+
+    @Test
+    void recoveryJustBeforeBoundaryUsesPreviousSnapshot() throws IOException {
+        // given
+        CellPosition[] cellPositions = randomCellPositions(10_001, 4L);
+        UserAction[] userActions = flagsOnly(10_001);
+        play(cellPositions, userActions, 10_000);
+        cutJournalTo(9_999L * RECORD_SIZE + 11);
+
+        // when
+        MoveJournal.Recovery recovery = MoveJournal.recover(journalDirectory);
+
+        // then
+        assertThat(recovery.getMoveJournal().getMoveCount()).isEqualTo(9_999L);
+        assertThat(isSameBoard(recovery.getGameBoard(), replay(cellPositions, userActions, 9_999))).isTrue();
+        recovery.getMoveJournal().close();
+    }
+
+    @Test
+    void corruptedSnapshotFallsBackToPreviousSnapshot() throws IOException {
+        // given
+        CellPosition[] cellPositions = randomCellPositions(10_050, 5L);
+        UserAction[] userActions = flagsOnly(10_050);
+        GameBoard gameBoard = play(cellPositions, userActions, 10_050);
+        flipByteAt(journalDirectory.resolve("snapshot-000000010000.board"), 100);
+
+        // when
+        MoveJournal.Recovery recovery = MoveJournal.recover(journalDirectory);
+
+        // then
+        assertThat(isSameBoard(recovery.getGameBoard(), gameBoard)).isTrue();
+        recovery.getMoveJournal().close();
+    }
+
+    @Test
+    void chordMovesAreReplayed() {
+        // given
+        GameBoard gameBoard = new GameBoard(CHORD_GAME_LEVEL);
+        gameBoard.initializeGame(SEED);
+        MoveJournal moveJournal = MoveJournal.start(journalDirectory, gameBoard);
+        int chordChangeCount = playWithChords(gameBoard, moveJournal);
+        moveJournal.close();
+
+        // when
+        MoveJournal.Recovery recovery = MoveJournal.recover(journalDirectory);
+
+        // then
+        assertThat(chordChangeCount > 0).isTrue();
+        assertThat(isSameBoard(recovery.getGameBoard(), gameBoard)).isTrue();
+        recovery.getMoveJournal().close();
+    }
+
+    @Test
+    void recoveredJournalKeepsAppending() {
+        // given
+        CellPosition[] cellPositions = randomCellPositions(30, 6L);
+        UserAction[] userActions = randomUserActions(30, 7L);
+        play(cellPositions, userActions, 20);
+        MoveJournal.Recovery recovery = MoveJournal.recover(journalDirectory);
+
+        // when
+        for (int move = 20; move < 30; move++) {
+            apply(recovery.getGameBoard(), cellPositions[move], userActions[move]);
+            recovery.getMoveJournal().append(cellPositions[move], userActions[move], recovery.getGameBoard());
+        }
+        recovery.getMoveJournal().close();
+        MoveJournal.Recovery secondRecovery = MoveJournal.recover(journalDirectory);
+
+        // then
+        assertThat(isSameBoard(secondRecovery.getGameBoard(), replay(cellPositions, userActions, 30))).isTrue();
+        secondRecovery.getMoveJournal().close();
+    }
+
+    @Test
+    void undoAndRedoMovesAreReplayed() {
+        // given
+        CellPosition[] cellPositions = randomCellPositions(300, 8L);
+        UserAction[] userActions = randomUserActionsWithHistory(300, 9L);
+        GameBoard gameBoard = GameBoard.undoable(GAME_LEVEL);
+        gameBoard.initializeGame(SEED);
+        MoveJournal moveJournal = MoveJournal.start(journalDirectory, gameBoard);
+        for (int move = 0; move < cellPositions.length && gameBoard.isInProgress(); move++) {
+            recordChangedMove(gameBoard, moveJournal, cellPositions[move], userActions[move]);
+        }
+        moveJournal.close();
+
+        // when
+        MoveJournal.Recovery recovery = MoveJournal.recover(journalDirectory);
+        GameBoard recoveredBoard = recovery.getGameBoard();
+
+        // then
+        assertThat(isSameBoard(recoveredBoard, gameBoard)).isTrue();
+        assertThat(recoveredBoard.canUndo()).isEqualTo(gameBoard.canUndo());
+        assertThat(recoveredBoard.canRedo()).isEqualTo(gameBoard.canRedo());
+        gameBoard.undo();
+        recoveredBoard.undo();
+        assertThat(isSameBoard(recoveredBoard, gameBoard)).isTrue();
+        recovery.getMoveJournal().close();
+    }
+
+    @Test
+    void undoPastTheLatestSnapshotRecoversFromAnEarlierSnapshot() {
+        // given
+        GameBoard gameBoard = GameBoard.undoable(GAME_LEVEL);
+        gameBoard.initializeGame(SEED);
+        MoveJournal moveJournal = MoveJournal.start(journalDirectory, gameBoard);
+        recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.FLAG);
+        recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 1), UserAction.FLAG);
+        // 깃발은 꽂기만 하므로, 마지막 깃발을 되돌렸다 다시 꽂으며 스냅샷 주기를 채운다
+        while (moveJournal.getMoveCount() < 10_000) {
+            recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.UNDO);
+            recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.REDO);
+        }
+        recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.UNDO);
+        recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.UNDO);
+        moveJournal.close();
+
+        // when
+        MoveJournal.Recovery recovery = MoveJournal.recover(journalDirectory);
+
+        // then
+        assertThat(Files.exists(journalDirectory.resolve("snapshot-000000010000.board"))).isTrue();
+        assertThat(recovery.getMoveJournal().getMoveCount()).isEqualTo(10_002L);
+        assertThat(isSameBoard(recovery.getGameBoard(), gameBoard)).isTrue();
+        assertThat(recovery.getGameBoard().getSnapshot(0, 0)).isEqualTo(CellSnapshot.ofUnchecked());
+        recovery.getGameBoard().redo();
+        recovery.getGameBoard().redo();
+        assertThat(recovery.getGameBoard().getSnapshot(0, 1)).isEqualTo(CellSnapshot.ofFlag());
+        recovery.getMoveJournal().close();
+    }
+
+    @Test
+    void redoOfAnUndoBeforeTheLatestSnapshotRecoversFromAnEarlierSnapshot() {
+        // given
+        GameBoard gameBoard = GameBoard.undoable(GAME_LEVEL);
+        gameBoard.initializeGame(SEED);
+        MoveJournal moveJournal = MoveJournal.start(journalDirectory, gameBoard);
+        recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.FLAG);
+        while (moveJournal.getMoveCount() < 9_999) {
+            recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.UNDO);
+            recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.REDO);
+        }
+        // 10,000번째 수인 되돌리기 뒤에 스냅샷이 남고, 다시 하기는 그 되돌리기가 있어야 둘 수 있다
+        recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.UNDO);
+        recordChangedMove(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.REDO);
+        moveJournal.close();
+
+        // when
+        MoveJournal.Recovery recovery = MoveJournal.recover(journalDirectory);
+
+        // then
+        assertThat(Files.exists(journalDirectory.resolve("snapshot-000000010000.board"))).isTrue();
+        assertThat(recovery.getMoveJournal().getMoveCount()).isEqualTo(10_001L);
+        assertThat(gameBoard.getSnapshot(0, 0)).isEqualTo(CellSnapshot.ofFlag());
+        assertThat(isSameBoard(recovery.getGameBoard(), gameBoard)).isTrue();
+        recovery.getMoveJournal().close();
+    }
+
+    /**
+     * 열린 숫자 셀 주변의 지뢰에 깃발을 꽂고 주변 열기를 한다.
+     */
+    private int playWithChords(GameBoard gameBoard, MoveJournal moveJournal) {
+        record(gameBoard, moveJournal, CellPosition.of(0, 0), UserAction.OPEN);
+
+        int chordChangeCount = 0;
+        for (int index = 0; index < gameBoard.getCellCount() && gameBoard.isInProgress(); index++) {
+            if (!gameBoard.getSnapshot(index).isSameStatus(CellSnapshotStatus.NUMBER)) {
+                continue;
+            }
+            int row = gameBoard.rowIndexOf(index);
+            int col = gameBoard.colIndexOf(index);
+            flagNearbyLandMines(gameBoard, moveJournal, row, col);
+            if (record(gameBoard, moveJournal, CellPosition.of(row, col), UserAction.CHORD).hasChanges()) {
+                chordChangeCount++;
+            }
+        }
+        return chordChangeCount;
+    }
+
+    private void flagNearbyLandMines(GameBoard gameBoard, MoveJournal moveJournal, int row, int col) {
+        for (int nearbyRow = row - 1; nearbyRow <= row + 1; nearbyRow++) {
+            for (int nearbyCol = col - 1; nearbyCol <= col + 1; nearbyCol++) {
+                if (!gameBoard.isInvalidCellPosition(nearbyRow, nearbyCol)
+                    && gameBoard.getSnapshot(nearbyRow, nearbyCol).isSameStatus(CellSnapshotStatus.UNCHECKED)
+                    && isLandMine(nearbyRow, nearbyCol)) {
+                    record(gameBoard, moveJournal, CellPosition.of(nearbyRow, nearbyCol), UserAction.FLAG);
+                }
+            }
+        }
+    }
+
+    /**
+     * 같은 시드로 첫 셀을 연 보드에서 그 셀을 열어 보면 지뢰인지 알 수 있다.
+     */
+    private boolean isLandMine(int row, int col) {
+        GameBoard probe = new GameBoard(CHORD_GAME_LEVEL);
+        probe.initializeGame(SEED);
+        probe.openAt(0, 0);
+        probe.openAt(row, col);
+        return probe.isLoseStatus();
+    }
+
+    private ChangeSet record(GameBoard gameBoard, MoveJournal moveJournal, CellPosition cellPosition, UserAction userAction) {
+        ChangeSet changeSet = apply(gameBoard, cellPosition, userAction);
+        moveJournal.append(cellPosition, userAction, gameBoard);
+        return changeSet;
+    }
+
+    /**
+     * 게임과 같이 보드를 바꾼 수만 저널에 남긴다. (되돌리기 이력과 저널이 같은 수를 가리키도록)
+     */
+    private void recordChangedMove(GameBoard gameBoard, MoveJournal moveJournal, CellPosition cellPosition,
+        UserAction userAction) {
+        if (apply(gameBoard, cellPosition, userAction).hasChanges()) {
+            moveJournal.append(cellPosition, userAction, gameBoard);
+        }
+    }
+
+    private GameBoard play(CellPosition[] cellPositions, UserAction[] userActions, int moveCount) {
+        GameBoard gameBoard = new GameBoard(GAME_LEVEL);
+        gameBoard.initializeGame(SEED);
+        MoveJournal moveJournal = MoveJournal.start(journalDirectory, gameBoard);
+        for (int move = 0; move < moveCount; move++) {
+            record(gameBoard, moveJournal, cellPositions[move], userActions[move]);
+        }
+        moveJournal.close();
+        return gameBoard;
+    }
+
+    private GameBoard replay(CellPosition[] cellPositions, UserAction[] userActions, int moveCount) {
+        GameBoard gameBoard = new GameBoard(GAME_LEVEL);
+        gameBoard.initializeGame(SEED);
+        for (int move = 0; move < moveCount; move++) {
+            apply(gameBoard, cellPositions[move], userActions[move]);
+        }
+        return gameBoard;
+    }
+
+    private ChangeSet apply(GameBoard gameBoard, CellPosition cellPosition, UserAction userAction) {
+        if (userAction == UserAction.OPEN) {
+            return gameBoard.openAt(cellPosition);
+        }
+        if (userAction == UserAction.FLAG) {
+            return gameBoard.flagAt(cellPosition);
+        }
+        if (userAction == UserAction.UNDO) {
+            return gameBoard.undo();
+        }
+        if (userAction == UserAction.REDO) {
+            return gameBoard.redo();
+        }
+        return gameBoard.chordAt(cellPosition);
+    }
+
+    private CellPosition[] randomCellPositions(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        CellPosition[] cellPositions = new CellPosition[count];
+        for (int i = 0; i < count; i++) {
+            cellPositions[i] = CellPosition.of(random.nextInt(GAME_LEVEL.getRowSize()), random.nextInt(GAME_LEVEL.getColSize()));
+        }
+        return cellPositions;
+    }
+
+    private UserAction[] randomUserActions(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        UserAction[] candidates = {UserAction.FLAG, UserAction.FLAG, UserAction.OPEN, UserAction.CHORD};
+        UserAction[] userActions = new UserAction[count];
+        for (int i = 0; i < count; i++) {
+            userActions[i] = candidates[random.nextInt(candidates.length)];
+        }
+        return userActions;
+    }
+
+    private UserAction[] randomUserActionsWithHistory(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        UserAction[] candidates = {UserAction.FLAG, UserAction.FLAG, UserAction.FLAG, UserAction.OPEN,
+            UserAction.UNDO, UserAction.UNDO, UserAction.REDO};
+        UserAction[] userActions = new UserAction[count];
+        for (int i = 0; i < count; i++) {
+            userActions[i] = candidates[random.nextInt(candidates.length)];
+        }
+        return userActions;
+    }
+
+    /**
+     * 지뢰를 밟아 게임이 끝나지 않도록 깃발만 꽂았다 뽑는다.
+     */
+    private UserAction[] flagsOnly(int count) {
+        UserAction[] userActions = new UserAction[count];
+        Arrays.fill(userActions, UserAction.FLAG);
+        return userActions;
+    }
+
+    private void cutJournalTo(long length) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(journalDirectory.resolve("moves.journal").toFile(), "rw")) {
+            file.setLength(length);
+        }
+    }
+
+    private void flipByteAt(Path path, int offset) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(offset);
+            int value = file.read();
+            file.seek(offset);
+            file.write(value ^ 0xFF);
+        }
+    }
+
+    private boolean isSameBoard(GameBoard board, GameBoard other) {
+        if (board.isInProgress() != other.isInProgress() || board.isLoseStatus() != other.isLoseStatus()
+            || board.getRemainingLandMineCount() != other.getRemainingLandMineCount()) {
+            return false;
+        }
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (!board.getSnapshot(index).equals(other.getSnapshot(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
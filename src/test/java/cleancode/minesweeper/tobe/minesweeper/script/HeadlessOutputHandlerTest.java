@@ -0,0 +1,39 @@
+package cleancode.minesweeper.tobe.minesweeper.script;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
+import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeadlessOutputHandlerTest {
+
+    @Test
+    void onlyInvalidCoordinatesAndActionsAreCountedAsRejected() {
+        // given
+        String script = String.join("\n",
+            "h7 open",
+            "z99 open",
+            "b2 dance",
+            "a1 undo",
+            "a1 redo"
+        );
+        ScriptedInputHandler inputHandler = new ScriptedInputHandler(new BufferedReader(new StringReader(script)));
+        HeadlessOutputHandler outputHandler = new HeadlessOutputHandler();
+        Minesweeper minesweeper = new Minesweeper(new GameConfig(new Middle(), inputHandler, outputHandler));
+        minesweeper.initialize();
+
+        // when
+        minesweeper.run();
+
+        // then
+        assertThat(inputHandler.getMoveCount()).isEqualTo(5);
+        assertThat(outputHandler.getRejectedMoveCount()).isEqualTo(2);
+    }
+
+}
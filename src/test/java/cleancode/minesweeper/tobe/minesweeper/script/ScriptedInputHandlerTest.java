@@ -0,0 +1,34 @@
+package cleancode.minesweeper.tobe.minesweeper.script;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScriptedInputHandlerTest {
+
+    @Test
+    void hintIsReadByNameAndByConsoleNumber() {
+        // given
+        ScriptedInputHandler inputHandler = new ScriptedInputHandler(new BufferedReader(new StringReader("c2 hint\nd4 3\n")));
+
+        // when
+        CellPosition firstCellPosition = inputHandler.getCellPositionFromUser();
+        UserAction firstUserAction = inputHandler.getUserActionFromUser();
+        inputHandler.getCellPositionFromUser();
+        UserAction secondUserAction = inputHandler.getUserActionFromUser();
+
+        // then
+        assertThat(firstCellPosition.getRowIndex()).isEqualTo(1);
+        assertThat(firstCellPosition.getColIndex()).isEqualTo(2);
+        assertThat(firstUserAction).isEqualTo(UserAction.HINT);
+        assertThat(secondUserAction).isEqualTo(UserAction.HINT);
+        assertThat(inputHandler.isClosed()).isTrue();
+    }
+
+}
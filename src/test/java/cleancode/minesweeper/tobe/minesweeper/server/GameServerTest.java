@@ -0,0 +1,197 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameServerTest {
+
+    private static final Duration LONG_IDLE_TIMEOUT = Duration.ofMinutes(1);
+    private static final int READ_TIMEOUT_MILLIS = 5_000;
+    private static final long WAIT_TIMEOUT_MILLIS = 5_000;
+
+    @Test
+    void clientReceivesBoardFrameAndCanMakeMove() throws IOException {
+        GameServer gameServer = startServer(LONG_IDLE_TIMEOUT, false);
+        try (Client client = new Client(gameServer)) {
+            // given
+            String frameBeforeMove = client.readFrame();
+            client.readLineContaining("선택할 좌표");
+
+            // when
+            client.send("a1");
+            client.send("1");
+            String frameAfterMove = client.readFrame();
+
+            // then
+            assertThat(frameBeforeMove).contains("남은 지뢰:");
+            assertThat(frameAfterMove).isNotEqualTo(frameBeforeMove);
+            // 수 처리 지연 시간은 결과 화면을 내보낸 뒤에 기록된다
+            SessionRegistry sessionRegistry = gameServer.getSessionRegistry();
+            assertThat(waitUntil(() -> sessionRegistry.getMaxMoveLatencyMicros() > 0)).isTrue();
+            assertThat(sessionRegistry.getMoveCount()).isEqualTo(1L);
+        } finally {
+            gameServer.stop();
+        }
+    }
+
+    @Test
+    void idleClientIsDroppedAfterTimeout() throws IOException {
+        GameServer gameServer = startServer(Duration.ofMillis(200), false);
+        try (Client client = new Client(gameServer)) {
+            // given
+            client.readLineContaining("선택할 좌표");
+
+            // when
+            String lineAfterIdle = client.readLineContaining("선택할 좌표");
+
+            // then
+            assertThat(lineAfterIdle).isNull();
+            assertThat(waitUntil(() -> gameServer.getSessionRegistry().getActiveSessionCount() == 0)).isTrue();
+        } finally {
+            gameServer.stop();
+        }
+    }
+
+    @Test
+    void sessionCountReturnsToZeroAfterClientsDisconnect() throws IOException {
+        GameServer gameServer = startServer(LONG_IDLE_TIMEOUT, false);
+        try {
+            // given
+            Client[] clients = new Client[3];
+            for (int i = 0; i < clients.length; i++) {
+                clients[i] = new Client(gameServer);
+                clients[i].readLineContaining("선택할 좌표");
+            }
+            SessionRegistry sessionRegistry = gameServer.getSessionRegistry();
+            int activeSessionCountWhileConnected = sessionRegistry.getActiveSessionCount();
+
+            // when
+            for (Client client : clients) {
+                client.close();
+            }
+
+            // then
+            assertThat(activeSessionCountWhileConnected).isEqualTo(3);
+            assertThat(waitUntil(() -> sessionRegistry.getActiveSessionCount() == 0)).isTrue();
+            assertThat(sessionRegistry.getStartedSessionCount()).isEqualTo(3L);
+        } finally {
+            gameServer.stop();
+        }
+    }
+
+    @Test
+    void coOpSessionsSeeEachOthersMoves() throws IOException {
+        GameServer gameServer = startServer(LONG_IDLE_TIMEOUT, true);
+        try (Client opener = new Client(gameServer); Client watcher = new Client(gameServer)) {
+            // given
+            opener.readLineContaining("선택할 좌표");
+            watcher.readLineContaining("선택할 좌표");
+
+            // when
+            opener.send("a1");
+            opener.send("1");
+            String openerFrame = opener.readFrame();
+            // 이미 열린 셀을 다시 열면 보드는 그대로이고, 함께 푸는 보드의 지금 화면만 돌려받는다
+            watcher.send("a1");
+            watcher.send("1");
+            String watcherFrame = watcher.readFrame();
+
+            // then
+            assertThat(watcherFrame).isEqualTo(openerFrame);
+        } finally {
+            gameServer.stop();
+        }
+    }
+
+    private GameServer startServer(Duration idleTimeout, boolean coOpEnabled) {
+        GameServer gameServer = new GameServer(0, new Beginner(), idleTimeout, Executors.newCachedThreadPool(), coOpEnabled);
+        gameServer.start();
+        return gameServer;
+    }
+
+    private boolean waitUntil(BooleanSupplier condition) {
+        long deadlineMillis = System.currentTimeMillis() + WAIT_TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadlineMillis) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 한 줄씩 주고받는 루프백 클라이언트
+     */
+    private static class Client implements AutoCloseable {
+
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+
+        private Client(GameServer gameServer) throws IOException {
+            this.socket = new Socket("localhost", gameServer.getLocalPort());
+            socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+            this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            this.writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        private void send(String line) {
+            writer.println(line);
+        }
+
+        /**
+         * 열 머리글부터 남은 지뢰 줄까지 한 화면을 읽는다.
+         */
+        private String readFrame() throws IOException {
+            String line = reader.readLine();
+            while (line != null && !line.startsWith("    a")) {
+                line = reader.readLine();
+            }
+
+            StringBuilder frame = new StringBuilder();
+            while (line != null) {
+                frame.append(line).append('\n');
+                if (line.startsWith("남은 지뢰:")) {
+                    break;
+                }
+                line = reader.readLine();
+            }
+            return frame.toString();
+        }
+
+        /**
+         * @return text 가 든 줄, 그 전에 접속이 끊기면 null
+         */
+        private String readLineContaining(String text) throws IOException {
+            String line = reader.readLine();
+            while (line != null && !line.contains(text)) {
+                line = reader.readLine();
+            }
+            return line;
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
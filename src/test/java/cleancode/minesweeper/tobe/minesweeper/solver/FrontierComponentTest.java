@@ -0,0 +1,40 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FrontierComponentTest {
+
+    @Test
+    void countsBeyondDoubleRangeStillGiveProbabilities() {
+        // given: "두 셀 중 지뢰 하나" 제약 1100개가 줄지어 있으면 배치는 2^1100 가지다
+        int pairCount = 1100;
+        int[] cells = new int[pairCount * 2];
+        int[] remainders = new int[pairCount];
+        int[][] constraintPositions = new int[pairCount][];
+        for (int pair = 0; pair < pairCount; pair++) {
+            cells[pair * 2] = pair * 2;
+            cells[pair * 2 + 1] = pair * 2 + 1;
+            remainders[pair] = 1;
+            constraintPositions[pair] = new int[] {pair * 2, pair * 2 + 1};
+        }
+        FrontierComponent component = new FrontierComponent(cells, remainders, constraintPositions, pairCount);
+
+        // when
+        double[] arrangementCounts = component.countArrangements();
+        double[] weights = new double[arrangementCounts.length];
+        Arrays.fill(weights, 1);
+        double[] probabilities = component.calculateProbabilities(weights);
+
+        // then
+        assertThat(arrangementCounts[pairCount]).isEqualTo(1.0);
+        for (double probability : probabilities) {
+            assertThat(probability).isCloseTo(0.5, within(1e-9));
+        }
+    }
+
+}
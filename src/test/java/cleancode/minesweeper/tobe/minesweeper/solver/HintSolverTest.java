@@ -0,0 +1,108 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.change.ChangeSet;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HintSolverTest {
+
+    private static final int BOARD_COUNT = 30;
+
+    @Test
+    void provenCellsMatchTheActualLayoutOnRandomBoards() {
+        for (long seed = 1; seed <= BOARD_COUNT; seed++) {
+            playAndCheck(new Middle(), seed);
+            playAndCheck(new Beginner(), seed);
+        }
+    }
+
+    @Test
+    void observingChangesFindsTheSameCellsAsReadingTheWholeBoard() {
+        // given
+        GameBoard gameBoard = new GameBoard(new Middle());
+        gameBoard.initializeGame(3L);
+        HintSolver incrementalSolver = new HintSolver(gameBoard);
+
+        // when
+        ChangeSet changeSet = gameBoard.openAt(7, 9);
+        incrementalSolver.observe(changeSet);
+        incrementalSolver.solve();
+
+        // then
+        HintSolver fullSolver = new HintSolver(gameBoard);
+        fullSolver.observeAll();
+        fullSolver.solve();
+        assertSameKnowledge(incrementalSolver, fullSolver, gameBoard.getCellCount());
+    }
+
+    /**
+     * 증명된 안전한 셀을 열어 가며, 더 증명할 수 없으면 정답을 보고 안전한 셀 하나를 연다. (안전한 셀이 다 열리면 멈춘다)
+     * 수마다 (1) 증명된 셀이 실제 배치와 맞는지, (2) 바뀐 셀만 본 풀이와 보드 전체를 다시 읽은 풀이가 같은지 확인한다.
+     */
+    private void playAndCheck(GameLevel gameLevel, long seed) {
+        GameBoard gameBoard = new GameBoard(gameLevel);
+        gameBoard.initializeGame(seed);
+        int firstIndex = gameBoard.indexOf(gameBoard.getRowSize() / 2, gameBoard.getColSize() / 2);
+        BitPlane landMines = KnownBoards.landMinesOf(gameBoard, seed, firstIndex);
+        SplittableRandom random = new SplittableRandom(seed);
+
+        HintSolver incrementalSolver = new HintSolver(gameBoard);
+        ChangeSet changeSet = gameBoard.openAt(gameBoard.rowIndexOf(firstIndex), gameBoard.colIndexOf(firstIndex));
+        int closedSafeCellCount = landMines.size() - landMines.cardinality() - changeSet.getChangedCellCount();
+        while (closedSafeCellCount > 0) {
+            incrementalSolver.observe(changeSet);
+            Hints hints = incrementalSolver.solve();
+
+            HintSolver fullSolver = new HintSolver(gameBoard);
+            fullSolver.observeAll();
+            fullSolver.solve();
+            assertSameKnowledge(incrementalSolver, fullSolver, gameBoard.getCellCount());
+            assertMatchesLayout(incrementalSolver, landMines);
+
+            int nextIndex = hints.hasSafeCell()
+                ? hints.getSafeCellIndices()[0]
+                : randomClosedSafeCell(gameBoard, landMines, incrementalSolver, random);
+            changeSet = gameBoard.openAt(gameBoard.rowIndexOf(nextIndex), gameBoard.colIndexOf(nextIndex));
+            closedSafeCellCount -= changeSet.getChangedCellCount();
+            assertThat(gameBoard.isLoseStatus()).isFalse();
+        }
+    }
+
+    private void assertMatchesLayout(HintSolver solver, BitPlane landMines) {
+        for (int index = 0; index < landMines.size(); index++) {
+            if (solver.isProvenSafe(index)) {
+                assertThat(landMines.get(index)).isFalse();
+            }
+            if (solver.isProvenLandMine(index)) {
+                assertThat(landMines.get(index)).isTrue();
+            }
+        }
+    }
+
+    private void assertSameKnowledge(HintSolver solver, HintSolver other, int cellCount) {
+        assertThat(solver.getUnknownCellCount()).isEqualTo(other.getUnknownCellCount());
+        for (int index = 0; index < cellCount; index++) {
+            assertThat(solver.isProvenSafe(index)).isEqualTo(other.isProvenSafe(index));
+            assertThat(solver.isProvenLandMine(index)).isEqualTo(other.isProvenLandMine(index));
+        }
+    }
+
+    private int randomClosedSafeCell(GameBoard gameBoard, BitPlane landMines, HintSolver solver, SplittableRandom random) {
+        while (true) {
+            int index = random.nextInt(gameBoard.getCellCount());
+            if (!landMines.get(index) && solver.getVisibleNumber(index) < 0) {
+                return index;
+            }
+        }
+    }
+
+}
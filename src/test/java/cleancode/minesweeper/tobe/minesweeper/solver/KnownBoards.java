@@ -0,0 +1,26 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.util.SplittableRandom;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.LandMinePlacer;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+
+/**
+ * 보드는 지뢰 위치를 공개하지 않으므로, 같은 시드와 같은 첫 오픈 셀로 배치기를 한 번 더 돌려 정답을 얻는다.
+ */
+final class KnownBoards {
+
+    private KnownBoards() {
+    }
+
+    /**
+     * gameBoard.initializeGame(seed) 뒤 firstIndex 셀을 처음 열었을 때의 지뢰 배치
+     */
+    static BitPlane landMinesOf(GameBoard gameBoard, long seed, int firstIndex) {
+        BitPlane landMines = BitPlane.ofSize(gameBoard.getCellCount());
+        new LandMinePlacer().placeAvoiding(landMines, gameBoard.getLandMineCount(), gameBoard.getTopology(), firstIndex,
+            new SplittableRandom(seed));
+        return landMines;
+    }
+}
@@ -0,0 +1,198 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.bitplane.BitPlane;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopology;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MineProbabilityCalculatorTest {
+
+    private static final int BOARD_COUNT = 20;
+    private static final int MAX_MOVE_COUNT = 4;
+    private static final double TOLERANCE = 1e-9;
+
+    @Test
+    void probabilitiesMatchBruteForceEnumerationOn5x6Boards() {
+        checkAgainstBruteForce(levelOf(5, 6, 6));
+    }
+
+    @Test
+    void probabilitiesMatchBruteForceEnumerationOn6x6Boards() {
+        checkAgainstBruteForce(levelOf(6, 6, 7));
+    }
+
+    @Test
+    void probabilitiesMatchBruteForceEnumerationOn4x7Boards() {
+        checkAgainstBruteForce(levelOf(4, 7, 6));
+    }
+
+    /**
+     * 판마다 첫 셀을 열고, 정답을 보고 안전한 셀을 몇 개 더 열어 가며 수마다 비교한다.
+     */
+    private void checkAgainstBruteForce(GameLevel gameLevel) {
+        MineProbabilityCalculator calculator = new MineProbabilityCalculator();
+
+        for (long seed = 1; seed <= BOARD_COUNT; seed++) {
+            GameBoard gameBoard = new GameBoard(gameLevel);
+            gameBoard.initializeGame(seed);
+            int firstIndex = gameBoard.indexOf(gameBoard.getRowSize() / 2, gameBoard.getColSize() / 2);
+            BitPlane landMines = KnownBoards.landMinesOf(gameBoard, seed, firstIndex);
+            SplittableRandom random = new SplittableRandom(seed);
+
+            gameBoard.openAt(gameBoard.rowIndexOf(firstIndex), gameBoard.colIndexOf(firstIndex));
+            for (int move = 0; move < MAX_MOVE_COUNT && hasClosedSafeCell(gameBoard, landMines); move++) {
+                HintSolver hintSolver = new HintSolver(gameBoard);
+                hintSolver.observeAll();
+                MineProbabilities probabilities = calculator.calculate(hintSolver);
+
+                double[] expected = enumerateProbabilities(gameBoard);
+                for (int index = 0; index < gameBoard.getCellCount(); index++) {
+                    if (isClosed(gameBoard, index)) {
+                        assertThat(probabilities.getLandMineProbability(index)).isCloseTo(expected[index], within(TOLERANCE));
+                    }
+                }
+
+                int nextIndex = randomClosedSafeCell(gameBoard, landMines, random);
+                gameBoard.openAt(gameBoard.rowIndexOf(nextIndex), gameBoard.colIndexOf(nextIndex));
+            }
+        }
+    }
+
+    /**
+     * 닫힌 셀에 지뢰를 놓는 모든 조합 중 보이는 숫자와 맞는 것만 세어 셀별 지뢰 확률을 구한다.
+     */
+    private double[] enumerateProbabilities(GameBoard gameBoard) {
+        int cellCount = gameBoard.getCellCount();
+        int[] closedCells = new int[cellCount];
+        int closedCellCount = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (isClosed(gameBoard, index)) {
+                closedCells[closedCellCount++] = index;
+            }
+        }
+
+        Enumeration enumeration = new Enumeration(gameBoard, closedCells, closedCellCount);
+        enumeration.placeFrom(0, gameBoard.getLandMineCount());
+
+        double[] probabilities = new double[cellCount];
+        for (int index = 0; index < cellCount; index++) {
+            probabilities[index] = (double) enumeration.landMineCounts[index] / enumeration.consistentCount;
+        }
+        return probabilities;
+    }
+
+    private boolean isClosed(GameBoard gameBoard, int index) {
+        CellSnapshot snapshot = gameBoard.getSnapshot(index);
+        return snapshot.isSameStatus(CellSnapshotStatus.UNCHECKED) || snapshot.isSameStatus(CellSnapshotStatus.FLAG);
+    }
+
+    private boolean hasClosedSafeCell(GameBoard gameBoard, BitPlane landMines) {
+        for (int index = 0; index < landMines.size(); index++) {
+            if (!landMines.get(index) && isClosed(gameBoard, index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int randomClosedSafeCell(GameBoard gameBoard, BitPlane landMines, SplittableRandom random) {
+        while (true) {
+            int index = random.nextInt(gameBoard.getCellCount());
+            if (!landMines.get(index) && isClosed(gameBoard, index)) {
+                return index;
+            }
+        }
+    }
+
+    private GameLevel levelOf(int rowSize, int colSize, int landMineCount) {
+        return new GameLevel() {
+            @Override
+            public int getRowSize() {
+                return rowSize;
+            }
+
+            @Override
+            public int getColSize() {
+                return colSize;
+            }
+
+            @Override
+            public int getLandMineCount() {
+                return landMineCount;
+            }
+        };
+    }
+
+    private class Enumeration {
+
+        private final GameBoard gameBoard;
+        private final BoardTopology topology;
+        private final int[] closedCells;
+        private final int closedCellCount;
+        private final boolean[] landMineCells;
+        private final long[] landMineCounts;
+        private final int[] neighbors;
+        private long consistentCount;
+
+        private Enumeration(GameBoard gameBoard, int[] closedCells, int closedCellCount) {
+            this.gameBoard = gameBoard;
+            this.topology = gameBoard.getTopology();
+            this.closedCells = closedCells;
+            this.closedCellCount = closedCellCount;
+            this.landMineCells = new boolean[gameBoard.getCellCount()];
+            this.landMineCounts = new long[gameBoard.getCellCount()];
+            this.neighbors = new int[topology.getMaxNeighborCount()];
+        }
+
+        private void placeFrom(int position, int remainingLandMineCount) {
+            if (remainingLandMineCount == 0) {
+                countIfConsistent();
+                return;
+            }
+            if (closedCellCount - position < remainingLandMineCount) {
+                return;
+            }
+
+            int cell = closedCells[position];
+            landMineCells[cell] = true;
+            placeFrom(position + 1, remainingLandMineCount - 1);
+            landMineCells[cell] = false;
+            placeFrom(position + 1, remainingLandMineCount);
+        }
+
+        private void countIfConsistent() {
+            for (int index = 0; index < landMineCells.length; index++) {
+                if (isClosed(gameBoard, index)) {
+                    continue;
+                }
+                int neighborCount = topology.findNeighbors(index, neighbors);
+                int landMineCount = 0;
+                for (int i = 0; i < neighborCount; i++) {
+                    if (landMineCells[neighbors[i]]) {
+                        landMineCount++;
+                    }
+                }
+                if (landMineCount != gameBoard.getSnapshot(index).getNearByLandMineCount()) {
+                    return;
+                }
+            }
+
+            consistentCount++;
+            for (int i = 0; i < closedCellCount; i++) {
+                if (landMineCells[closedCells[i]]) {
+                    landMineCounts[closedCells[i]]++;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package cleancode.minesweeper.tobe.minesweeper.solver;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.topology.BoardTopologyType;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoGuessBoardGeneratorTest {
+
+    private static final int START_ROW_INDEX = 3;
+    private static final int START_COL_INDEX = 4;
+
+    @Test
+    void foundSeedIsSolvedByHintSolverFromTheStartCell() {
+        try (NoGuessBoardGenerator generator = new NoGuessBoardGenerator(2, Duration.ofSeconds(30))) {
+            for (long seed = 1; seed <= 5; seed++) {
+                // given
+                GameLevel gameLevel = new Beginner();
+
+                // when
+                OptionalLong foundSeed = generator.findSeed(gameLevel, BoardTopologyType.SQUARE,
+                    START_ROW_INDEX, START_COL_INDEX, seed);
+
+                // then
+                assertThat(foundSeed.isPresent()).isTrue();
+                GameBoard gameBoard = new GameBoard(gameLevel);
+                gameBoard.initializeGame(foundSeed.getAsLong());
+                HintSolver hintSolver = new HintSolver(gameBoard);
+                hintSolver.observe(gameBoard.openAt(START_ROW_INDEX, START_COL_INDEX));
+                Hints hints = hintSolver.solve();
+                while (hints.hasSafeCell()) {
+                    for (int index : hints.getSafeCellIndices()) {
+                        hintSolver.observe(gameBoard.openAt(gameBoard.rowIndexOf(index), gameBoard.colIndexOf(index)));
+                    }
+                    hints = hintSolver.solve();
+                }
+                assertThat(gameBoard.isLoseStatus()).isFalse();
+                assertThat(hintSolver.getUnknownCellCount()).isZero();
+                assertThat(hintSolver.getUnprovenLandMineCount()).isZero();
+            }
+        }
+    }
+
+    @Test
+    void searchThatRunsOutOfTimeReturnsEmpty() {
+        // given: 지뢰가 이렇게 빽빽하면 추측 없이 풀리는 배치는 사실상 없다
+        GameLevel denseGameLevel = new GameLevel() {
+            @Override
+            public int getRowSize() {
+                return 30;
+            }
+
+            @Override
+            public int getColSize() {
+                return 30;
+            }
+
+            @Override
+            public int getLandMineCount() {
+                return 400;
+            }
+        };
+
+        try (NoGuessBoardGenerator generator = new NoGuessBoardGenerator(2, Duration.ofMillis(200))) {
+            // when
+            long startedAt = System.nanoTime();
+            OptionalLong foundSeed = generator.findSeed(denseGameLevel, BoardTopologyType.SQUARE, 15, 15, 1L);
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+            // then
+            assertThat(foundSeed.isPresent()).isFalse();
+            assertThat(elapsedMillis).isLessThan(5_000L);
+        }
+    }
+
+}